@@ -0,0 +1,55 @@
+package br.projeto.blastin.jstream.benchmarks;
+
+import br.projeto.blastin.jstream.JAgregadores;
+import br.projeto.blastin.jstream.JStreams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class AgrupamentoBenchmark {
+
+    @Param({"16", "4096"})
+    public int grupos;
+
+    @Benchmark
+    public Map<Integer, Long> jstream(final Entrada entrada) {
+        final int grupos = this.grupos;
+        return JStreams.de(entrada.encaixotados).agruparPor(valor -> valor % grupos, JAgregadores.soma(valor -> valor));
+    }
+
+    @Benchmark
+    public Map<Integer, Long> stream(final Entrada entrada) {
+        final int grupos = this.grupos;
+        return Arrays.stream(entrada.encaixotados).collect(Collectors.groupingBy(valor -> valor % grupos, Collectors.summingLong(valor -> valor)));
+    }
+
+    @Benchmark
+    public Map<Integer, Long> jstreamContagemParalela(final Entrada entrada) {
+        final int grupos = this.grupos;
+        return JStreams.de(entrada.encaixotados).paralelo().agruparPor(valor -> valor % grupos, JAgregadores.contagem());
+    }
+
+    @Benchmark
+    public Map<Integer, Long> streamContagemParalela(final Entrada entrada) {
+        final int grupos = this.grupos;
+        return Arrays.stream(entrada.encaixotados).parallel().collect(Collectors.groupingByConcurrent(valor -> valor % grupos, Collectors.counting()));
+    }
+}
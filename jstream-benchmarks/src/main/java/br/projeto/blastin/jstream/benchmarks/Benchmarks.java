@@ -0,0 +1,30 @@
+package br.projeto.blastin.jstream.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Executa os benchmarks sempre com o {@link GCProfiler}, para que cada resultado traga a taxa de alocação
+ * ({@code gc.alloc.rate.norm}) ao lado do tempo. Aceita os mesmos argumentos da linha de comando do JMH.
+ */
+public final class Benchmarks {
+
+    private Benchmarks() {
+    }
+
+    public static void main(final String[] args) throws RunnerException, CommandLineOptionException {
+
+        new Runner(
+                new OptionsBuilder()
+                        .parent(new CommandLineOptions(args))
+                        .addProfiler(GCProfiler.class)
+                        .build()
+        ).run();
+
+    }
+
+}
@@ -0,0 +1,70 @@
+package br.projeto.blastin.jstream.benchmarks;
+
+import br.projeto.blastin.jstream.JIntStreams;
+import br.projeto.blastin.jstream.JStreams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class CombinacaoBenchmark {
+
+    @Benchmark
+    public boolean jstreamPeloMenosUm(final EntradaSeletiva entrada) {
+        final int limiar = entrada.limiar;
+        return JStreams.de(entrada.encaixotados).peloMenosUmCombina(valor -> valor < limiar);
+    }
+
+    @Benchmark
+    public boolean streamAnyMatch(final EntradaSeletiva entrada) {
+        final int limiar = entrada.limiar;
+        return Arrays.stream(entrada.encaixotados).anyMatch(valor -> valor < limiar);
+    }
+
+    @Benchmark
+    public boolean jstreamTodos(final EntradaSeletiva entrada) {
+        final int limiar = entrada.limiar;
+        return JStreams.de(entrada.encaixotados).todosCombinam(valor -> valor < limiar);
+    }
+
+    @Benchmark
+    public boolean streamAllMatch(final EntradaSeletiva entrada) {
+        final int limiar = entrada.limiar;
+        return Arrays.stream(entrada.encaixotados).allMatch(valor -> valor < limiar);
+    }
+
+    @Benchmark
+    public boolean jstreamPrimitivoPeloMenosUm(final EntradaSeletiva entrada) {
+        final int limiar = entrada.limiar;
+        return JIntStreams.de(entrada.primitivos).peloMenosUmCombina(valor -> valor < limiar);
+    }
+
+    @Benchmark
+    public boolean streamPrimitivoAnyMatch(final EntradaSeletiva entrada) {
+        final int limiar = entrada.limiar;
+        return Arrays.stream(entrada.primitivos).anyMatch(valor -> valor < limiar);
+    }
+
+    @Benchmark
+    public boolean jstreamPrimitivoTodos(final EntradaSeletiva entrada) {
+        final int limiar = entrada.limiar;
+        return JIntStreams.de(entrada.primitivos).todosCombinam(valor -> valor < limiar);
+    }
+
+    @Benchmark
+    public boolean streamPrimitivoAllMatch(final EntradaSeletiva entrada) {
+        final int limiar = entrada.limiar;
+        return Arrays.stream(entrada.primitivos).allMatch(valor -> valor < limiar);
+    }
+}
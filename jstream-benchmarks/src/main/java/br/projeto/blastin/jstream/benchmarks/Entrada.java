@@ -0,0 +1,46 @@
+package br.projeto.blastin.jstream.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * Valores 0..tamanho-1 embaralhados com semente fixa, nas formas encaixotada e primitiva.
+ */
+@State(Scope.Benchmark)
+public class Entrada {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int tamanho;
+
+    public Integer[] encaixotados;
+
+    public int[] primitivos;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+
+        primitivos = new int[tamanho];
+
+        for (int i = 0; i < tamanho; i++) primitivos[i] = i;
+
+        final Random random = new Random(42);
+
+        for (int i = tamanho - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final int troca = primitivos[i];
+            primitivos[i] = primitivos[j];
+            primitivos[j] = troca;
+        }
+
+        encaixotados = new Integer[tamanho];
+
+        for (int i = 0; i < tamanho; i++) encaixotados[i] = primitivos[i];
+
+    }
+
+}
@@ -0,0 +1,25 @@
+package br.projeto.blastin.jstream.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Acrescenta um limiar tal que {@code valor < limiar} aceite a fração {@link #seletividade} dos elementos.
+ */
+@State(Scope.Benchmark)
+public class EntradaSeletiva extends Entrada {
+
+    @Param({"0.01", "0.5", "0.99"})
+    public double seletividade;
+
+    public int limiar;
+
+    @Setup(Level.Trial)
+    public void prepararLimiar() {
+        limiar = (int) Math.ceil(tamanho * seletividade);
+    }
+
+}
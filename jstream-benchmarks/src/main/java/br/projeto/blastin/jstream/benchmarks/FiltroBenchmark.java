@@ -0,0 +1,46 @@
+package br.projeto.blastin.jstream.benchmarks;
+
+import br.projeto.blastin.jstream.JIntStreams;
+import br.projeto.blastin.jstream.JStreams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class FiltroBenchmark {
+
+    @Benchmark
+    public Integer jstream(final EntradaSeletiva entrada) {
+        final int limiar = entrada.limiar;
+        return JStreams.de(entrada.encaixotados).filtro(valor -> valor < limiar).reducao(Integer::sum).ou(0);
+    }
+
+    @Benchmark
+    public Integer stream(final EntradaSeletiva entrada) {
+        final int limiar = entrada.limiar;
+        return Arrays.stream(entrada.encaixotados).filter(valor -> valor < limiar).reduce(Integer::sum).orElse(0);
+    }
+
+    @Benchmark
+    public int jstreamPrimitivo(final EntradaSeletiva entrada) {
+        final int limiar = entrada.limiar;
+        return JIntStreams.de(entrada.primitivos).filtro(valor -> valor < limiar).reducao(0, Integer::sum);
+    }
+
+    @Benchmark
+    public int streamPrimitivo(final EntradaSeletiva entrada) {
+        final int limiar = entrada.limiar;
+        return Arrays.stream(entrada.primitivos).filter(valor -> valor < limiar).reduce(0, Integer::sum);
+    }
+}
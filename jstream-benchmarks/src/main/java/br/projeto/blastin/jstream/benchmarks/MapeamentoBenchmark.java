@@ -0,0 +1,68 @@
+package br.projeto.blastin.jstream.benchmarks;
+
+import br.projeto.blastin.jstream.JIntStreams;
+import br.projeto.blastin.jstream.JStreams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class MapeamentoBenchmark {
+
+    @Benchmark
+    public Integer jstream(final Entrada entrada) {
+        return JStreams.de(entrada.encaixotados).mapeamento(valor -> valor * 31).reducao(Integer::sum).ou(0);
+    }
+
+    @Benchmark
+    public Integer stream(final Entrada entrada) {
+        return Arrays.stream(entrada.encaixotados).map(valor -> valor * 31).reduce(Integer::sum).orElse(0);
+    }
+
+    @Benchmark
+    public int jstreamPrimitivo(final Entrada entrada) {
+        return JIntStreams.de(entrada.primitivos).mapeamento(valor -> valor * 31).reducao(0, Integer::sum);
+    }
+
+    @Benchmark
+    public int streamPrimitivo(final Entrada entrada) {
+        return Arrays.stream(entrada.primitivos).map(valor -> valor * 31).reduce(0, Integer::sum);
+    }
+
+    @Benchmark
+    public Integer jstreamCincoEstagios(final Entrada entrada) {
+        return JStreams
+                .de(entrada.encaixotados)
+                .mapeamento(valor -> valor + 1)
+                .mapeamento(valor -> valor * 3)
+                .mapeamento(valor -> valor - 7)
+                .mapeamento(valor -> valor ^ 0x5f)
+                .mapeamento(valor -> valor >>> 1)
+                .reducao(Integer::sum)
+                .ou(0);
+    }
+
+    @Benchmark
+    public Integer streamCincoEstagios(final Entrada entrada) {
+        return Arrays
+                .stream(entrada.encaixotados)
+                .map(valor -> valor + 1)
+                .map(valor -> valor * 3)
+                .map(valor -> valor - 7)
+                .map(valor -> valor ^ 0x5f)
+                .map(valor -> valor >>> 1)
+                .reduce(Integer::sum)
+                .orElse(0);
+    }
+}
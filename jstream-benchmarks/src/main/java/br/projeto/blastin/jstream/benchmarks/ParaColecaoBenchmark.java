@@ -0,0 +1,48 @@
+package br.projeto.blastin.jstream.benchmarks;
+
+import br.projeto.blastin.jstream.JIntStreams;
+import br.projeto.blastin.jstream.JStreams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ParaColecaoBenchmark {
+
+    @Benchmark
+    public List<Integer> jstream(final EntradaSeletiva entrada) {
+        final int limiar = entrada.limiar;
+        return JStreams.de(entrada.encaixotados).filtro(valor -> valor < limiar).paraColecao(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Integer> stream(final EntradaSeletiva entrada) {
+        final int limiar = entrada.limiar;
+        return Arrays.stream(entrada.encaixotados).filter(valor -> valor < limiar).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public int[] jstreamPrimitivo(final EntradaSeletiva entrada) {
+        final int limiar = entrada.limiar;
+        return JIntStreams.de(entrada.primitivos).filtro(valor -> valor < limiar).paraArranjo();
+    }
+
+    @Benchmark
+    public int[] streamPrimitivo(final EntradaSeletiva entrada) {
+        final int limiar = entrada.limiar;
+        return Arrays.stream(entrada.primitivos).filter(valor -> valor < limiar).toArray();
+    }
+}
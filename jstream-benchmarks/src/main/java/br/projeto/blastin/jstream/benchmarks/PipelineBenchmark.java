@@ -0,0 +1,68 @@
+package br.projeto.blastin.jstream.benchmarks;
+
+import br.projeto.blastin.jstream.JPipeline;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pipelines aplicados depois que outros, com funções diferentes, passaram pelos mesmos estágios: o cenário em
+ * que os pontos de chamada compartilhados ficam megamórficos.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class PipelineBenchmark {
+
+    private JPipeline<Integer, Integer> comum;
+
+    private JPipeline<Integer, Integer> especializado;
+
+    @Setup
+    public void setup(final Entrada entrada) {
+
+        comum = JPipeline.<Integer>novo().mapeamento(valor -> valor * 3).filtro(valor -> (valor & 1) == 0).mapeamento(valor -> valor + 1);
+
+        especializado = comum.especializado();
+
+        for (int i = 0; i < 20; i++) {
+            for (final JPipeline<Integer, Integer> outro : outros()) {
+                outro.aplicar(entrada.encaixotados).reducao(Integer::sum);
+                outro.especializado().aplicar(entrada.encaixotados).reducao(Integer::sum);
+            }
+        }
+
+    }
+
+    @Benchmark
+    public Integer comum(final Entrada entrada) {
+        return comum.aplicar(entrada.encaixotados).reducao(Integer::sum).obter();
+    }
+
+    @Benchmark
+    public Integer especializado(final Entrada entrada) {
+        return especializado.aplicar(entrada.encaixotados).reducao(Integer::sum).obter();
+    }
+
+    private static JPipeline<Integer, Integer>[] outros() {
+        @SuppressWarnings("unchecked") final JPipeline<Integer, Integer>[] outros = new JPipeline[]{
+                JPipeline.<Integer>novo().mapeamento(valor -> valor - 1).filtro(valor -> valor > 10),
+                JPipeline.<Integer>novo().filtro(valor -> valor % 3 == 0).mapeamento(valor -> valor / 2),
+                JPipeline.<Integer>novo().mapeamento(valor -> valor ^ 5).mapeamento(valor -> valor << 1).filtro(valor -> valor != 7)
+        };
+        return outros;
+    }
+
+}
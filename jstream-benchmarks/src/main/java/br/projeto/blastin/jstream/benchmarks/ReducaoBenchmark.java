@@ -0,0 +1,42 @@
+package br.projeto.blastin.jstream.benchmarks;
+
+import br.projeto.blastin.jstream.JIntStreams;
+import br.projeto.blastin.jstream.JStreams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ReducaoBenchmark {
+
+    @Benchmark
+    public Integer jstream(final Entrada entrada) {
+        return JStreams.de(entrada.encaixotados).reducao(Integer::sum).ou(0);
+    }
+
+    @Benchmark
+    public Integer stream(final Entrada entrada) {
+        return Arrays.stream(entrada.encaixotados).reduce(Integer::sum).orElse(0);
+    }
+
+    @Benchmark
+    public long jstreamPrimitivo(final Entrada entrada) {
+        return JIntStreams.de(entrada.primitivos).soma();
+    }
+
+    @Benchmark
+    public long streamPrimitivo(final Entrada entrada) {
+        return Arrays.stream(entrada.primitivos).asLongStream().sum();
+    }
+}
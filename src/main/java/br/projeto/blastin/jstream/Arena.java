@@ -0,0 +1,175 @@
+package br.projeto.blastin.jstream;
+
+import java.lang.ref.SoftReference;
+import java.util.Arrays;
+
+/**
+ * Arranjos de trabalho reaproveitados pelos estágios de barreira, como as ordenações, e pelos acumuladores que
+ * não expõem o arranjo ao chamador. Cada thread guarda no máximo um arranjo por tipo e classe de tamanho, as
+ * potências de dois entre {@value #MENOR} e {@value #MAIOR} posições; fora delas, os arranjos são alocados e
+ * descartados normalmente. A reserva é mantida por uma {@link SoftReference}, que o coletor pode recolher sob
+ * pressão de memória.
+ * <p> Um arranjo emprestado pertence a quem o pegou até ser devolvido, e não pode ser usado depois disso. </p>
+ */
+final class Arena {
+
+    static final int MENOR = 1 << 10;
+
+    static final int MAIOR = 1 << 18;
+
+    private static final int CLASSES = Integer.numberOfTrailingZeros(MAIOR) - Integer.numberOfTrailingZeros(MENOR) + 1;
+
+    private static final ThreadLocal<SoftReference<Reserva>> RESERVAS = new ThreadLocal<>();
+
+    private Arena() {
+    }
+
+    static Object[] objetos(final int minimo) {
+        final int classe = classe(minimo);
+        if (classe < 0) return new Object[minimo];
+        final Reserva reserva = reserva();
+        final Object[] arranjo = reserva.objetos[classe];
+        if (arranjo == null) return new Object[capacidade(classe)];
+        reserva.objetos[classe] = null;
+        return arranjo;
+    }
+
+    static int[] ints(final int minimo) {
+        final int classe = classe(minimo);
+        if (classe < 0) return new int[minimo];
+        final Reserva reserva = reserva();
+        final int[] arranjo = reserva.ints[classe];
+        if (arranjo == null) return new int[capacidade(classe)];
+        reserva.ints[classe] = null;
+        return arranjo;
+    }
+
+    static long[] longs(final int minimo) {
+        final int classe = classe(minimo);
+        if (classe < 0) return new long[minimo];
+        final Reserva reserva = reserva();
+        final long[] arranjo = reserva.longs[classe];
+        if (arranjo == null) return new long[capacidade(classe)];
+        reserva.longs[classe] = null;
+        return arranjo;
+    }
+
+    static double[] doubles(final int minimo) {
+        final int classe = classe(minimo);
+        if (classe < 0) return new double[minimo];
+        final Reserva reserva = reserva();
+        final double[] arranjo = reserva.doubles[classe];
+        if (arranjo == null) return new double[capacidade(classe)];
+        reserva.doubles[classe] = null;
+        return arranjo;
+    }
+
+    /**
+     * As primeiras {@code usados} posições são limpas, para que a reserva não retenha os elementos.
+     */
+    static void devolver(final Object[] arranjo, final int usados) {
+        final int classe = classeExata(arranjo.length);
+        if (classe < 0) return;
+        Arrays.fill(arranjo, 0, usados, null);
+        reserva().objetos[classe] = arranjo;
+    }
+
+    static void devolver(final int[] arranjo) {
+        final int classe = classeExata(arranjo.length);
+        if (classe >= 0) reserva().ints[classe] = arranjo;
+    }
+
+    static void devolver(final long[] arranjo) {
+        final int classe = classeExata(arranjo.length);
+        if (classe >= 0) reserva().longs[classe] = arranjo;
+    }
+
+    static void devolver(final double[] arranjo) {
+        final int classe = classeExata(arranjo.length);
+        if (classe >= 0) reserva().doubles[classe] = arranjo;
+    }
+
+    /**
+     * Troca o arranjo por um emprestado com pelo menos o dobro da capacidade, copiando as {@code usados}
+     * primeiras posições e devolvendo o anterior.
+     */
+    static Object[] crescer(final Object[] arranjo, final int usados) {
+        final Object[] maior = objetos(proximaCapacidade(arranjo.length));
+        System.arraycopy(arranjo, 0, maior, 0, usados);
+        devolver(arranjo, usados);
+        return maior;
+    }
+
+    static int[] crescer(final int[] arranjo, final int usados) {
+        final int[] maior = ints(proximaCapacidade(arranjo.length));
+        System.arraycopy(arranjo, 0, maior, 0, usados);
+        devolver(arranjo);
+        return maior;
+    }
+
+    static long[] crescer(final long[] arranjo, final int usados) {
+        final long[] maior = longs(proximaCapacidade(arranjo.length));
+        System.arraycopy(arranjo, 0, maior, 0, usados);
+        devolver(arranjo);
+        return maior;
+    }
+
+    static double[] crescer(final double[] arranjo, final int usados) {
+        final double[] maior = doubles(proximaCapacidade(arranjo.length));
+        System.arraycopy(arranjo, 0, maior, 0, usados);
+        devolver(arranjo);
+        return maior;
+    }
+
+    /**
+     * Capacidade inicial de um acumulador: o tamanho estimado, quando conhecido, ou a menor classe.
+     */
+    static int capacidadeInicial(final long tamanhoEstimado) {
+        return tamanhoEstimado < 0 ? MENOR : (int) Math.min(tamanhoEstimado, Integer.MAX_VALUE - 8);
+    }
+
+    private static int proximaCapacidade(final int capacidade) {
+        return (int) Math.min(Integer.MAX_VALUE - 8, Math.max(16L, 2L * capacidade));
+    }
+
+    /**
+     * Classe que atende {@code minimo} posições, ou -1 quando o arranjo não deve vir da reserva.
+     */
+    private static int classe(final int minimo) {
+        if (minimo > MAIOR) return -1;
+        final int capacidade = Math.max(MENOR, minimo);
+        return 32 - Integer.numberOfLeadingZeros(capacidade - 1) - Integer.numberOfTrailingZeros(MENOR);
+    }
+
+    private static int classeExata(final int capacidade) {
+        if (capacidade < MENOR || capacidade > MAIOR || Integer.bitCount(capacidade) != 1) return -1;
+        return Integer.numberOfTrailingZeros(capacidade) - Integer.numberOfTrailingZeros(MENOR);
+    }
+
+    private static int capacidade(final int classe) {
+        return MENOR << classe;
+    }
+
+    private static Reserva reserva() {
+        final SoftReference<Reserva> referencia = RESERVAS.get();
+        Reserva reserva = referencia == null ? null : referencia.get();
+        if (reserva == null) {
+            reserva = new Reserva();
+            RESERVAS.set(new SoftReference<>(reserva));
+        }
+        return reserva;
+    }
+
+    private static final class Reserva {
+
+        private final Object[][] objetos = new Object[CLASSES][];
+
+        private final int[][] ints = new int[CLASSES][];
+
+        private final long[][] longs = new long[CLASSES][];
+
+        private final double[][] doubles = new double[CLASSES][];
+
+    }
+
+}
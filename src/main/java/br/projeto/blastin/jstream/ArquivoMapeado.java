@@ -0,0 +1,110 @@
+package br.projeto.blastin.jstream;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Arquivo inteiro mapeado em memória, em regiões de até 1 GiB, já que um {@link MappedByteBuffer} é endereçado
+ * por int. O canal é fechado logo após o mapeamento; as páginas só são carregadas quando lidas.
+ */
+final class ArquivoMapeado {
+
+    private static final long REGIAO_MAXIMA = 1L << 30;
+
+    private final MappedByteBuffer[] regioes;
+
+    private final long regiao;
+
+    private final long tamanho;
+
+    /**
+     * @param alinhamento as regiões têm tamanho múltiplo do alinhamento, para que nenhum registro fique dividido
+     */
+    ArquivoMapeado(final Path arquivo, final int alinhamento) {
+
+        try (final FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+
+            tamanho = canal.size();
+
+            regiao = REGIAO_MAXIMA / alinhamento * alinhamento;
+
+            regioes = new MappedByteBuffer[(int) Math.max(1, (tamanho + regiao - 1) / regiao)];
+
+            for (int i = 0; i < regioes.length; i++) {
+                final long inicio = i * regiao;
+                regioes[i] = canal.map(FileChannel.MapMode.READ_ONLY, inicio, Math.min(regiao, tamanho - inicio));
+            }
+
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+    }
+
+    long tamanho() {
+        return tamanho;
+    }
+
+    byte byteEm(final long posicao) {
+        return regioes[(int) (posicao / regiao)].get((int) (posicao % regiao));
+    }
+
+    /**
+     * @return posição do primeiro {@code alvo} em [de, tamanho), ou {@code tamanho} quando não há nenhum
+     */
+    long indiceDe(final byte alvo, final long de) {
+
+        long posicao = de;
+
+        while (posicao < tamanho) {
+
+            final MappedByteBuffer buffer = regioes[(int) (posicao / regiao)];
+
+            final long base = posicao - posicao % regiao;
+
+            final int limite = buffer.limit();
+
+            for (int i = (int) (posicao - base); i < limite; i++) {
+                if (buffer.get(i) == alvo) return base + i;
+            }
+
+            posicao = base + limite;
+
+        }
+
+        return tamanho;
+
+    }
+
+    /**
+     * @return região que contém todo o intervalo, ou nulo quando ele cruza a fronteira entre duas regiões
+     */
+    ByteBuffer regiaoDe(final long inicio, final int quantidade) {
+        final int indice = (int) (inicio / regiao);
+        if (quantidade > 0 && (inicio + quantidade - 1) / regiao != indice) return null;
+        return regioes[indice];
+    }
+
+    int deslocamento(final long posicao) {
+        return (int) (posicao % regiao);
+    }
+
+    /**
+     * Copia para o heap um intervalo que cruza regiões; caso raro, restrito a linhas na fronteira de 1 GiB.
+     */
+    ByteBuffer copia(final long inicio, final int quantidade) {
+
+        final byte[] bytes = new byte[quantidade];
+
+        for (int i = 0; i < quantidade; i++) bytes[i] = byteEm(inicio + i);
+
+        return ByteBuffer.wrap(bytes);
+
+    }
+
+}
@@ -0,0 +1,29 @@
+package br.projeto.blastin.jstream;
+
+/**
+ * Características de {@link Fonte#caracteristicas()}, propagadas pelos estágios que as preservam para que os
+ * seguintes evitem trabalho redundante: {@link JStream#distintos()} sobre elementos já distintos ou
+ * {@link JStream#ordenado(java.util.Comparator)} sobre elementos já ordenados pelo mesmo comparador devolvem a
+ * própria stream. O tamanho é acompanhado à parte, por {@link Fonte#tamanhoExato()} e
+ * {@link Fonte#tamanhoEstimado()}.
+ */
+final class Caracteristicas {
+
+    /**
+     * nenhum elemento se repete segundo {@link Object#equals(Object)}
+     */
+    static final int DISTINTO = 1;
+
+    /**
+     * elementos em ordem crescente segundo {@link Fonte#comparador()}
+     */
+    static final int ORDENADO = 1 << 1;
+
+    private Caracteristicas() {
+    }
+
+    static boolean tem(final Fonte<?> fonte, final int caracteristica) {
+        return (fonte.caracteristicas() & caracteristica) != 0;
+    }
+
+}
@@ -0,0 +1,102 @@
+package br.projeto.blastin.jstream;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Percorre as fontes em sequência. O tamanho é a soma dos tamanhos, quando todos são conhecidos, e a
+ * concatenação de fontes divisíveis é dividida fatiando cada parte que a fatia cobre.
+ */
+final class Concatenacao<T> implements Fonte<T> {
+
+    private final Fonte<? extends T>[] partes;
+
+    Concatenacao(final Fonte<? extends T>[] partes) {
+        this.partes = partes;
+    }
+
+    /**
+     * Arranjo de partes sem tipos crus; as posições só são lidas como {@link Fonte}, então a conversão é segura.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Fonte<? extends T>[] partes(final int quantidade) {
+        return (Fonte<? extends T>[]) new Fonte<?>[quantidade];
+    }
+
+    @Override
+    public void percorrer(final Sumidouro<? super T> sumidouro) {
+        for (int i = 0; i < partes.length && !sumidouro.saciado(); i++) partes[i].percorrer(sumidouro);
+    }
+
+    @Override
+    public long tamanhoExato() {
+
+        long total = 0;
+
+        for (final Fonte<? extends T> parte : partes) {
+            final long tamanho = parte.tamanhoExato();
+            if (tamanho < 0) return -1;
+            total += tamanho;
+        }
+
+        return total;
+
+    }
+
+    @Override
+    public long tamanhoEstimado() {
+
+        long total = 0;
+
+        for (final Fonte<? extends T> parte : partes) {
+            final long tamanho = parte.tamanhoEstimado();
+            if (tamanho < 0) return -1;
+            total += tamanho;
+        }
+
+        return total;
+
+    }
+
+    @Override
+    public long extensao() {
+
+        long total = 0;
+
+        for (final Fonte<? extends T> parte : partes) {
+            final long extensao = parte.extensao();
+            if (extensao < 0) return -1;
+            total += extensao;
+        }
+
+        return total;
+
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Fonte<T> fatia(final long inicio, final long fim) {
+
+        final List<Fonte<? extends T>> fatias = new ArrayList<>();
+
+        long deslocamento = 0;
+
+        for (final Fonte<? extends T> parte : partes) {
+
+            final long extensao = parte.extensao();
+
+            if (inicio < deslocamento + extensao && fim > deslocamento) {
+                fatias.add(parte.fatia(Math.max(0, inicio - deslocamento), Math.min(extensao, fim - deslocamento)));
+            }
+
+            deslocamento += extensao;
+
+        }
+
+        if (fatias.size() == 1) return (Fonte<T>) fatias.get(0);
+
+        return new Concatenacao<>(fatias.toArray(partes(fatias.size())));
+
+    }
+
+}
@@ -0,0 +1,84 @@
+package br.projeto.blastin.jstream;
+
+/**
+ * Conjunto de endereçamento aberto com sondagem linear, guardando as referências diretamente na tabela, sem
+ * nós por elemento. Só admite inserção, o suficiente para {@link Distintos}.
+ */
+final class ConjuntoAberto<T> {
+
+    private static final Object NULO = new Object();
+
+    private Object[] tabela;
+
+    private int tamanho;
+
+    ConjuntoAberto(final long esperado) {
+        tabela = new Object[capacidade(esperado)];
+    }
+
+    /**
+     * @return verdadeiro quando o elemento ainda não estava no conjunto
+     */
+    boolean adicionar(final T t) {
+
+        final Object chave = t == null ? NULO : t;
+
+        final int mascara = tabela.length - 1;
+
+        for (int i = espalhar(chave.hashCode()) & mascara; ; i = (i + 1) & mascara) {
+
+            final Object presente = tabela[i];
+
+            if (presente == null) {
+                tabela[i] = chave;
+                if (++tamanho > limiar(tabela.length)) crescer();
+                return true;
+            }
+
+            if (presente.equals(chave)) return false;
+
+        }
+
+    }
+
+    private void crescer() {
+
+        final Object[] antiga = tabela;
+
+        tabela = new Object[antiga.length << 1];
+
+        final int mascara = tabela.length - 1;
+
+        for (final Object chave : antiga) {
+
+            if (chave == null) continue;
+
+            int i = espalhar(chave.hashCode()) & mascara;
+
+            while (tabela[i] != null) i = (i + 1) & mascara;
+
+            tabela[i] = chave;
+
+        }
+
+    }
+
+    /**
+     * Potência de dois que acomoda {@code esperado} elementos abaixo do fator de carga de 3/4.
+     */
+    static int capacidade(final long esperado) {
+        if (esperado < 0) return 16;
+        final long minima = Math.max(8, esperado + esperado / 3 + 1);
+        return minima >= 1 << 30 ? 1 << 30 : Integer.highestOneBit((int) minima - 1) << 1;
+    }
+
+    static int limiar(final int capacidade) {
+        return capacidade - (capacidade >>> 2);
+    }
+
+    static int espalhar(final int hash) {
+        final int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+}
@@ -0,0 +1,66 @@
+package br.projeto.blastin.jstream;
+
+/**
+ * Versão int de {@link ConjuntoAberto}: os valores ficam num int[], usando 0 como posição livre e um indicador
+ * separado para o próprio zero.
+ */
+final class ConjuntoInt {
+
+    private int[] tabela;
+
+    private int tamanho;
+
+    private boolean zero;
+
+    ConjuntoInt(final long esperado) {
+        tabela = new int[ConjuntoAberto.capacidade(esperado)];
+    }
+
+    boolean adicionar(final int valor) {
+
+        if (valor == 0) {
+            if (zero) return false;
+            return zero = true;
+        }
+
+        final int mascara = tabela.length - 1;
+
+        for (int i = ConjuntoAberto.espalhar(valor) & mascara; ; i = (i + 1) & mascara) {
+
+            final int presente = tabela[i];
+
+            if (presente == 0) {
+                tabela[i] = valor;
+                if (++tamanho > ConjuntoAberto.limiar(tabela.length)) crescer();
+                return true;
+            }
+
+            if (presente == valor) return false;
+
+        }
+
+    }
+
+    private void crescer() {
+
+        final int[] antiga = tabela;
+
+        tabela = new int[antiga.length << 1];
+
+        final int mascara = tabela.length - 1;
+
+        for (final int valor : antiga) {
+
+            if (valor == 0) continue;
+
+            int i = ConjuntoAberto.espalhar(valor) & mascara;
+
+            while (tabela[i] != 0) i = (i + 1) & mascara;
+
+            tabela[i] = valor;
+
+        }
+
+    }
+
+}
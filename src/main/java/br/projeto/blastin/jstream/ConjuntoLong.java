@@ -0,0 +1,70 @@
+package br.projeto.blastin.jstream;
+
+/**
+ * Versão long de {@link ConjuntoAberto}. Também atende double, guardando {@link Double#doubleToLongBits(double)},
+ * que segue a igualdade de {@link Double#equals(Object)}.
+ */
+final class ConjuntoLong {
+
+    private long[] tabela;
+
+    private int tamanho;
+
+    private boolean zero;
+
+    ConjuntoLong(final long esperado) {
+        tabela = new long[ConjuntoAberto.capacidade(esperado)];
+    }
+
+    boolean adicionar(final long valor) {
+
+        if (valor == 0) {
+            if (zero) return false;
+            return zero = true;
+        }
+
+        final int mascara = tabela.length - 1;
+
+        for (int i = espalhar(valor) & mascara; ; i = (i + 1) & mascara) {
+
+            final long presente = tabela[i];
+
+            if (presente == 0) {
+                tabela[i] = valor;
+                if (++tamanho > ConjuntoAberto.limiar(tabela.length)) crescer();
+                return true;
+            }
+
+            if (presente == valor) return false;
+
+        }
+
+    }
+
+    private void crescer() {
+
+        final long[] antiga = tabela;
+
+        tabela = new long[antiga.length << 1];
+
+        final int mascara = tabela.length - 1;
+
+        for (final long valor : antiga) {
+
+            if (valor == 0) continue;
+
+            int i = espalhar(valor) & mascara;
+
+            while (tabela[i] != 0) i = (i + 1) & mascara;
+
+            tabela[i] = valor;
+
+        }
+
+    }
+
+    private static int espalhar(final long valor) {
+        return ConjuntoAberto.espalhar((int) (valor ^ (valor >>> 32)));
+    }
+
+}
@@ -0,0 +1,64 @@
+package br.projeto.blastin.jstream;
+
+import br.projeto.blastin.joptional.Predicado;
+
+import java.util.Comparator;
+
+final class DescartarEnquanto<T> implements Fonte<T> {
+
+    private final Fonte<T> anterior;
+
+    private final Predicado<? super T> predicado;
+
+    DescartarEnquanto(final Fonte<T> anterior, final Predicado<? super T> predicado) {
+        this.anterior = anterior;
+        this.predicado = predicado;
+    }
+
+    @Override
+    public void percorrer(final Sumidouro<? super T> sumidouro) {
+        anterior.percorrer(new SumidouroDescartarEnquanto<>(predicado, sumidouro));
+    }
+
+    @Override
+    public int caracteristicas() {
+        return anterior.caracteristicas();
+    }
+
+    @Override
+    public Comparator<? super T> comparador() {
+        return anterior.comparador();
+    }
+
+    private static final class SumidouroDescartarEnquanto<T> implements Sumidouro<T> {
+
+        private final Predicado<? super T> predicado;
+
+        private final Sumidouro<? super T> abaixo;
+
+        private boolean descartando = true;
+
+        private SumidouroDescartarEnquanto(final Predicado<? super T> predicado, final Sumidouro<? super T> abaixo) {
+            this.predicado = predicado;
+            this.abaixo = abaixo;
+        }
+
+        @Override
+        public void aceitar(final T t) {
+
+            if (descartando && predicado.teste(t)) return;
+
+            descartando = false;
+
+            abaixo.aceitar(t);
+
+        }
+
+        @Override
+        public boolean saciado() {
+            return abaixo.saciado();
+        }
+
+    }
+
+}
@@ -0,0 +1,61 @@
+package br.projeto.blastin.jstream;
+
+import java.util.Comparator;
+
+/**
+ * Deixa passar apenas a primeira ocorrência de cada elemento, preservando a ordem de encontro. O conjunto é
+ * criado a cada percurso, dimensionado pelo tamanho exato da fonte quando ele é conhecido. Como a primeira
+ * ocorrência depende da ordem, o estágio não é dividido em fatias.
+ */
+final class Distintos<T> implements Fonte<T> {
+
+    private final Fonte<T> anterior;
+
+    Distintos(final Fonte<T> anterior) {
+        this.anterior = anterior;
+    }
+
+    @Override
+    public void percorrer(final Sumidouro<? super T> sumidouro) {
+        anterior.percorrer(new SumidouroDistintos<>(new ConjuntoAberto<>(anterior.tamanhoExato()), sumidouro));
+    }
+
+    @Override
+    public long tamanhoEstimado() {
+        return anterior.tamanhoEstimado();
+    }
+
+    @Override
+    public int caracteristicas() {
+        return anterior.caracteristicas() | Caracteristicas.DISTINTO;
+    }
+
+    @Override
+    public Comparator<? super T> comparador() {
+        return anterior.comparador();
+    }
+
+    private static final class SumidouroDistintos<T> implements Sumidouro<T> {
+
+        private final ConjuntoAberto<T> vistos;
+
+        private final Sumidouro<? super T> abaixo;
+
+        private SumidouroDistintos(final ConjuntoAberto<T> vistos, final Sumidouro<? super T> abaixo) {
+            this.vistos = vistos;
+            this.abaixo = abaixo;
+        }
+
+        @Override
+        public void aceitar(final T t) {
+            if (vistos.adicionar(t)) abaixo.aceitar(t);
+        }
+
+        @Override
+        public boolean saciado() {
+            return abaixo.saciado();
+        }
+
+    }
+
+}
@@ -0,0 +1,30 @@
+package br.projeto.blastin.jstream;
+
+import br.projeto.blastin.joptional.Predicado;
+
+/**
+ * Modelo de elo de filtro de {@link Especializacao}; as mesmas restrições de {@link EloMapeamento} se aplicam.
+ */
+final class EloFiltro implements Sumidouro<Object> {
+
+    private final Predicado<Object> predicado;
+
+    private final Sumidouro<Object> abaixo;
+
+    @SuppressWarnings("unchecked")
+    EloFiltro(final Object predicado, final Sumidouro<Object> abaixo) {
+        this.predicado = (Predicado<Object>) predicado;
+        this.abaixo = abaixo;
+    }
+
+    @Override
+    public void aceitar(final Object e) {
+        if (predicado.teste(e)) abaixo.aceitar(e);
+    }
+
+    @Override
+    public boolean saciado() {
+        return abaixo.saciado();
+    }
+
+}
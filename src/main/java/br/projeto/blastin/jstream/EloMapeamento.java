@@ -0,0 +1,36 @@
+package br.projeto.blastin.jstream;
+
+import br.projeto.blastin.joptional.Funcao;
+
+/**
+ * Modelo de elo de mapeamento de {@link Especializacao}. Os bytes desta classe são redefinidos como uma classe
+ * oculta por posição de cada pipeline especializado, de modo que cada cópia tenha seus próprios pontos de chamada; não deve
+ * referenciar outras classes aninhadas nem ser usada diretamente fora de {@link Especializacao}.
+ */
+final class EloMapeamento implements Sumidouro<Object> {
+
+    private final Funcao<Object, ?> funcao;
+
+    private final Sumidouro<Object> abaixo;
+
+    @SuppressWarnings("unchecked")
+    EloMapeamento(final Object funcao, final Sumidouro<Object> abaixo) {
+        this.funcao = (Funcao<Object, ?>) funcao;
+        this.abaixo = abaixo;
+    }
+
+    @Override
+    public void aceitar(final Object e) {
+
+        final Object mapeado = funcao.aplicar(e);
+
+        if (mapeado != null) abaixo.aceitar(mapeado);
+
+    }
+
+    @Override
+    public boolean saciado() {
+        return abaixo.saciado();
+    }
+
+}
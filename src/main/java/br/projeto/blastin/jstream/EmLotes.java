@@ -0,0 +1,93 @@
+package br.projeto.blastin.jstream;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Agrupa os elementos em listas de até {@code tamanho} elementos. Fontes de arranjo produzem vistas sem cópia;
+ * as demais acumulam cada lote num arranjo novo, pois o lote anterior pode ter sido retido abaixo. O último
+ * lote, possivelmente incompleto, é emitido quando a fonte termina.
+ */
+final class EmLotes<T> implements Fonte<List<T>> {
+
+    /**
+     * lotes grandes crescem sob demanda, para que uma fonte curta não reserve o lote inteiro
+     */
+    private static final int CAPACIDADE_INICIAL = 1 << 10;
+
+    private final Fonte<T> anterior;
+
+    private final int tamanho;
+
+    private EmLotes(final Fonte<T> anterior, final int tamanho) {
+        this.anterior = anterior;
+        this.tamanho = tamanho;
+    }
+
+    static <T> Fonte<List<T>> de(final Fonte<T> anterior, final int tamanho) {
+        if (anterior instanceof FonteArranjo) return ((FonteArranjo<T>) anterior).emLotes(tamanho);
+        return new EmLotes<>(anterior, tamanho);
+    }
+
+    @Override
+    public void percorrer(final Sumidouro<? super List<T>> sumidouro) {
+
+        final SumidouroEmLotes<T> lotes = new SumidouroEmLotes<>(tamanho, sumidouro);
+
+        anterior.percorrer(lotes);
+
+        lotes.esvaziar();
+
+    }
+
+    @Override
+    public long tamanhoExato() {
+        final long elementos = anterior.tamanhoExato();
+        return elementos < 0 ? -1 : elementos / tamanho + (elementos % tamanho == 0 ? 0 : 1);
+    }
+
+    private static final class SumidouroEmLotes<T> implements Sumidouro<T> {
+
+        private final int tamanho;
+
+        private final Sumidouro<? super List<T>> abaixo;
+
+        private Object[] lote;
+
+        private int ocupados;
+
+        private SumidouroEmLotes(final int tamanho, final Sumidouro<? super List<T>> abaixo) {
+            this.tamanho = tamanho;
+            this.abaixo = abaixo;
+        }
+
+        @Override
+        public void aceitar(final T t) {
+
+            if (lote == null) lote = new Object[Math.min(tamanho, CAPACIDADE_INICIAL)];
+            else if (ocupados == lote.length) lote = Arrays.copyOf(lote, (int) Math.min(tamanho, 2L * ocupados));
+
+            lote[ocupados++] = t;
+
+            if (ocupados == tamanho) emitir();
+
+        }
+
+        @Override
+        public boolean saciado() {
+            return abaixo.saciado();
+        }
+
+        private void esvaziar() {
+            if (ocupados > 0 && !abaixo.saciado()) emitir();
+        }
+
+        private void emitir() {
+            abaixo.aceitar(new VistaArranjo<>(lote, 0, ocupados));
+            lote = null;
+            ocupados = 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,192 @@
+package br.projeto.blastin.jstream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.Comparator;
+
+/**
+ * Especialização de {@link JPipeline#especializado()}. Os pontos de chamada de {@link Fusao} são compartilhados
+ * por todos os pipelines da JVM e, com mais de duas funções, deixam de ser monomórficos e o JIT para de embutir
+ * as funções. Aqui cada estágio vira um elo cuja classe é uma cópia oculta de {@link EloMapeamento} ou
+ * {@link EloFiltro}, definida por {@code Lookup.defineHiddenClass} (JDK 15) para cada posição do pipeline. Cada
+ * cópia só vê a função da sua posição e o elo seguinte, e o JIT pode embutir a cadeia inteira.
+ * <p> Os construtores são resolvidos uma vez por pipeline e guardados nos estágios; cada percurso apenas
+ * instancia os elos. As classes ocultas não são fortes e, sem cache global, são descarregadas junto com o
+ * pipeline. Sem {@code defineHiddenClass}, ou se a definição falhar, os próprios modelos são usados, com o
+ * comportamento de {@link Fusao}. </p>
+ */
+final class Especializacao {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType CONSTRUTOR = MethodType.methodType(void.class, Object.class, Sumidouro.class);
+
+    /**
+     * tipo dos construtores resolvidos, para que cada elo seja instanciado com {@code invokeExact}
+     */
+    private static final MethodType ELO = MethodType.methodType(Sumidouro.class, Object.class, Sumidouro.class);
+
+    private static final MethodHandle MAPEAMENTO_COMUM = construtor(EloMapeamento.class);
+
+    private static final MethodHandle FILTRO_COMUM = construtor(EloFiltro.class);
+
+    private static final byte[] MAPEAMENTO = bytes(EloMapeamento.class);
+
+    private static final byte[] FILTRO = bytes(EloFiltro.class);
+
+    private static final Method DEFINIR_OCULTA = definirOculta();
+
+    /**
+     * {@code Lookup.ClassOption[]} vazio
+     */
+    private static final Object OPCOES = DEFINIR_OCULTA == null ? null : Array.newInstance(DEFINIR_OCULTA.getParameterTypes()[2].getComponentType(), 0);
+
+    private Especializacao() {
+    }
+
+    static boolean disponivel() {
+        return DEFINIR_OCULTA != null && MAPEAMENTO != null && FILTRO != null;
+    }
+
+    /**
+     * Define uma classe oculta por operação; o resultado é guardado pelo pipeline e compartilhado por todos os
+     * estágios que ele monta.
+     */
+    static MethodHandle[] resolver(final boolean[] filtros) {
+
+        final MethodHandle[] construtores = new MethodHandle[filtros.length];
+
+        for (int i = 0; i < filtros.length; i++) construtores[i] = definir(filtros[i]);
+
+        return construtores;
+
+    }
+
+    static <E, S> Fonte<S> fusao(final Fonte<E> anterior,
+                                 final MethodHandle[] construtores,
+                                 final Object[] operacoes,
+                                 final boolean[] filtros) {
+        return new Estagio<>(anterior, construtores, operacoes, filtros);
+    }
+
+    /**
+     * Encadeia os elos de trás para frente, a partir do sumidouro terminal.
+     */
+    @SuppressWarnings("unchecked")
+    static Sumidouro<Object> encadear(final MethodHandle[] construtores, final Object[] operacoes, final Sumidouro<?> terminal) {
+
+        Sumidouro<Object> elo = (Sumidouro<Object>) terminal;
+
+        for (int i = operacoes.length - 1; i >= 0; i--) elo = instanciar(construtores[i], operacoes[i], elo);
+
+        return elo;
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Sumidouro<Object> instanciar(final MethodHandle construtor, final Object operacao, final Sumidouro<Object> abaixo) {
+        try {
+            return (Sumidouro<Object>) construtor.invokeExact(operacao, abaixo);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MethodHandle definir(final boolean filtro) {
+
+        final MethodHandle comum = filtro ? FILTRO_COMUM : MAPEAMENTO_COMUM;
+
+        if (!disponivel()) return comum;
+
+        try {
+            final MethodHandles.Lookup oculta = (MethodHandles.Lookup) DEFINIR_OCULTA.invoke(LOOKUP, filtro ? FILTRO : MAPEAMENTO, true, OPCOES);
+            return oculta.findConstructor(oculta.lookupClass(), CONSTRUTOR).asType(ELO);
+        } catch (final ReflectiveOperationException | RuntimeException | LinkageError e) {
+            return comum;
+        }
+
+    }
+
+    private static MethodHandle construtor(final Class<?> modelo) {
+        try {
+            return LOOKUP.findConstructor(modelo, CONSTRUTOR).asType(ELO);
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static byte[] bytes(final Class<?> modelo) {
+        try (final InputStream entrada = modelo.getResourceAsStream(modelo.getSimpleName() + ".class")) {
+            return entrada == null ? null : entrada.readAllBytes();
+        } catch (final IOException e) {
+            return null;
+        }
+    }
+
+    private static Method definirOculta() {
+        try {
+            final Class<?> opcao = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+            return MethodHandles.Lookup.class.getMethod("defineHiddenClass", byte[].class, boolean.class, opcao.arrayType());
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static final class Estagio<E, S> implements Fonte<S> {
+
+        private final Fonte<E> anterior;
+
+        private final MethodHandle[] construtores;
+
+        private final Object[] operacoes;
+
+        private final boolean[] filtros;
+
+        private Estagio(final Fonte<E> anterior, final MethodHandle[] construtores, final Object[] operacoes, final boolean[] filtros) {
+            this.anterior = anterior;
+            this.construtores = construtores;
+            this.operacoes = operacoes;
+            this.filtros = filtros;
+        }
+
+        @Override
+        public void percorrer(final Sumidouro<? super S> sumidouro) {
+            anterior.percorrer(encadear(construtores, operacoes, sumidouro));
+        }
+
+        @Override
+        public long tamanhoEstimado() {
+            return Fusao.tamanhoEstimado(anterior, filtros);
+        }
+
+        @Override
+        public int caracteristicas() {
+            return Fusao.caracteristicas(anterior, filtros);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Comparator<? super S> comparador() {
+            return Fusao.mapeia(filtros) ? null : ((Fonte<S>) anterior).comparador();
+        }
+
+        @Override
+        public long extensao() {
+            return anterior.extensao();
+        }
+
+        @Override
+        public Fonte<S> fatia(final long inicio, final long fim) {
+            return new Estagio<>(anterior.fatia(inicio, fim), construtores, operacoes, filtros);
+        }
+
+    }
+
+}
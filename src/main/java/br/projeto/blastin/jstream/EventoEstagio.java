@@ -0,0 +1,48 @@
+package br.projeto.blastin.jstream;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Fronteira de um estágio observado, emitida junto com o {@link EventoTerminal} da operação que o percorreu.
+ */
+@Name("br.projeto.blastin.jstream.Estagio")
+@Label("Estágio")
+@Category("JStream")
+@Description("Elementos que entraram e saíram de um estágio de um JStream observado")
+final class EventoEstagio extends jdk.jfr.Event {
+
+    @Label("Operação")
+    String operacao;
+
+    @Label("Posição")
+    int posicao;
+
+    @Label("Estágio")
+    String nome;
+
+    @Label("Entradas")
+    long entradas;
+
+    @Label("Saídas")
+    long saidas;
+
+    @Label("Tempo em funções")
+    @Timespan(Timespan.NANOSECONDS)
+    long nanosEmFuncoes;
+
+    static void emitir(final String operacao, final JEstagio estagio) {
+        final EventoEstagio evento = new EventoEstagio();
+        evento.operacao = operacao;
+        evento.posicao = estagio.posicao();
+        evento.nome = estagio.nome();
+        evento.entradas = estagio.entradas();
+        evento.saidas = estagio.saidas();
+        evento.nanosEmFuncoes = estagio.nanosEmFuncoes();
+        evento.commit();
+    }
+
+}
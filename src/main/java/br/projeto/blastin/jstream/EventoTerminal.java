@@ -0,0 +1,27 @@
+package br.projeto.blastin.jstream;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Duração de uma operação terminal de uma stream observada.
+ */
+@Name("br.projeto.blastin.jstream.Terminal")
+@Label("Operação terminal")
+@Category("JStream")
+@Description("Percurso completo de uma operação terminal de um JStream observado")
+final class EventoTerminal extends jdk.jfr.Event {
+
+    @Label("Operação")
+    String operacao;
+
+    @Label("Tamanho previsto")
+    @Description("Tamanho exato conhecido antes do percurso; -1 quando desconhecido")
+    long tamanhoPrevisto;
+
+    @Label("Estágios")
+    int estagios;
+
+}
@@ -0,0 +1,66 @@
+package br.projeto.blastin.jstream;
+
+import br.projeto.blastin.joptional.Predicado;
+
+import java.util.Comparator;
+
+final class Filtro<T> implements Fonte<T> {
+
+    private final Fonte<T> anterior;
+
+    private final Predicado<? super T> predicado;
+
+    Filtro(final Fonte<T> anterior, final Predicado<? super T> predicado) {
+        this.anterior = anterior;
+        this.predicado = predicado;
+    }
+
+    @Override
+    public void percorrer(final Sumidouro<? super T> sumidouro) {
+        anterior.percorrer(new SumidouroFiltro<>(predicado, sumidouro));
+    }
+
+    @Override
+    public long extensao() {
+        return anterior.extensao();
+    }
+
+    @Override
+    public Fonte<T> fatia(final long inicio, final long fim) {
+        return new Filtro<>(anterior.fatia(inicio, fim), predicado);
+    }
+
+    @Override
+    public int caracteristicas() {
+        return anterior.caracteristicas();
+    }
+
+    @Override
+    public Comparator<? super T> comparador() {
+        return anterior.comparador();
+    }
+
+    private static final class SumidouroFiltro<T> implements Sumidouro<T> {
+
+        private final Predicado<? super T> predicado;
+
+        private final Sumidouro<? super T> abaixo;
+
+        private SumidouroFiltro(final Predicado<? super T> predicado, final Sumidouro<? super T> abaixo) {
+            this.predicado = predicado;
+            this.abaixo = abaixo;
+        }
+
+        @Override
+        public void aceitar(final T t) {
+            if (predicado.teste(t)) abaixo.aceitar(t);
+        }
+
+        @Override
+        public boolean saciado() {
+            return abaixo.saciado();
+        }
+
+    }
+
+}
@@ -0,0 +1,71 @@
+package br.projeto.blastin.jstream;
+
+import java.util.Comparator;
+
+/**
+ * Origem dos elementos de um {@link JStream}. Tanto os dados de entrada quanto os estágios intermediários
+ * são fontes: um estágio apenas decora a fonte anterior com o seu {@link Sumidouro}.
+ *
+ * @param <T> tipo dos elementos produzidos
+ */
+interface Fonte<T> {
+
+    void percorrer(final Sumidouro<? super T> sumidouro);
+
+    /**
+     * @return quantidade exata de elementos que a fonte produzirá, ou -1 quando ela só é conhecida ao percorrer
+     */
+    default long tamanhoExato() {
+        return -1;
+    }
+
+    /**
+     * @return limite superior da quantidade de elementos, para dimensionar recipientes, ou -1 quando desconhecido;
+     * por padrão, o tamanho exato
+     */
+    default long tamanhoEstimado() {
+        return tamanhoExato();
+    }
+
+    /**
+     * @return combinação de {@link Caracteristicas} garantidas pelos elementos produzidos
+     */
+    default int caracteristicas() {
+        return 0;
+    }
+
+    /**
+     * @return a ordem dos elementos quando a fonte é {@link Caracteristicas#ORDENADO}; nulo nos demais casos
+     */
+    default Comparator<? super T> comparador() {
+        return null;
+    }
+
+    /**
+     * @return quantidade de posições que podem ser divididas com {@link #fatia(long, long)}, ou -1 quando a
+     * fonte só pode ser percorrida sequencialmente
+     */
+    default long extensao() {
+        return -1;
+    }
+
+    /**
+     * @return fonte restrita às posições [inicio, fim), com os mesmos estágios aplicados
+     */
+    default Fonte<T> fatia(final long inicio, final long fim) {
+        throw new UnsupportedOperationException("fonte indivisível");
+    }
+
+    /**
+     * Fontes que conhecem a sua posição, como arranjos, podem restringir o próprio intervalo em vez de
+     * produzir elementos que seriam descartados.
+     */
+    default Fonte<T> limite(final long quantidade) {
+        return new Limite<>(this, quantidade);
+    }
+
+    default Fonte<T> pular(final long quantidade) {
+        return new Pular<>(this, quantidade);
+    }
+
+}
@@ -0,0 +1,199 @@
+package br.projeto.blastin.jstream;
+
+import java.util.Arrays;
+import java.util.List;
+
+final class FonteArranjo<T> implements Fonte<T> {
+
+    private final T[] ts;
+
+    private final int inicio;
+
+    private final int fim;
+
+    /**
+     * verdadeiro quando o arranjo foi criado pela própria stream e ninguém mais o referencia
+     */
+    private final boolean proprio;
+
+    private static final FonteArranjo<?> VAZIA = new FonteArranjo<>(new Object[0], 0, true);
+
+    @SuppressWarnings("unchecked")
+    static <T> FonteArranjo<T> vazia() {
+        return (FonteArranjo<T>) VAZIA;
+    }
+
+    FonteArranjo(final T[] ts, final int tamanho, final boolean proprio) {
+        this(ts, 0, tamanho, proprio);
+    }
+
+    /**
+     * Trecho de um arranjo do chamador, que por isso não é próprio.
+     */
+    static <T> FonteArranjo<T> trecho(final T[] ts, final int inicio, final int fim) {
+        return new FonteArranjo<>(ts, inicio, fim, false);
+    }
+
+    private FonteArranjo(final T[] ts, final int inicio, final int fim, final boolean proprio) {
+        this.ts = ts;
+        this.inicio = inicio;
+        this.fim = fim;
+        this.proprio = proprio;
+    }
+
+    @Override
+    public void percorrer(final Sumidouro<? super T> sumidouro) {
+        for (int i = inicio; i < fim && !sumidouro.saciado(); i++) {
+            sumidouro.aceitar(ts[i]);
+        }
+    }
+
+    @Override
+    public long tamanhoExato() {
+        return fim - inicio;
+    }
+
+    @Override
+    public long extensao() {
+        return fim - inicio;
+    }
+
+    @Override
+    public Fonte<T> fatia(final long inicio, final long fim) {
+        return new FonteArranjo<>(ts, this.inicio + (int) inicio, this.inicio + (int) fim, proprio);
+    }
+
+    @Override
+    public Fonte<T> limite(final long quantidade) {
+        return new FonteArranjo<>(ts, inicio, deslocamento(quantidade), proprio);
+    }
+
+    @Override
+    public Fonte<T> pular(final long quantidade) {
+        return new FonteArranjo<>(ts, deslocamento(quantidade), fim, proprio);
+    }
+
+    /**
+     * Arranjos próprios são expostos sem cópia; os demais são copiados, pois quem os forneceu ainda pode alterá-los.
+     */
+    List<T> comoLista() {
+        if (proprio) return new VistaArranjo<>(ts, inicio, fim);
+        return new VistaArranjo<>(Arrays.copyOfRange(ts, inicio, fim), 0, fim - inicio);
+    }
+
+    /**
+     * Lotes como vistas sobre trechos consecutivos do próprio arranjo, sem cópia.
+     */
+    Fonte<List<T>> emLotes(final int tamanho) {
+        return new Lotes<>(ts, inicio, fim, tamanho);
+    }
+
+    /**
+     * Janelas como vistas sobre trechos do próprio arranjo, sem cópia.
+     */
+    Fonte<List<T>> janelas(final int tamanho, final int passo) {
+        return new JanelasArranjo<>(ts, inicio, Janelas.quantidade(fim - inicio, tamanho, passo), tamanho, passo);
+    }
+
+    private int deslocamento(final long quantidade) {
+        return quantidade < fim - inicio ? inicio + (int) quantidade : fim;
+    }
+
+    private static final class Lotes<T> implements Fonte<List<T>> {
+
+        private final Object[] ts;
+
+        private final int inicio;
+
+        private final int fim;
+
+        private final int tamanho;
+
+        private Lotes(final Object[] ts, final int inicio, final int fim, final int tamanho) {
+            this.ts = ts;
+            this.inicio = inicio;
+            this.fim = fim;
+            this.tamanho = tamanho;
+        }
+
+        @Override
+        public void percorrer(final Sumidouro<? super List<T>> sumidouro) {
+            for (int i = inicio; i < fim && !sumidouro.saciado(); i = fimDoLote(i)) {
+                sumidouro.aceitar(new VistaArranjo<>(ts, i, fimDoLote(i)));
+            }
+        }
+
+        @Override
+        public long tamanhoExato() {
+            return ((long) fim - inicio + tamanho - 1) / tamanho;
+        }
+
+        @Override
+        public long extensao() {
+            return tamanhoExato();
+        }
+
+        @Override
+        public Fonte<List<T>> fatia(final long inicio, final long fim) {
+            return new Lotes<>(ts, inicioDoLote(inicio), inicioDoLote(fim), tamanho);
+        }
+
+        private int fimDoLote(final int i) {
+            return (int) Math.min(fim, (long) i + tamanho);
+        }
+
+        private int inicioDoLote(final long lote) {
+            return (int) Math.min(fim, inicio + lote * tamanho);
+        }
+
+    }
+
+    private static final class JanelasArranjo<T> implements Fonte<List<T>> {
+
+        private final Object[] ts;
+
+        /**
+         * início da primeira janela
+         */
+        private final int inicio;
+
+        private final long quantidade;
+
+        private final int tamanho;
+
+        private final int passo;
+
+        private JanelasArranjo(final Object[] ts, final int inicio, final long quantidade, final int tamanho, final int passo) {
+            this.ts = ts;
+            this.inicio = inicio;
+            this.quantidade = quantidade;
+            this.tamanho = tamanho;
+            this.passo = passo;
+        }
+
+        @Override
+        public void percorrer(final Sumidouro<? super List<T>> sumidouro) {
+            for (long janela = 0; janela < quantidade && !sumidouro.saciado(); janela++) {
+                final int i = (int) (inicio + janela * passo);
+                sumidouro.aceitar(new VistaArranjo<>(ts, i, i + tamanho));
+            }
+        }
+
+        @Override
+        public long tamanhoExato() {
+            return quantidade;
+        }
+
+        @Override
+        public long extensao() {
+            return quantidade;
+        }
+
+        @Override
+        public Fonte<List<T>> fatia(final long inicio, final long fim) {
+            return new JanelasArranjo<>(ts, (int) (this.inicio + inicio * passo), fim - inicio, tamanho, passo);
+        }
+
+    }
+
+}
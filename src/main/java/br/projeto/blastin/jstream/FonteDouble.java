@@ -0,0 +1,25 @@
+package br.projeto.blastin.jstream;
+
+/**
+ * Versão primitiva de {@link Fonte}.
+ */
+interface FonteDouble {
+
+    void percorrer(final SumidouroDouble sumidouro);
+
+    /**
+     * @return ver {@link Fonte#tamanhoExato()}
+     */
+    default long tamanhoExato() {
+        return -1;
+    }
+
+    default FonteDouble limite(final long quantidade) {
+        return new FontesDouble.Limite(this, quantidade);
+    }
+
+    default FonteDouble pular(final long quantidade) {
+        return new FontesDouble.Pular(this, quantidade);
+    }
+
+}
@@ -0,0 +1,24 @@
+package br.projeto.blastin.jstream;
+
+import br.projeto.blastin.joptional.Provedor;
+
+/**
+ * Fonte infinita: só termina quando um estágio como {@link Limite} ou uma operação terminal de curto-circuito
+ * sacia o sumidouro.
+ */
+final class FonteGerada<T> implements Fonte<T> {
+
+    private final Provedor<? extends T> provedor;
+
+    FonteGerada(final Provedor<? extends T> provedor) {
+        this.provedor = provedor;
+    }
+
+    @Override
+    public void percorrer(final Sumidouro<? super T> sumidouro) {
+        while (!sumidouro.saciado()) {
+            sumidouro.aceitar(provedor.prover());
+        }
+    }
+
+}
@@ -0,0 +1,25 @@
+package br.projeto.blastin.jstream;
+
+/**
+ * Versão primitiva de {@link Fonte}.
+ */
+interface FonteInt {
+
+    void percorrer(final SumidouroInt sumidouro);
+
+    /**
+     * @return ver {@link Fonte#tamanhoExato()}
+     */
+    default long tamanhoExato() {
+        return -1;
+    }
+
+    default FonteInt limite(final long quantidade) {
+        return new FontesInt.Limite(this, quantidade);
+    }
+
+    default FonteInt pular(final long quantidade) {
+        return new FontesInt.Pular(this, quantidade);
+    }
+
+}
@@ -0,0 +1,36 @@
+package br.projeto.blastin.jstream;
+
+import br.projeto.blastin.joptional.Funcao;
+
+/**
+ * Fonte infinita semente, f(semente), f(f(semente)), ... A função só é aplicada quando o próximo elemento
+ * é de fato necessário.
+ */
+final class FonteIterada<T> implements Fonte<T> {
+
+    private final T semente;
+
+    private final Funcao<? super T, ? extends T> funcao;
+
+    FonteIterada(final T semente, final Funcao<? super T, ? extends T> funcao) {
+        this.semente = semente;
+        this.funcao = funcao;
+    }
+
+    @Override
+    public void percorrer(final Sumidouro<? super T> sumidouro) {
+
+        if (sumidouro.saciado()) return;
+
+        T t = semente;
+
+        sumidouro.aceitar(t);
+
+        while (!sumidouro.saciado()) {
+            t = funcao.aplicar(t);
+            sumidouro.aceitar(t);
+        }
+
+    }
+
+}
@@ -0,0 +1,27 @@
+package br.projeto.blastin.jstream;
+
+import java.util.Iterator;
+
+/**
+ * Puxa os elementos de um novo iterador a cada percurso, um por vez, sem materializar a entrada.
+ */
+final class FonteIteravel<T> implements Fonte<T> {
+
+    private final Iterable<? extends T> iteravel;
+
+    FonteIteravel(final Iterable<? extends T> iteravel) {
+        this.iteravel = iteravel;
+    }
+
+    @Override
+    public void percorrer(final Sumidouro<? super T> sumidouro) {
+
+        final Iterator<? extends T> iterador = iteravel.iterator();
+
+        while (!sumidouro.saciado() && iterador.hasNext()) {
+            sumidouro.aceitar(iterador.next());
+        }
+
+    }
+
+}
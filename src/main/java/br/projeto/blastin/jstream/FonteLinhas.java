@@ -0,0 +1,78 @@
+package br.projeto.blastin.jstream;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * Linhas de um {@link ArquivoMapeado}, separadas por '\n' (com '\r' final descartado). Uma fatia em bytes emite
+ * as linhas que começam dentro dela, de forma que fatias vizinhas nunca repitam nem percam uma linha.
+ */
+final class FonteLinhas implements Fonte<Linha> {
+
+    private static final byte QUEBRA = '\n';
+
+    private static final byte RETORNO = '\r';
+
+    private final ArquivoMapeado arquivo;
+
+    private final Charset charset;
+
+    private final long inicio;
+
+    private final long fim;
+
+    FonteLinhas(final ArquivoMapeado arquivo, final Charset charset) {
+        this(arquivo, charset, 0, arquivo.tamanho());
+    }
+
+    private FonteLinhas(final ArquivoMapeado arquivo, final Charset charset, final long inicio, final long fim) {
+        this.arquivo = arquivo;
+        this.charset = charset;
+        this.inicio = inicio;
+        this.fim = fim;
+    }
+
+    @Override
+    public void percorrer(final Sumidouro<? super Linha> sumidouro) {
+
+        long posicao = inicio;
+
+        if (posicao > 0 && arquivo.byteEm(posicao - 1) != QUEBRA) posicao = arquivo.indiceDe(QUEBRA, posicao) + 1;
+
+        while (posicao < fim && !sumidouro.saciado()) {
+
+            final long quebra = arquivo.indiceDe(QUEBRA, posicao);
+
+            long termino = quebra;
+
+            if (termino > posicao && arquivo.byteEm(termino - 1) == RETORNO) termino--;
+
+            sumidouro.aceitar(linha(posicao, (int) (termino - posicao)));
+
+            posicao = quebra + 1;
+
+        }
+
+    }
+
+    @Override
+    public long extensao() {
+        return fim - inicio;
+    }
+
+    @Override
+    public Fonte<Linha> fatia(final long inicio, final long fim) {
+        return new FonteLinhas(arquivo, charset, this.inicio + inicio, this.inicio + fim);
+    }
+
+    private Linha linha(final long posicao, final int tamanho) {
+
+        final ByteBuffer regiao = arquivo.regiaoDe(posicao, tamanho);
+
+        if (regiao == null) return new Linha(arquivo.copia(posicao, tamanho), 0, tamanho, charset);
+
+        return new Linha(regiao, arquivo.deslocamento(posicao), tamanho, charset);
+
+    }
+
+}
@@ -0,0 +1,78 @@
+package br.projeto.blastin.jstream;
+
+import java.util.ConcurrentModificationException;
+import java.util.List;
+
+/**
+ * Lê uma lista de acesso aleatório por índice, sem copiá-la, no intervalo [inicio, fim) fixado na criação da
+ * stream. A lista não deve ser modificada enquanto a stream existir: uma mudança de tamanho é detectada ao fim
+ * de cada percurso, ou de cada fatia em paralelo, e relatada com {@link ConcurrentModificationException};
+ * substituições de elementos não são detectadas.
+ */
+final class FonteLista<T> implements Fonte<T> {
+
+    private final List<? extends T> lista;
+
+    /**
+     * tamanho da lista na criação da stream
+     */
+    private final int tamanho;
+
+    private final int inicio;
+
+    private final int fim;
+
+    FonteLista(final List<? extends T> lista) {
+        this(lista, lista.size(), 0, lista.size());
+    }
+
+    private FonteLista(final List<? extends T> lista, final int tamanho, final int inicio, final int fim) {
+        this.lista = lista;
+        this.tamanho = tamanho;
+        this.inicio = inicio;
+        this.fim = fim;
+    }
+
+    @Override
+    public void percorrer(final Sumidouro<? super T> sumidouro) {
+
+        for (int i = inicio; i < fim && !sumidouro.saciado(); i++) {
+            sumidouro.aceitar(lista.get(i));
+        }
+
+        if (lista.size() != tamanho) {
+            throw new ConcurrentModificationException("lista modificada durante a stream: tamanho " + tamanho + " passou a " + lista.size());
+        }
+
+    }
+
+    @Override
+    public long tamanhoExato() {
+        return fim - inicio;
+    }
+
+    @Override
+    public long extensao() {
+        return fim - inicio;
+    }
+
+    @Override
+    public Fonte<T> fatia(final long inicio, final long fim) {
+        return new FonteLista<>(lista, tamanho, this.inicio + (int) inicio, this.inicio + (int) fim);
+    }
+
+    @Override
+    public Fonte<T> limite(final long quantidade) {
+        return new FonteLista<>(lista, tamanho, inicio, deslocamento(quantidade));
+    }
+
+    @Override
+    public Fonte<T> pular(final long quantidade) {
+        return new FonteLista<>(lista, tamanho, deslocamento(quantidade), fim);
+    }
+
+    private int deslocamento(final long quantidade) {
+        return quantidade < fim - inicio ? inicio + (int) quantidade : fim;
+    }
+
+}
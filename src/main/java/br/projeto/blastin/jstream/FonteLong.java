@@ -0,0 +1,25 @@
+package br.projeto.blastin.jstream;
+
+/**
+ * Versão primitiva de {@link Fonte}.
+ */
+interface FonteLong {
+
+    void percorrer(final SumidouroLong sumidouro);
+
+    /**
+     * @return ver {@link Fonte#tamanhoExato()}
+     */
+    default long tamanhoExato() {
+        return -1;
+    }
+
+    default FonteLong limite(final long quantidade) {
+        return new FontesLong.Limite(this, quantidade);
+    }
+
+    default FonteLong pular(final long quantidade) {
+        return new FontesLong.Pular(this, quantidade);
+    }
+
+}
@@ -0,0 +1,86 @@
+package br.projeto.blastin.jstream;
+
+import java.util.Comparator;
+
+/**
+ * Conta os elementos que saem do estágio decorado. A contagem é local ao percurso e somada ao medidor ao fim
+ * dele, para não disputar contadores compartilhados a cada elemento.
+ */
+final class FonteMedida<T> implements Fonte<T> {
+
+    private final Fonte<T> estagio;
+
+    private final Medidor medidor;
+
+    FonteMedida(final Fonte<T> estagio, final Medidor medidor) {
+        this.estagio = estagio;
+        this.medidor = medidor;
+    }
+
+    @Override
+    public void percorrer(final Sumidouro<? super T> sumidouro) {
+
+        final SumidouroMedido<T> medido = new SumidouroMedido<>(sumidouro);
+
+        try {
+            estagio.percorrer(medido);
+        } finally {
+            medidor.adicionarSaidas(medido.saidas);
+        }
+
+    }
+
+    @Override
+    public long tamanhoExato() {
+        return estagio.tamanhoExato();
+    }
+
+    @Override
+    public long tamanhoEstimado() {
+        return estagio.tamanhoEstimado();
+    }
+
+    @Override
+    public int caracteristicas() {
+        return estagio.caracteristicas();
+    }
+
+    @Override
+    public Comparator<? super T> comparador() {
+        return estagio.comparador();
+    }
+
+    @Override
+    public long extensao() {
+        return estagio.extensao();
+    }
+
+    @Override
+    public Fonte<T> fatia(final long inicio, final long fim) {
+        return new FonteMedida<>(estagio.fatia(inicio, fim), medidor);
+    }
+
+    private static final class SumidouroMedido<T> implements Sumidouro<T> {
+
+        private final Sumidouro<? super T> abaixo;
+
+        private long saidas;
+
+        private SumidouroMedido(final Sumidouro<? super T> abaixo) {
+            this.abaixo = abaixo;
+        }
+
+        @Override
+        public void aceitar(final T t) {
+            saidas++;
+            abaixo.aceitar(t);
+        }
+
+        @Override
+        public boolean saciado() {
+            return abaixo.saciado();
+        }
+
+    }
+
+}
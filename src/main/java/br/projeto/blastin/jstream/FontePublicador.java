@@ -0,0 +1,138 @@
+package br.projeto.blastin.jstream;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+
+/**
+ * Assina o publicador a cada percurso e aplica os estágios a cada item dentro de {@code onNext}, na thread do
+ * publicador, sem enfileirar. A demanda é pedida em lotes e renovada à medida que os itens são consumidos, de
+ * modo que a memória não depende da velocidade do produtor. A thread da operação terminal espera a conclusão.
+ */
+final class FontePublicador<T> implements Fonte<T> {
+
+    private final Flow.Publisher<? extends T> publicador;
+
+    private final int lote;
+
+    FontePublicador(final Flow.Publisher<? extends T> publicador, final int lote) {
+        this.publicador = publicador;
+        this.lote = lote;
+    }
+
+    @Override
+    public void percorrer(final Sumidouro<? super T> sumidouro) {
+
+        final Assinante<T> assinante = new Assinante<>(sumidouro, lote);
+
+        publicador.subscribe(assinante);
+
+        assinante.aguardar();
+
+    }
+
+    private static final class Assinante<T> implements Flow.Subscriber<T> {
+
+        private final Sumidouro<? super T> sumidouro;
+
+        private final int lote;
+
+        private final CountDownLatch concluido = new CountDownLatch(1);
+
+        private Flow.Subscription assinatura;
+
+        private long restantesDoLote;
+
+        private boolean encerrado;
+
+        private volatile Throwable falha;
+
+        private Assinante(final Sumidouro<? super T> sumidouro, final int lote) {
+            this.sumidouro = sumidouro;
+            this.lote = lote;
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription assinatura) {
+
+            if (this.assinatura != null) {
+                assinatura.cancel();
+                return;
+            }
+
+            this.assinatura = assinatura;
+
+            if (sumidouro.saciado()) {
+                encerrar(null, true);
+                return;
+            }
+
+            restantesDoLote = lote;
+
+            assinatura.request(lote);
+
+        }
+
+        @Override
+        public void onNext(final T t) {
+
+            if (encerrado) return;
+
+            try {
+                sumidouro.aceitar(t);
+            } catch (final RuntimeException | Error e) {
+                encerrar(e, true);
+                return;
+            }
+
+            if (sumidouro.saciado()) {
+                encerrar(null, true);
+            } else if (--restantesDoLote == 0) {
+                restantesDoLote = lote;
+                assinatura.request(lote);
+            }
+
+        }
+
+        @Override
+        public void onError(final Throwable causa) {
+            if (!encerrado) encerrar(causa, false);
+        }
+
+        @Override
+        public void onComplete() {
+            if (!encerrado) encerrar(null, false);
+        }
+
+        private void encerrar(final Throwable causa, final boolean cancelar) {
+            encerrado = true;
+            falha = causa;
+            if (cancelar) assinatura.cancel();
+            concluido.countDown();
+        }
+
+        private void aguardar() {
+
+            try {
+                concluido.await();
+            } catch (final InterruptedException e) {
+                if (assinatura != null) assinatura.cancel();
+                Thread.currentThread().interrupt();
+                throw new CancellationException("espera pelo publicador interrompida");
+            }
+
+            final Throwable causa = falha;
+
+            if (causa == null) return;
+
+            if (causa instanceof RuntimeException) throw (RuntimeException) causa;
+            if (causa instanceof Error) throw (Error) causa;
+
+            throw new CompletionException(causa);
+
+        }
+
+    }
+
+}
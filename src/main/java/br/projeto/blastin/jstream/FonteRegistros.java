@@ -0,0 +1,70 @@
+package br.projeto.blastin.jstream;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Registros de largura fixa de um {@link ArquivoMapeado}, entregues como fatias somente leitura do arquivo.
+ * Bytes finais que não completam um registro são ignorados.
+ */
+final class FonteRegistros implements Fonte<ByteBuffer> {
+
+    private final ArquivoMapeado arquivo;
+
+    private final int tamanhoRegistro;
+
+    private final long primeiro;
+
+    private final long ultimo;
+
+    FonteRegistros(final ArquivoMapeado arquivo, final int tamanhoRegistro) {
+        this(arquivo, tamanhoRegistro, 0, arquivo.tamanho() / tamanhoRegistro);
+    }
+
+    private FonteRegistros(final ArquivoMapeado arquivo, final int tamanhoRegistro, final long primeiro, final long ultimo) {
+        this.arquivo = arquivo;
+        this.tamanhoRegistro = tamanhoRegistro;
+        this.primeiro = primeiro;
+        this.ultimo = ultimo;
+    }
+
+    @Override
+    public void percorrer(final Sumidouro<? super ByteBuffer> sumidouro) {
+
+        for (long i = primeiro; i < ultimo && !sumidouro.saciado(); i++) {
+
+            final long posicao = i * tamanhoRegistro;
+
+            final ByteBuffer regiao = arquivo.regiaoDe(posicao, tamanhoRegistro);
+
+            sumidouro.aceitar(regiao.slice(arquivo.deslocamento(posicao), tamanhoRegistro).asReadOnlyBuffer());
+
+        }
+
+    }
+
+    @Override
+    public long tamanhoExato() {
+        return ultimo - primeiro;
+    }
+
+    @Override
+    public long extensao() {
+        return ultimo - primeiro;
+    }
+
+    @Override
+    public Fonte<ByteBuffer> fatia(final long inicio, final long fim) {
+        return new FonteRegistros(arquivo, tamanhoRegistro, primeiro + inicio, primeiro + fim);
+    }
+
+    @Override
+    public Fonte<ByteBuffer> limite(final long quantidade) {
+        return new FonteRegistros(arquivo, tamanhoRegistro, primeiro, primeiro + Math.min(quantidade, ultimo - primeiro));
+    }
+
+    @Override
+    public Fonte<ByteBuffer> pular(final long quantidade) {
+        return new FonteRegistros(arquivo, tamanhoRegistro, primeiro + Math.min(quantidade, ultimo - primeiro), ultimo);
+    }
+
+}
@@ -0,0 +1,24 @@
+package br.projeto.blastin.jstream;
+
+import java.util.Spliterator;
+
+final class FonteSpliterator<T> implements Fonte<T> {
+
+    private final Spliterator<? extends T> spliterator;
+
+    FonteSpliterator(final Spliterator<? extends T> spliterator) {
+        this.spliterator = spliterator;
+    }
+
+    @Override
+    public void percorrer(final Sumidouro<? super T> sumidouro) {
+
+        boolean avancou = true;
+
+        while (avancou && !sumidouro.saciado()) {
+            avancou = spliterator.tryAdvance(sumidouro::aceitar);
+        }
+
+    }
+
+}
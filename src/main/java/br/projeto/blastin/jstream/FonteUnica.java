@@ -0,0 +1,49 @@
+package br.projeto.blastin.jstream;
+
+/**
+ * Fonte de um único elemento, sem arranjo intermediário.
+ */
+final class FonteUnica<T> implements Fonte<T> {
+
+    private final T t;
+
+    FonteUnica(final T t) {
+        this.t = t;
+    }
+
+    @Override
+    public void percorrer(final Sumidouro<? super T> sumidouro) {
+        if (!sumidouro.saciado()) sumidouro.aceitar(t);
+    }
+
+    @Override
+    public long tamanhoExato() {
+        return 1;
+    }
+
+    @Override
+    public long extensao() {
+        return 1;
+    }
+
+    @Override
+    public Fonte<T> fatia(final long inicio, final long fim) {
+        return inicio < fim ? this : FonteArranjo.vazia();
+    }
+
+    @Override
+    public Fonte<T> limite(final long quantidade) {
+        return quantidade > 0 ? this : FonteArranjo.vazia();
+    }
+
+    @Override
+    public Fonte<T> pular(final long quantidade) {
+        return quantidade > 0 ? FonteArranjo.vazia() : this;
+    }
+
+    @Override
+    public int caracteristicas() {
+        return Caracteristicas.DISTINTO;
+    }
+
+}
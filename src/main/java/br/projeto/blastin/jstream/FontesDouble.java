@@ -0,0 +1,488 @@
+package br.projeto.blastin.jstream;
+
+/**
+ * Fontes e estágios de {@link JDoubleStream}, espelhando os estágios de {@link JStream} sem encaixotar valores.
+ */
+final class FontesDouble {
+
+    private FontesDouble() {
+    }
+
+    static final class Arranjo implements FonteDouble {
+
+        private final double[] valores;
+
+        private final int inicio;
+
+        private final int fim;
+
+        Arranjo(final double[] valores) {
+            this(valores, 0, valores.length);
+        }
+
+        private Arranjo(final double[] valores, final int inicio, final int fim) {
+            this.valores = valores;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        public void percorrer(final SumidouroDouble sumidouro) {
+            for (int i = inicio; i < fim && !sumidouro.saciado(); i++) {
+                sumidouro.aceitar(valores[i]);
+            }
+        }
+
+        @Override
+        public long tamanhoExato() {
+            return fim - inicio;
+        }
+
+        @Override
+        public FonteDouble limite(final long quantidade) {
+            return new Arranjo(valores, inicio, deslocamento(quantidade));
+        }
+
+        @Override
+        public FonteDouble pular(final long quantidade) {
+            return new Arranjo(valores, deslocamento(quantidade), fim);
+        }
+
+        private int deslocamento(final long quantidade) {
+            return quantidade < fim - inicio ? inicio + (int) quantidade : fim;
+        }
+
+    }
+
+    static final class DeObjeto<T> implements FonteDouble {
+
+        private final Fonte<T> anterior;
+
+        private final FuncaoParaDouble<? super T> funcao;
+
+        DeObjeto(final Fonte<T> anterior, final FuncaoParaDouble<? super T> funcao) {
+            this.anterior = anterior;
+            this.funcao = funcao;
+        }
+
+        @Override
+        public void percorrer(final SumidouroDouble sumidouro) {
+            anterior.percorrer(new SumidouroDeObjeto<>(funcao, sumidouro));
+        }
+
+        @Override
+        public long tamanhoExato() {
+            return anterior.tamanhoExato();
+        }
+
+        private static final class SumidouroDeObjeto<T> implements Sumidouro<T> {
+
+            private final FuncaoParaDouble<? super T> funcao;
+
+            private final SumidouroDouble abaixo;
+
+            private SumidouroDeObjeto(final FuncaoParaDouble<? super T> funcao, final SumidouroDouble abaixo) {
+                this.funcao = funcao;
+                this.abaixo = abaixo;
+            }
+
+            @Override
+            public void aceitar(final T t) {
+                abaixo.aceitar(funcao.aplicar(t));
+            }
+
+            @Override
+            public boolean saciado() {
+                return abaixo.saciado();
+            }
+
+        }
+
+    }
+
+    static final class ParaObjeto<S> implements Fonte<S> {
+
+        private final FonteDouble anterior;
+
+        private final FuncaoDeDouble<S> funcao;
+
+        ParaObjeto(final FonteDouble anterior, final FuncaoDeDouble<S> funcao) {
+            this.anterior = anterior;
+            this.funcao = funcao;
+        }
+
+        @Override
+        public void percorrer(final Sumidouro<? super S> sumidouro) {
+            anterior.percorrer(new SumidouroParaObjeto<>(funcao, sumidouro));
+        }
+
+        private static final class SumidouroParaObjeto<S> implements SumidouroDouble {
+
+            private final FuncaoDeDouble<S> funcao;
+
+            private final Sumidouro<? super S> abaixo;
+
+            private SumidouroParaObjeto(final FuncaoDeDouble<S> funcao, final Sumidouro<? super S> abaixo) {
+                this.funcao = funcao;
+                this.abaixo = abaixo;
+            }
+
+            @Override
+            public void aceitar(final double valor) {
+
+                final S mapeado = funcao.aplicar(valor);
+
+                if (mapeado != null) abaixo.aceitar(mapeado);
+
+            }
+
+            @Override
+            public boolean saciado() {
+                return abaixo.saciado();
+            }
+
+        }
+
+    }
+
+    static final class Mapeamento implements FonteDouble {
+
+        private final FonteDouble anterior;
+
+        private final OperacaoUnariaDouble operacao;
+
+        Mapeamento(final FonteDouble anterior, final OperacaoUnariaDouble operacao) {
+            this.anterior = anterior;
+            this.operacao = operacao;
+        }
+
+        @Override
+        public void percorrer(final SumidouroDouble sumidouro) {
+            anterior.percorrer(new SumidouroMapeamento(operacao, sumidouro));
+        }
+
+        @Override
+        public long tamanhoExato() {
+            return anterior.tamanhoExato();
+        }
+
+        private static final class SumidouroMapeamento extends Encadeado {
+
+            private final OperacaoUnariaDouble operacao;
+
+            private SumidouroMapeamento(final OperacaoUnariaDouble operacao, final SumidouroDouble abaixo) {
+                super(abaixo);
+                this.operacao = operacao;
+            }
+
+            @Override
+            public void aceitar(final double valor) {
+                abaixo.aceitar(operacao.operar(valor));
+            }
+
+        }
+
+    }
+
+    static final class Filtro implements FonteDouble {
+
+        private final FonteDouble anterior;
+
+        private final PredicadoDouble predicado;
+
+        Filtro(final FonteDouble anterior, final PredicadoDouble predicado) {
+            this.anterior = anterior;
+            this.predicado = predicado;
+        }
+
+        @Override
+        public void percorrer(final SumidouroDouble sumidouro) {
+            anterior.percorrer(new SumidouroFiltro(predicado, sumidouro));
+        }
+
+        private static final class SumidouroFiltro extends Encadeado {
+
+            private final PredicadoDouble predicado;
+
+            private SumidouroFiltro(final PredicadoDouble predicado, final SumidouroDouble abaixo) {
+                super(abaixo);
+                this.predicado = predicado;
+            }
+
+            @Override
+            public void aceitar(final double valor) {
+                if (predicado.teste(valor)) abaixo.aceitar(valor);
+            }
+
+        }
+
+    }
+
+    static final class Limite implements FonteDouble {
+
+        private final FonteDouble anterior;
+
+        private final long quantidade;
+
+        Limite(final FonteDouble anterior, final long quantidade) {
+            this.anterior = anterior;
+            this.quantidade = quantidade;
+        }
+
+        @Override
+        public void percorrer(final SumidouroDouble sumidouro) {
+            anterior.percorrer(new SumidouroLimite(quantidade, sumidouro));
+        }
+
+        private static final class SumidouroLimite extends Encadeado {
+
+            private long restantes;
+
+            private SumidouroLimite(final long quantidade, final SumidouroDouble abaixo) {
+                super(abaixo);
+                this.restantes = quantidade;
+            }
+
+            @Override
+            public void aceitar(final double valor) {
+                if (restantes > 0) {
+                    restantes--;
+                    abaixo.aceitar(valor);
+                }
+            }
+
+            @Override
+            public boolean saciado() {
+                return restantes == 0 || abaixo.saciado();
+            }
+
+        }
+
+    }
+
+    static final class Pular implements FonteDouble {
+
+        private final FonteDouble anterior;
+
+        private final long quantidade;
+
+        Pular(final FonteDouble anterior, final long quantidade) {
+            this.anterior = anterior;
+            this.quantidade = quantidade;
+        }
+
+        @Override
+        public void percorrer(final SumidouroDouble sumidouro) {
+            anterior.percorrer(new SumidouroPular(quantidade, sumidouro));
+        }
+
+        private static final class SumidouroPular extends Encadeado {
+
+            private long restantes;
+
+            private SumidouroPular(final long quantidade, final SumidouroDouble abaixo) {
+                super(abaixo);
+                this.restantes = quantidade;
+            }
+
+            @Override
+            public void aceitar(final double valor) {
+                if (restantes > 0) {
+                    restantes--;
+                } else {
+                    abaixo.aceitar(valor);
+                }
+            }
+
+        }
+
+    }
+
+    static final class TomarEnquanto implements FonteDouble {
+
+        private final FonteDouble anterior;
+
+        private final PredicadoDouble predicado;
+
+        TomarEnquanto(final FonteDouble anterior, final PredicadoDouble predicado) {
+            this.anterior = anterior;
+            this.predicado = predicado;
+        }
+
+        @Override
+        public void percorrer(final SumidouroDouble sumidouro) {
+            anterior.percorrer(new SumidouroTomarEnquanto(predicado, sumidouro));
+        }
+
+        private static final class SumidouroTomarEnquanto extends Encadeado {
+
+            private final PredicadoDouble predicado;
+
+            private boolean encerrado;
+
+            private SumidouroTomarEnquanto(final PredicadoDouble predicado, final SumidouroDouble abaixo) {
+                super(abaixo);
+                this.predicado = predicado;
+            }
+
+            @Override
+            public void aceitar(final double valor) {
+                if (!encerrado && predicado.teste(valor)) {
+                    abaixo.aceitar(valor);
+                } else {
+                    encerrado = true;
+                }
+            }
+
+            @Override
+            public boolean saciado() {
+                return encerrado || abaixo.saciado();
+            }
+
+        }
+
+    }
+
+    static final class DescartarEnquanto implements FonteDouble {
+
+        private final FonteDouble anterior;
+
+        private final PredicadoDouble predicado;
+
+        DescartarEnquanto(final FonteDouble anterior, final PredicadoDouble predicado) {
+            this.anterior = anterior;
+            this.predicado = predicado;
+        }
+
+        @Override
+        public void percorrer(final SumidouroDouble sumidouro) {
+            anterior.percorrer(new SumidouroDescartarEnquanto(predicado, sumidouro));
+        }
+
+        private static final class SumidouroDescartarEnquanto extends Encadeado {
+
+            private final PredicadoDouble predicado;
+
+            private boolean descartando = true;
+
+            private SumidouroDescartarEnquanto(final PredicadoDouble predicado, final SumidouroDouble abaixo) {
+                super(abaixo);
+                this.predicado = predicado;
+            }
+
+            @Override
+            public void aceitar(final double valor) {
+
+                if (descartando && predicado.teste(valor)) return;
+
+                descartando = false;
+
+                abaixo.aceitar(valor);
+
+            }
+
+        }
+
+    }
+
+    /**
+     * Ver {@link br.projeto.blastin.jstream.Distintos}.
+     */
+    static final class Distintos implements FonteDouble {
+
+        private final FonteDouble anterior;
+
+        Distintos(final FonteDouble anterior) {
+            this.anterior = anterior;
+        }
+
+        @Override
+        public void percorrer(final SumidouroDouble sumidouro) {
+            anterior.percorrer(new SumidouroDistintos(new ConjuntoLong(anterior.tamanhoExato()), sumidouro));
+        }
+
+        private static final class SumidouroDistintos extends Encadeado {
+
+            private final ConjuntoLong vistos;
+
+            private SumidouroDistintos(final ConjuntoLong vistos, final SumidouroDouble abaixo) {
+                super(abaixo);
+                this.vistos = vistos;
+            }
+
+            @Override
+            public void aceitar(final double valor) {
+                if (vistos.adicionar(Double.doubleToLongBits(valor))) abaixo.aceitar(valor);
+            }
+
+        }
+
+    }
+
+    /**
+     * Acumula todos os valores e os repassa em ordem crescente, ordenados por {@link OrdenacaoRadix}.
+     */
+    static final class Ordenado implements FonteDouble {
+
+        private final FonteDouble anterior;
+
+        Ordenado(final FonteDouble anterior) {
+            this.anterior = anterior;
+        }
+
+        @Override
+        public void percorrer(final SumidouroDouble sumidouro) {
+
+            final Acumulo acumulo = new Acumulo(anterior.tamanhoExato());
+
+            anterior.percorrer(acumulo);
+
+            OrdenacaoRadix.ordenar(acumulo.valores, acumulo.tamanho);
+
+            for (int i = 0; i < acumulo.tamanho && !sumidouro.saciado(); i++) sumidouro.aceitar(acumulo.valores[i]);
+
+            Arena.devolver(acumulo.valores);
+
+        }
+
+        @Override
+        public long tamanhoExato() {
+            return anterior.tamanhoExato();
+        }
+
+        private static final class Acumulo implements SumidouroDouble {
+
+            private double[] valores;
+
+            private int tamanho;
+
+            private Acumulo(final long tamanhoExato) {
+                valores = Arena.doubles(Arena.capacidadeInicial(tamanhoExato));
+            }
+
+            @Override
+            public void aceitar(final double valor) {
+                if (tamanho == valores.length) valores = Arena.crescer(valores, tamanho);
+                valores[tamanho++] = valor;
+            }
+
+        }
+
+    }
+
+    private abstract static class Encadeado implements SumidouroDouble {
+
+        final SumidouroDouble abaixo;
+
+        private Encadeado(final SumidouroDouble abaixo) {
+            this.abaixo = abaixo;
+        }
+
+        @Override
+        public boolean saciado() {
+            return abaixo.saciado();
+        }
+
+    }
+
+}
@@ -0,0 +1,607 @@
+package br.projeto.blastin.jstream;
+
+/**
+ * Fontes e estágios de {@link JIntStream}, espelhando os estágios de {@link JStream} sem encaixotar valores.
+ */
+final class FontesInt {
+
+    private FontesInt() {
+    }
+
+    static final class Arranjo implements FonteInt {
+
+        private final int[] valores;
+
+        private final int inicio;
+
+        private final int fim;
+
+        Arranjo(final int[] valores) {
+            this(valores, 0, valores.length);
+        }
+
+        private Arranjo(final int[] valores, final int inicio, final int fim) {
+            this.valores = valores;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        public void percorrer(final SumidouroInt sumidouro) {
+            for (int i = inicio; i < fim && !sumidouro.saciado(); i++) {
+                sumidouro.aceitar(valores[i]);
+            }
+        }
+
+        @Override
+        public long tamanhoExato() {
+            return fim - inicio;
+        }
+
+        @Override
+        public FonteInt limite(final long quantidade) {
+            return new Arranjo(valores, inicio, deslocamento(quantidade));
+        }
+
+        @Override
+        public FonteInt pular(final long quantidade) {
+            return new Arranjo(valores, deslocamento(quantidade), fim);
+        }
+
+        private int deslocamento(final long quantidade) {
+            return quantidade < fim - inicio ? inicio + (int) quantidade : fim;
+        }
+
+    }
+
+    static final class Intervalo implements FonteInt {
+
+        private final int inicio;
+
+        private final int fim;
+
+        Intervalo(final int inicio, final int fim) {
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        public void percorrer(final SumidouroInt sumidouro) {
+            for (int valor = inicio; valor < fim && !sumidouro.saciado(); valor++) {
+                sumidouro.aceitar(valor);
+            }
+        }
+
+        @Override
+        public long tamanhoExato() {
+            return (long) fim - inicio;
+        }
+
+        @Override
+        public FonteInt limite(final long quantidade) {
+            return new Intervalo(inicio, deslocamento(quantidade));
+        }
+
+        @Override
+        public FonteInt pular(final long quantidade) {
+            return new Intervalo(deslocamento(quantidade), fim);
+        }
+
+        private int deslocamento(final long quantidade) {
+            return quantidade < (long) fim - inicio ? (int) (inicio + quantidade) : fim;
+        }
+
+    }
+
+    static final class DeObjeto<T> implements FonteInt {
+
+        private final Fonte<T> anterior;
+
+        private final FuncaoParaInt<? super T> funcao;
+
+        DeObjeto(final Fonte<T> anterior, final FuncaoParaInt<? super T> funcao) {
+            this.anterior = anterior;
+            this.funcao = funcao;
+        }
+
+        @Override
+        public void percorrer(final SumidouroInt sumidouro) {
+            anterior.percorrer(new SumidouroDeObjeto<>(funcao, sumidouro));
+        }
+
+        @Override
+        public long tamanhoExato() {
+            return anterior.tamanhoExato();
+        }
+
+        private static final class SumidouroDeObjeto<T> implements Sumidouro<T> {
+
+            private final FuncaoParaInt<? super T> funcao;
+
+            private final SumidouroInt abaixo;
+
+            private SumidouroDeObjeto(final FuncaoParaInt<? super T> funcao, final SumidouroInt abaixo) {
+                this.funcao = funcao;
+                this.abaixo = abaixo;
+            }
+
+            @Override
+            public void aceitar(final T t) {
+                abaixo.aceitar(funcao.aplicar(t));
+            }
+
+            @Override
+            public boolean saciado() {
+                return abaixo.saciado();
+            }
+
+        }
+
+    }
+
+    static final class ParaObjeto<S> implements Fonte<S> {
+
+        private final FonteInt anterior;
+
+        private final FuncaoDeInt<S> funcao;
+
+        ParaObjeto(final FonteInt anterior, final FuncaoDeInt<S> funcao) {
+            this.anterior = anterior;
+            this.funcao = funcao;
+        }
+
+        @Override
+        public void percorrer(final Sumidouro<? super S> sumidouro) {
+            anterior.percorrer(new SumidouroParaObjeto<>(funcao, sumidouro));
+        }
+
+        private static final class SumidouroParaObjeto<S> implements SumidouroInt {
+
+            private final FuncaoDeInt<S> funcao;
+
+            private final Sumidouro<? super S> abaixo;
+
+            private SumidouroParaObjeto(final FuncaoDeInt<S> funcao, final Sumidouro<? super S> abaixo) {
+                this.funcao = funcao;
+                this.abaixo = abaixo;
+            }
+
+            @Override
+            public void aceitar(final int valor) {
+
+                final S mapeado = funcao.aplicar(valor);
+
+                if (mapeado != null) abaixo.aceitar(mapeado);
+
+            }
+
+            @Override
+            public boolean saciado() {
+                return abaixo.saciado();
+            }
+
+        }
+
+    }
+
+    static final class ParaLong implements FonteLong {
+
+        private final FonteInt anterior;
+
+        ParaLong(final FonteInt anterior) {
+            this.anterior = anterior;
+        }
+
+        @Override
+        public void percorrer(final SumidouroLong sumidouro) {
+            anterior.percorrer(new SumidouroParaLong(sumidouro));
+        }
+
+        @Override
+        public long tamanhoExato() {
+            return anterior.tamanhoExato();
+        }
+
+        private static final class SumidouroParaLong implements SumidouroInt {
+
+            private final SumidouroLong abaixo;
+
+            private SumidouroParaLong(final SumidouroLong abaixo) {
+                this.abaixo = abaixo;
+            }
+
+            @Override
+            public void aceitar(final int valor) {
+                abaixo.aceitar(valor);
+            }
+
+            @Override
+            public boolean saciado() {
+                return abaixo.saciado();
+            }
+
+        }
+
+    }
+
+    static final class ParaDouble implements FonteDouble {
+
+        private final FonteInt anterior;
+
+        ParaDouble(final FonteInt anterior) {
+            this.anterior = anterior;
+        }
+
+        @Override
+        public void percorrer(final SumidouroDouble sumidouro) {
+            anterior.percorrer(new SumidouroParaDouble(sumidouro));
+        }
+
+        @Override
+        public long tamanhoExato() {
+            return anterior.tamanhoExato();
+        }
+
+        private static final class SumidouroParaDouble implements SumidouroInt {
+
+            private final SumidouroDouble abaixo;
+
+            private SumidouroParaDouble(final SumidouroDouble abaixo) {
+                this.abaixo = abaixo;
+            }
+
+            @Override
+            public void aceitar(final int valor) {
+                abaixo.aceitar(valor);
+            }
+
+            @Override
+            public boolean saciado() {
+                return abaixo.saciado();
+            }
+
+        }
+
+    }
+
+    static final class Mapeamento implements FonteInt {
+
+        private final FonteInt anterior;
+
+        private final OperacaoUnariaInt operacao;
+
+        Mapeamento(final FonteInt anterior, final OperacaoUnariaInt operacao) {
+            this.anterior = anterior;
+            this.operacao = operacao;
+        }
+
+        @Override
+        public void percorrer(final SumidouroInt sumidouro) {
+            anterior.percorrer(new SumidouroMapeamento(operacao, sumidouro));
+        }
+
+        @Override
+        public long tamanhoExato() {
+            return anterior.tamanhoExato();
+        }
+
+        private static final class SumidouroMapeamento extends Encadeado {
+
+            private final OperacaoUnariaInt operacao;
+
+            private SumidouroMapeamento(final OperacaoUnariaInt operacao, final SumidouroInt abaixo) {
+                super(abaixo);
+                this.operacao = operacao;
+            }
+
+            @Override
+            public void aceitar(final int valor) {
+                abaixo.aceitar(operacao.operar(valor));
+            }
+
+        }
+
+    }
+
+    static final class Filtro implements FonteInt {
+
+        private final FonteInt anterior;
+
+        private final PredicadoInt predicado;
+
+        Filtro(final FonteInt anterior, final PredicadoInt predicado) {
+            this.anterior = anterior;
+            this.predicado = predicado;
+        }
+
+        @Override
+        public void percorrer(final SumidouroInt sumidouro) {
+            anterior.percorrer(new SumidouroFiltro(predicado, sumidouro));
+        }
+
+        private static final class SumidouroFiltro extends Encadeado {
+
+            private final PredicadoInt predicado;
+
+            private SumidouroFiltro(final PredicadoInt predicado, final SumidouroInt abaixo) {
+                super(abaixo);
+                this.predicado = predicado;
+            }
+
+            @Override
+            public void aceitar(final int valor) {
+                if (predicado.teste(valor)) abaixo.aceitar(valor);
+            }
+
+        }
+
+    }
+
+    static final class Limite implements FonteInt {
+
+        private final FonteInt anterior;
+
+        private final long quantidade;
+
+        Limite(final FonteInt anterior, final long quantidade) {
+            this.anterior = anterior;
+            this.quantidade = quantidade;
+        }
+
+        @Override
+        public void percorrer(final SumidouroInt sumidouro) {
+            anterior.percorrer(new SumidouroLimite(quantidade, sumidouro));
+        }
+
+        private static final class SumidouroLimite extends Encadeado {
+
+            private long restantes;
+
+            private SumidouroLimite(final long quantidade, final SumidouroInt abaixo) {
+                super(abaixo);
+                this.restantes = quantidade;
+            }
+
+            @Override
+            public void aceitar(final int valor) {
+                if (restantes > 0) {
+                    restantes--;
+                    abaixo.aceitar(valor);
+                }
+            }
+
+            @Override
+            public boolean saciado() {
+                return restantes == 0 || abaixo.saciado();
+            }
+
+        }
+
+    }
+
+    static final class Pular implements FonteInt {
+
+        private final FonteInt anterior;
+
+        private final long quantidade;
+
+        Pular(final FonteInt anterior, final long quantidade) {
+            this.anterior = anterior;
+            this.quantidade = quantidade;
+        }
+
+        @Override
+        public void percorrer(final SumidouroInt sumidouro) {
+            anterior.percorrer(new SumidouroPular(quantidade, sumidouro));
+        }
+
+        private static final class SumidouroPular extends Encadeado {
+
+            private long restantes;
+
+            private SumidouroPular(final long quantidade, final SumidouroInt abaixo) {
+                super(abaixo);
+                this.restantes = quantidade;
+            }
+
+            @Override
+            public void aceitar(final int valor) {
+                if (restantes > 0) {
+                    restantes--;
+                } else {
+                    abaixo.aceitar(valor);
+                }
+            }
+
+        }
+
+    }
+
+    static final class TomarEnquanto implements FonteInt {
+
+        private final FonteInt anterior;
+
+        private final PredicadoInt predicado;
+
+        TomarEnquanto(final FonteInt anterior, final PredicadoInt predicado) {
+            this.anterior = anterior;
+            this.predicado = predicado;
+        }
+
+        @Override
+        public void percorrer(final SumidouroInt sumidouro) {
+            anterior.percorrer(new SumidouroTomarEnquanto(predicado, sumidouro));
+        }
+
+        private static final class SumidouroTomarEnquanto extends Encadeado {
+
+            private final PredicadoInt predicado;
+
+            private boolean encerrado;
+
+            private SumidouroTomarEnquanto(final PredicadoInt predicado, final SumidouroInt abaixo) {
+                super(abaixo);
+                this.predicado = predicado;
+            }
+
+            @Override
+            public void aceitar(final int valor) {
+                if (!encerrado && predicado.teste(valor)) {
+                    abaixo.aceitar(valor);
+                } else {
+                    encerrado = true;
+                }
+            }
+
+            @Override
+            public boolean saciado() {
+                return encerrado || abaixo.saciado();
+            }
+
+        }
+
+    }
+
+    static final class DescartarEnquanto implements FonteInt {
+
+        private final FonteInt anterior;
+
+        private final PredicadoInt predicado;
+
+        DescartarEnquanto(final FonteInt anterior, final PredicadoInt predicado) {
+            this.anterior = anterior;
+            this.predicado = predicado;
+        }
+
+        @Override
+        public void percorrer(final SumidouroInt sumidouro) {
+            anterior.percorrer(new SumidouroDescartarEnquanto(predicado, sumidouro));
+        }
+
+        private static final class SumidouroDescartarEnquanto extends Encadeado {
+
+            private final PredicadoInt predicado;
+
+            private boolean descartando = true;
+
+            private SumidouroDescartarEnquanto(final PredicadoInt predicado, final SumidouroInt abaixo) {
+                super(abaixo);
+                this.predicado = predicado;
+            }
+
+            @Override
+            public void aceitar(final int valor) {
+
+                if (descartando && predicado.teste(valor)) return;
+
+                descartando = false;
+
+                abaixo.aceitar(valor);
+
+            }
+
+        }
+
+    }
+
+    /**
+     * Ver {@link br.projeto.blastin.jstream.Distintos}.
+     */
+    static final class Distintos implements FonteInt {
+
+        private final FonteInt anterior;
+
+        Distintos(final FonteInt anterior) {
+            this.anterior = anterior;
+        }
+
+        @Override
+        public void percorrer(final SumidouroInt sumidouro) {
+            anterior.percorrer(new SumidouroDistintos(new ConjuntoInt(anterior.tamanhoExato()), sumidouro));
+        }
+
+        private static final class SumidouroDistintos extends Encadeado {
+
+            private final ConjuntoInt vistos;
+
+            private SumidouroDistintos(final ConjuntoInt vistos, final SumidouroInt abaixo) {
+                super(abaixo);
+                this.vistos = vistos;
+            }
+
+            @Override
+            public void aceitar(final int valor) {
+                if (vistos.adicionar(valor)) abaixo.aceitar(valor);
+            }
+
+        }
+
+    }
+
+    /**
+     * Acumula todos os valores e os repassa em ordem crescente, ordenados por {@link OrdenacaoRadix}.
+     */
+    static final class Ordenado implements FonteInt {
+
+        private final FonteInt anterior;
+
+        Ordenado(final FonteInt anterior) {
+            this.anterior = anterior;
+        }
+
+        @Override
+        public void percorrer(final SumidouroInt sumidouro) {
+
+            final Acumulo acumulo = new Acumulo(anterior.tamanhoExato());
+
+            anterior.percorrer(acumulo);
+
+            OrdenacaoRadix.ordenar(acumulo.valores, acumulo.tamanho);
+
+            for (int i = 0; i < acumulo.tamanho && !sumidouro.saciado(); i++) sumidouro.aceitar(acumulo.valores[i]);
+
+            Arena.devolver(acumulo.valores);
+
+        }
+
+        @Override
+        public long tamanhoExato() {
+            return anterior.tamanhoExato();
+        }
+
+        private static final class Acumulo implements SumidouroInt {
+
+            private int[] valores;
+
+            private int tamanho;
+
+            private Acumulo(final long tamanhoExato) {
+                valores = Arena.ints(Arena.capacidadeInicial(tamanhoExato));
+            }
+
+            @Override
+            public void aceitar(final int valor) {
+                if (tamanho == valores.length) valores = Arena.crescer(valores, tamanho);
+                valores[tamanho++] = valor;
+            }
+
+        }
+
+    }
+
+    private abstract static class Encadeado implements SumidouroInt {
+
+        final SumidouroInt abaixo;
+
+        private Encadeado(final SumidouroInt abaixo) {
+            this.abaixo = abaixo;
+        }
+
+        @Override
+        public boolean saciado() {
+            return abaixo.saciado();
+        }
+
+    }
+
+}
@@ -0,0 +1,567 @@
+package br.projeto.blastin.jstream;
+
+/**
+ * Fontes e estágios de {@link JLongStream}, espelhando os estágios de {@link JStream} sem encaixotar valores.
+ */
+final class FontesLong {
+
+    private FontesLong() {
+    }
+
+    static final class Arranjo implements FonteLong {
+
+        private final long[] valores;
+
+        private final int inicio;
+
+        private final int fim;
+
+        Arranjo(final long[] valores) {
+            this(valores, 0, valores.length);
+        }
+
+        private Arranjo(final long[] valores, final int inicio, final int fim) {
+            this.valores = valores;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        public void percorrer(final SumidouroLong sumidouro) {
+            for (int i = inicio; i < fim && !sumidouro.saciado(); i++) {
+                sumidouro.aceitar(valores[i]);
+            }
+        }
+
+        @Override
+        public long tamanhoExato() {
+            return fim - inicio;
+        }
+
+        @Override
+        public FonteLong limite(final long quantidade) {
+            return new Arranjo(valores, inicio, deslocamento(quantidade));
+        }
+
+        @Override
+        public FonteLong pular(final long quantidade) {
+            return new Arranjo(valores, deslocamento(quantidade), fim);
+        }
+
+        private int deslocamento(final long quantidade) {
+            return quantidade < fim - inicio ? inicio + (int) quantidade : fim;
+        }
+
+    }
+
+    static final class Intervalo implements FonteLong {
+
+        private final long inicio;
+
+        private final long fim;
+
+        Intervalo(final long inicio, final long fim) {
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        public void percorrer(final SumidouroLong sumidouro) {
+            for (long valor = inicio; valor < fim && !sumidouro.saciado(); valor++) {
+                sumidouro.aceitar(valor);
+            }
+        }
+
+        @Override
+        public long tamanhoExato() {
+            return Math.max(-1, fim - inicio);
+        }
+
+        @Override
+        public FonteLong limite(final long quantidade) {
+            return new Intervalo(inicio, deslocamento(quantidade));
+        }
+
+        @Override
+        public FonteLong pular(final long quantidade) {
+            return new Intervalo(deslocamento(quantidade), fim);
+        }
+
+        private long deslocamento(final long quantidade) {
+            return Long.compareUnsigned(quantidade, fim - inicio) < 0 ? inicio + quantidade : fim;
+        }
+
+    }
+
+    static final class DeObjeto<T> implements FonteLong {
+
+        private final Fonte<T> anterior;
+
+        private final FuncaoParaLong<? super T> funcao;
+
+        DeObjeto(final Fonte<T> anterior, final FuncaoParaLong<? super T> funcao) {
+            this.anterior = anterior;
+            this.funcao = funcao;
+        }
+
+        @Override
+        public void percorrer(final SumidouroLong sumidouro) {
+            anterior.percorrer(new SumidouroDeObjeto<>(funcao, sumidouro));
+        }
+
+        @Override
+        public long tamanhoExato() {
+            return anterior.tamanhoExato();
+        }
+
+        private static final class SumidouroDeObjeto<T> implements Sumidouro<T> {
+
+            private final FuncaoParaLong<? super T> funcao;
+
+            private final SumidouroLong abaixo;
+
+            private SumidouroDeObjeto(final FuncaoParaLong<? super T> funcao, final SumidouroLong abaixo) {
+                this.funcao = funcao;
+                this.abaixo = abaixo;
+            }
+
+            @Override
+            public void aceitar(final T t) {
+                abaixo.aceitar(funcao.aplicar(t));
+            }
+
+            @Override
+            public boolean saciado() {
+                return abaixo.saciado();
+            }
+
+        }
+
+    }
+
+    static final class ParaObjeto<S> implements Fonte<S> {
+
+        private final FonteLong anterior;
+
+        private final FuncaoDeLong<S> funcao;
+
+        ParaObjeto(final FonteLong anterior, final FuncaoDeLong<S> funcao) {
+            this.anterior = anterior;
+            this.funcao = funcao;
+        }
+
+        @Override
+        public void percorrer(final Sumidouro<? super S> sumidouro) {
+            anterior.percorrer(new SumidouroParaObjeto<>(funcao, sumidouro));
+        }
+
+        private static final class SumidouroParaObjeto<S> implements SumidouroLong {
+
+            private final FuncaoDeLong<S> funcao;
+
+            private final Sumidouro<? super S> abaixo;
+
+            private SumidouroParaObjeto(final FuncaoDeLong<S> funcao, final Sumidouro<? super S> abaixo) {
+                this.funcao = funcao;
+                this.abaixo = abaixo;
+            }
+
+            @Override
+            public void aceitar(final long valor) {
+
+                final S mapeado = funcao.aplicar(valor);
+
+                if (mapeado != null) abaixo.aceitar(mapeado);
+
+            }
+
+            @Override
+            public boolean saciado() {
+                return abaixo.saciado();
+            }
+
+        }
+
+    }
+
+    static final class ParaDouble implements FonteDouble {
+
+        private final FonteLong anterior;
+
+        ParaDouble(final FonteLong anterior) {
+            this.anterior = anterior;
+        }
+
+        @Override
+        public void percorrer(final SumidouroDouble sumidouro) {
+            anterior.percorrer(new SumidouroParaDouble(sumidouro));
+        }
+
+        @Override
+        public long tamanhoExato() {
+            return anterior.tamanhoExato();
+        }
+
+        private static final class SumidouroParaDouble implements SumidouroLong {
+
+            private final SumidouroDouble abaixo;
+
+            private SumidouroParaDouble(final SumidouroDouble abaixo) {
+                this.abaixo = abaixo;
+            }
+
+            @Override
+            public void aceitar(final long valor) {
+                abaixo.aceitar(valor);
+            }
+
+            @Override
+            public boolean saciado() {
+                return abaixo.saciado();
+            }
+
+        }
+
+    }
+
+    static final class Mapeamento implements FonteLong {
+
+        private final FonteLong anterior;
+
+        private final OperacaoUnariaLong operacao;
+
+        Mapeamento(final FonteLong anterior, final OperacaoUnariaLong operacao) {
+            this.anterior = anterior;
+            this.operacao = operacao;
+        }
+
+        @Override
+        public void percorrer(final SumidouroLong sumidouro) {
+            anterior.percorrer(new SumidouroMapeamento(operacao, sumidouro));
+        }
+
+        @Override
+        public long tamanhoExato() {
+            return anterior.tamanhoExato();
+        }
+
+        private static final class SumidouroMapeamento extends Encadeado {
+
+            private final OperacaoUnariaLong operacao;
+
+            private SumidouroMapeamento(final OperacaoUnariaLong operacao, final SumidouroLong abaixo) {
+                super(abaixo);
+                this.operacao = operacao;
+            }
+
+            @Override
+            public void aceitar(final long valor) {
+                abaixo.aceitar(operacao.operar(valor));
+            }
+
+        }
+
+    }
+
+    static final class Filtro implements FonteLong {
+
+        private final FonteLong anterior;
+
+        private final PredicadoLong predicado;
+
+        Filtro(final FonteLong anterior, final PredicadoLong predicado) {
+            this.anterior = anterior;
+            this.predicado = predicado;
+        }
+
+        @Override
+        public void percorrer(final SumidouroLong sumidouro) {
+            anterior.percorrer(new SumidouroFiltro(predicado, sumidouro));
+        }
+
+        private static final class SumidouroFiltro extends Encadeado {
+
+            private final PredicadoLong predicado;
+
+            private SumidouroFiltro(final PredicadoLong predicado, final SumidouroLong abaixo) {
+                super(abaixo);
+                this.predicado = predicado;
+            }
+
+            @Override
+            public void aceitar(final long valor) {
+                if (predicado.teste(valor)) abaixo.aceitar(valor);
+            }
+
+        }
+
+    }
+
+    static final class Limite implements FonteLong {
+
+        private final FonteLong anterior;
+
+        private final long quantidade;
+
+        Limite(final FonteLong anterior, final long quantidade) {
+            this.anterior = anterior;
+            this.quantidade = quantidade;
+        }
+
+        @Override
+        public void percorrer(final SumidouroLong sumidouro) {
+            anterior.percorrer(new SumidouroLimite(quantidade, sumidouro));
+        }
+
+        private static final class SumidouroLimite extends Encadeado {
+
+            private long restantes;
+
+            private SumidouroLimite(final long quantidade, final SumidouroLong abaixo) {
+                super(abaixo);
+                this.restantes = quantidade;
+            }
+
+            @Override
+            public void aceitar(final long valor) {
+                if (restantes > 0) {
+                    restantes--;
+                    abaixo.aceitar(valor);
+                }
+            }
+
+            @Override
+            public boolean saciado() {
+                return restantes == 0 || abaixo.saciado();
+            }
+
+        }
+
+    }
+
+    static final class Pular implements FonteLong {
+
+        private final FonteLong anterior;
+
+        private final long quantidade;
+
+        Pular(final FonteLong anterior, final long quantidade) {
+            this.anterior = anterior;
+            this.quantidade = quantidade;
+        }
+
+        @Override
+        public void percorrer(final SumidouroLong sumidouro) {
+            anterior.percorrer(new SumidouroPular(quantidade, sumidouro));
+        }
+
+        private static final class SumidouroPular extends Encadeado {
+
+            private long restantes;
+
+            private SumidouroPular(final long quantidade, final SumidouroLong abaixo) {
+                super(abaixo);
+                this.restantes = quantidade;
+            }
+
+            @Override
+            public void aceitar(final long valor) {
+                if (restantes > 0) {
+                    restantes--;
+                } else {
+                    abaixo.aceitar(valor);
+                }
+            }
+
+        }
+
+    }
+
+    static final class TomarEnquanto implements FonteLong {
+
+        private final FonteLong anterior;
+
+        private final PredicadoLong predicado;
+
+        TomarEnquanto(final FonteLong anterior, final PredicadoLong predicado) {
+            this.anterior = anterior;
+            this.predicado = predicado;
+        }
+
+        @Override
+        public void percorrer(final SumidouroLong sumidouro) {
+            anterior.percorrer(new SumidouroTomarEnquanto(predicado, sumidouro));
+        }
+
+        private static final class SumidouroTomarEnquanto extends Encadeado {
+
+            private final PredicadoLong predicado;
+
+            private boolean encerrado;
+
+            private SumidouroTomarEnquanto(final PredicadoLong predicado, final SumidouroLong abaixo) {
+                super(abaixo);
+                this.predicado = predicado;
+            }
+
+            @Override
+            public void aceitar(final long valor) {
+                if (!encerrado && predicado.teste(valor)) {
+                    abaixo.aceitar(valor);
+                } else {
+                    encerrado = true;
+                }
+            }
+
+            @Override
+            public boolean saciado() {
+                return encerrado || abaixo.saciado();
+            }
+
+        }
+
+    }
+
+    static final class DescartarEnquanto implements FonteLong {
+
+        private final FonteLong anterior;
+
+        private final PredicadoLong predicado;
+
+        DescartarEnquanto(final FonteLong anterior, final PredicadoLong predicado) {
+            this.anterior = anterior;
+            this.predicado = predicado;
+        }
+
+        @Override
+        public void percorrer(final SumidouroLong sumidouro) {
+            anterior.percorrer(new SumidouroDescartarEnquanto(predicado, sumidouro));
+        }
+
+        private static final class SumidouroDescartarEnquanto extends Encadeado {
+
+            private final PredicadoLong predicado;
+
+            private boolean descartando = true;
+
+            private SumidouroDescartarEnquanto(final PredicadoLong predicado, final SumidouroLong abaixo) {
+                super(abaixo);
+                this.predicado = predicado;
+            }
+
+            @Override
+            public void aceitar(final long valor) {
+
+                if (descartando && predicado.teste(valor)) return;
+
+                descartando = false;
+
+                abaixo.aceitar(valor);
+
+            }
+
+        }
+
+    }
+
+    /**
+     * Ver {@link br.projeto.blastin.jstream.Distintos}.
+     */
+    static final class Distintos implements FonteLong {
+
+        private final FonteLong anterior;
+
+        Distintos(final FonteLong anterior) {
+            this.anterior = anterior;
+        }
+
+        @Override
+        public void percorrer(final SumidouroLong sumidouro) {
+            anterior.percorrer(new SumidouroDistintos(new ConjuntoLong(anterior.tamanhoExato()), sumidouro));
+        }
+
+        private static final class SumidouroDistintos extends Encadeado {
+
+            private final ConjuntoLong vistos;
+
+            private SumidouroDistintos(final ConjuntoLong vistos, final SumidouroLong abaixo) {
+                super(abaixo);
+                this.vistos = vistos;
+            }
+
+            @Override
+            public void aceitar(final long valor) {
+                if (vistos.adicionar(valor)) abaixo.aceitar(valor);
+            }
+
+        }
+
+    }
+
+    /**
+     * Acumula todos os valores e os repassa em ordem crescente, ordenados por {@link OrdenacaoRadix}.
+     */
+    static final class Ordenado implements FonteLong {
+
+        private final FonteLong anterior;
+
+        Ordenado(final FonteLong anterior) {
+            this.anterior = anterior;
+        }
+
+        @Override
+        public void percorrer(final SumidouroLong sumidouro) {
+
+            final Acumulo acumulo = new Acumulo(anterior.tamanhoExato());
+
+            anterior.percorrer(acumulo);
+
+            OrdenacaoRadix.ordenar(acumulo.valores, acumulo.tamanho);
+
+            for (int i = 0; i < acumulo.tamanho && !sumidouro.saciado(); i++) sumidouro.aceitar(acumulo.valores[i]);
+
+            Arena.devolver(acumulo.valores);
+
+        }
+
+        @Override
+        public long tamanhoExato() {
+            return anterior.tamanhoExato();
+        }
+
+        private static final class Acumulo implements SumidouroLong {
+
+            private long[] valores;
+
+            private int tamanho;
+
+            private Acumulo(final long tamanhoExato) {
+                valores = Arena.longs(Arena.capacidadeInicial(tamanhoExato));
+            }
+
+            @Override
+            public void aceitar(final long valor) {
+                if (tamanho == valores.length) valores = Arena.crescer(valores, tamanho);
+                valores[tamanho++] = valor;
+            }
+
+        }
+
+    }
+
+    private abstract static class Encadeado implements SumidouroLong {
+
+        final SumidouroLong abaixo;
+
+        private Encadeado(final SumidouroLong abaixo) {
+            this.abaixo = abaixo;
+        }
+
+        @Override
+        public boolean saciado() {
+            return abaixo.saciado();
+        }
+
+    }
+
+}
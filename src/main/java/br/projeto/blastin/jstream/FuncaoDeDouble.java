@@ -0,0 +1,8 @@
+package br.projeto.blastin.jstream;
+
+@FunctionalInterface
+public interface FuncaoDeDouble<R> {
+
+    R aplicar(final double valor);
+
+}
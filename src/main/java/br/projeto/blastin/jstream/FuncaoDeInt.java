@@ -0,0 +1,8 @@
+package br.projeto.blastin.jstream;
+
+@FunctionalInterface
+public interface FuncaoDeInt<R> {
+
+    R aplicar(final int valor);
+
+}
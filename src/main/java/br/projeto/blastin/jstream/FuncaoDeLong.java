@@ -0,0 +1,8 @@
+package br.projeto.blastin.jstream;
+
+@FunctionalInterface
+public interface FuncaoDeLong<R> {
+
+    R aplicar(final long valor);
+
+}
@@ -0,0 +1,8 @@
+package br.projeto.blastin.jstream;
+
+@FunctionalInterface
+public interface FuncaoParaDouble<T> {
+
+    double aplicar(final T t);
+
+}
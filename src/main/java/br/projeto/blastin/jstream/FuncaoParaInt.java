@@ -0,0 +1,8 @@
+package br.projeto.blastin.jstream;
+
+@FunctionalInterface
+public interface FuncaoParaInt<T> {
+
+    int aplicar(final T t);
+
+}
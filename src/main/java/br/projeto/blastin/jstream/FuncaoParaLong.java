@@ -0,0 +1,8 @@
+package br.projeto.blastin.jstream;
+
+@FunctionalInterface
+public interface FuncaoParaLong<T> {
+
+    long aplicar(final T t);
+
+}
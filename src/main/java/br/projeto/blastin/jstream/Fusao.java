@@ -0,0 +1,121 @@
+package br.projeto.blastin.jstream;
+
+import br.projeto.blastin.joptional.Funcao;
+import br.projeto.blastin.joptional.Predicado;
+
+import java.util.Comparator;
+
+/**
+ * Estágio único que aplica, a cada elemento, a sequência de mapeamentos e filtros de um {@link JPipeline}, com
+ * um só sumidouro por percurso em vez de um por estágio. Como em {@link Mapeamento}, resultados nulos são
+ * descartados.
+ */
+final class Fusao<E, S> implements Fonte<S> {
+
+    private final Fonte<E> anterior;
+
+    /**
+     * {@link Funcao} ou, nas posições marcadas em {@code filtros}, {@link Predicado}
+     */
+    private final Object[] operacoes;
+
+    private final boolean[] filtros;
+
+    Fusao(final Fonte<E> anterior, final Object[] operacoes, final boolean[] filtros) {
+        this.anterior = anterior;
+        this.operacoes = operacoes;
+        this.filtros = filtros;
+    }
+
+    @Override
+    public void percorrer(final Sumidouro<? super S> sumidouro) {
+        anterior.percorrer(new SumidouroFusao<>(operacoes, filtros, sumidouro));
+    }
+
+    @Override
+    public long tamanhoEstimado() {
+        return tamanhoEstimado(anterior, filtros);
+    }
+
+    @Override
+    public int caracteristicas() {
+        return caracteristicas(anterior, filtros);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Comparator<? super S> comparador() {
+        return mapeia(filtros) ? null : ((Fonte<S>) anterior).comparador();
+    }
+
+    @Override
+    public long extensao() {
+        return anterior.extensao();
+    }
+
+    @Override
+    public Fonte<S> fatia(final long inicio, final long fim) {
+        return new Fusao<>(anterior.fatia(inicio, fim), operacoes, filtros);
+    }
+
+    /**
+     * Só filtros preservam as características da fonte.
+     */
+    static int caracteristicas(final Fonte<?> anterior, final boolean[] filtros) {
+        return mapeia(filtros) ? 0 : anterior.caracteristicas();
+    }
+
+    /**
+     * Sem filtros, o tamanho da fonte é um limite superior.
+     */
+    static long tamanhoEstimado(final Fonte<?> anterior, final boolean[] filtros) {
+        for (final boolean filtro : filtros) if (filtro) return -1;
+        return anterior.tamanhoEstimado();
+    }
+
+    static boolean mapeia(final boolean[] filtros) {
+        for (final boolean filtro : filtros) if (!filtro) return true;
+        return false;
+    }
+
+    private static final class SumidouroFusao<E, S> implements Sumidouro<E> {
+
+        private final Object[] operacoes;
+
+        private final boolean[] filtros;
+
+        private final Sumidouro<? super S> abaixo;
+
+        private SumidouroFusao(final Object[] operacoes, final boolean[] filtros, final Sumidouro<? super S> abaixo) {
+            this.operacoes = operacoes;
+            this.filtros = filtros;
+            this.abaixo = abaixo;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void aceitar(final E e) {
+
+            Object valor = e;
+
+            for (int i = 0; i < operacoes.length; i++) {
+                if (filtros[i]) {
+                    if (!((Predicado<Object>) operacoes[i]).teste(valor)) return;
+                } else {
+                    valor = ((Funcao<Object, ?>) operacoes[i]).aplicar(valor);
+                    if (valor == null) return;
+                }
+            }
+
+            abaixo.aceitar((S) valor);
+
+        }
+
+        @Override
+        public boolean saciado() {
+            return abaixo.saciado();
+        }
+
+    }
+
+}
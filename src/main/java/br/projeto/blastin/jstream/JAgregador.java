@@ -0,0 +1,48 @@
+package br.projeto.blastin.jstream;
+
+/**
+ * Agregação aplicada a cada grupo de {@link JStream#agruparPor(br.projeto.blastin.joptional.Funcao, JAgregador)},
+ * ou à stream inteira em {@link JStream#agregar(JAgregador, JAgregador)}. Os acumuladores de todos os grupos ficam numa única coluna, um arranjo indexado pela ordem de chegada do
+ * grupo, em vez de um objeto por grupo. As implementações são obtidas em {@link JAgregadores}.
+ *
+ * @param <T> tipo dos elementos agregados
+ * @param <R> tipo do resultado de cada grupo
+ */
+public abstract class JAgregador<T, R> {
+
+    JAgregador() {
+    }
+
+    abstract Coluna<T, R> coluna(int capacidade);
+
+    /**
+     * resultado sem elementos, ou {@code null} quando o agregador não o define
+     */
+    abstract R vazio();
+
+    abstract static class Coluna<T, R> {
+
+        /**
+         * primeiro elemento do grupo
+         */
+        abstract void iniciar(int grupo, T t);
+
+        abstract void acumular(int grupo, T t);
+
+        /**
+         * inicia o grupo com o acumulador de outra coluna do mesmo agregador
+         */
+        abstract void copiar(int grupo, Coluna<T, R> outra, int grupoOutra);
+
+        /**
+         * combina o acumulador de outra coluna do mesmo agregador, que vem depois na ordem de encontro
+         */
+        abstract void combinar(int grupo, Coluna<T, R> outra, int grupoOutra);
+
+        abstract void crescer(int capacidade);
+
+        abstract R resultado(int grupo);
+
+    }
+
+}
@@ -0,0 +1,448 @@
+package br.projeto.blastin.jstream;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Agregadores para {@link JStream#agruparPor(br.projeto.blastin.joptional.Funcao, JAgregador)}. Contagem, soma,
+ * mínimo e máximo acumulam em colunas primitivas; só o resultado final de cada grupo é encaixotado. Os mesmos
+ * agregadores servem a {@link JStream#agregar(JAgregador, JAgregador)}, que calcula vários numa única passada.
+ */
+public final class JAgregadores {
+
+    private JAgregadores() {
+    }
+
+    private static final JAgregador<Object, Long> CONTAGEM = new AgregadorLong<>(t -> 1, Long::sum, 0L);
+
+    public static JAgregador<Object, Long> contagem() {
+        return CONTAGEM;
+    }
+
+    public static <T> JAgregador<T, Long> soma(final FuncaoParaLong<? super T> valor) {
+        Objects.requireNonNull(valor);
+        return new AgregadorLong<>(valor, Long::sum, 0L);
+    }
+
+    public static <T> JAgregador<T, Double> somaDouble(final FuncaoParaDouble<? super T> valor) {
+        Objects.requireNonNull(valor);
+        return new AgregadorDouble<>(valor, Double::sum, 0.0);
+    }
+
+    public static <T> JAgregador<T, Long> minimo(final FuncaoParaLong<? super T> valor) {
+        Objects.requireNonNull(valor);
+        return new AgregadorLong<>(valor, Math::min, null);
+    }
+
+    public static <T> JAgregador<T, Long> maximo(final FuncaoParaLong<? super T> valor) {
+        Objects.requireNonNull(valor);
+        return new AgregadorLong<>(valor, Math::max, null);
+    }
+
+    /**
+     * Reduz os elementos de cada grupo, na ordem de encontro, semeando com o primeiro elemento do grupo.
+     */
+    public static <T> JAgregador<T, T> reducao(final OperacaoBinaria<T> operacao) {
+        Objects.requireNonNull(operacao);
+        return new AgregadorReducao<>(operacao, false, null);
+    }
+
+    /**
+     * Reduz os elementos de cada grupo, na ordem de encontro, a partir da identidade, que também é o resultado
+     * sem elementos. A operação deve ser associativa e {@code identidade} neutra para ela, pois parciais
+     * paralelos são semeados com a identidade e depois combinados.
+     */
+    public static <T> JAgregador<T, T> reducao(final T identidade, final OperacaoBinaria<T> operacao) {
+        Objects.requireNonNull(operacao);
+        return new AgregadorReducao<>(operacao, true, identidade);
+    }
+
+    /**
+     * Quantidade, soma, mínimo, máximo e média dos valores, em quatro colunas primitivas.
+     */
+    public static <T> JAgregador<T, JEstatisticasLong> estatisticas(final FuncaoParaLong<? super T> valor) {
+        Objects.requireNonNull(valor);
+        return new AgregadorEstatisticasLong<>(valor);
+    }
+
+    public static <T> JAgregador<T, JEstatisticasDouble> estatisticasDouble(final FuncaoParaDouble<? super T> valor) {
+        Objects.requireNonNull(valor);
+        return new AgregadorEstatisticasDouble<>(valor);
+    }
+
+    private static final class AgregadorLong<T> extends JAgregador<T, Long> {
+
+        private final FuncaoParaLong<? super T> valor;
+
+        private final OperacaoBinariaLong operacao;
+
+        private final Long vazio;
+
+        private AgregadorLong(final FuncaoParaLong<? super T> valor, final OperacaoBinariaLong operacao, final Long vazio) {
+            this.valor = valor;
+            this.operacao = operacao;
+            this.vazio = vazio;
+        }
+
+        @Override
+        Coluna<T, Long> coluna(final int capacidade) {
+            return new ColunaLong(capacidade);
+        }
+
+        @Override
+        Long vazio() {
+            return vazio;
+        }
+
+        private final class ColunaLong extends Coluna<T, Long> {
+
+            private long[] acumulos;
+
+            private ColunaLong(final int capacidade) {
+                acumulos = new long[capacidade];
+            }
+
+            @Override
+            void iniciar(final int grupo, final T t) {
+                acumulos[grupo] = valor.aplicar(t);
+            }
+
+            @Override
+            void acumular(final int grupo, final T t) {
+                acumulos[grupo] = operacao.operar(acumulos[grupo], valor.aplicar(t));
+            }
+
+            @Override
+            void copiar(final int grupo, final Coluna<T, Long> outra, final int grupoOutra) {
+                acumulos[grupo] = ((ColunaLong) outra).acumulos[grupoOutra];
+            }
+
+            @Override
+            void combinar(final int grupo, final Coluna<T, Long> outra, final int grupoOutra) {
+                acumulos[grupo] = operacao.operar(acumulos[grupo], ((ColunaLong) outra).acumulos[grupoOutra]);
+            }
+
+            @Override
+            void crescer(final int capacidade) {
+                acumulos = Arrays.copyOf(acumulos, capacidade);
+            }
+
+            @Override
+            Long resultado(final int grupo) {
+                return acumulos[grupo];
+            }
+
+        }
+
+    }
+
+    private static final class AgregadorDouble<T> extends JAgregador<T, Double> {
+
+        private final FuncaoParaDouble<? super T> valor;
+
+        private final OperacaoBinariaDouble operacao;
+
+        private final Double vazio;
+
+        private AgregadorDouble(final FuncaoParaDouble<? super T> valor, final OperacaoBinariaDouble operacao, final Double vazio) {
+            this.valor = valor;
+            this.operacao = operacao;
+            this.vazio = vazio;
+        }
+
+        @Override
+        Coluna<T, Double> coluna(final int capacidade) {
+            return new ColunaDouble(capacidade);
+        }
+
+        @Override
+        Double vazio() {
+            return vazio;
+        }
+
+        private final class ColunaDouble extends Coluna<T, Double> {
+
+            private double[] acumulos;
+
+            private ColunaDouble(final int capacidade) {
+                acumulos = new double[capacidade];
+            }
+
+            @Override
+            void iniciar(final int grupo, final T t) {
+                acumulos[grupo] = valor.aplicar(t);
+            }
+
+            @Override
+            void acumular(final int grupo, final T t) {
+                acumulos[grupo] = operacao.operar(acumulos[grupo], valor.aplicar(t));
+            }
+
+            @Override
+            void copiar(final int grupo, final Coluna<T, Double> outra, final int grupoOutra) {
+                acumulos[grupo] = ((ColunaDouble) outra).acumulos[grupoOutra];
+            }
+
+            @Override
+            void combinar(final int grupo, final Coluna<T, Double> outra, final int grupoOutra) {
+                acumulos[grupo] = operacao.operar(acumulos[grupo], ((ColunaDouble) outra).acumulos[grupoOutra]);
+            }
+
+            @Override
+            void crescer(final int capacidade) {
+                acumulos = Arrays.copyOf(acumulos, capacidade);
+            }
+
+            @Override
+            Double resultado(final int grupo) {
+                return acumulos[grupo];
+            }
+
+        }
+
+    }
+
+    private static final class AgregadorReducao<T> extends JAgregador<T, T> {
+
+        private final OperacaoBinaria<T> operacao;
+
+        private final boolean semeada;
+
+        private final T identidade;
+
+        private AgregadorReducao(final OperacaoBinaria<T> operacao, final boolean semeada, final T identidade) {
+            this.operacao = operacao;
+            this.semeada = semeada;
+            this.identidade = identidade;
+        }
+
+        @Override
+        Coluna<T, T> coluna(final int capacidade) {
+            return new ColunaReducao(capacidade);
+        }
+
+        @Override
+        T vazio() {
+            return identidade;
+        }
+
+        private final class ColunaReducao extends Coluna<T, T> {
+
+            private Object[] acumulos;
+
+            private ColunaReducao(final int capacidade) {
+                acumulos = new Object[capacidade];
+            }
+
+            @Override
+            void iniciar(final int grupo, final T t) {
+                acumulos[grupo] = semeada ? operacao.operar(identidade, t) : t;
+            }
+
+            @Override
+            void acumular(final int grupo, final T t) {
+                acumulos[grupo] = operacao.operar(resultado(grupo), t);
+            }
+
+            @Override
+            void copiar(final int grupo, final Coluna<T, T> outra, final int grupoOutra) {
+                acumulos[grupo] = ((ColunaReducao) outra).acumulos[grupoOutra];
+            }
+
+            @Override
+            void combinar(final int grupo, final Coluna<T, T> outra, final int grupoOutra) {
+                acumulos[grupo] = operacao.operar(resultado(grupo), outra.resultado(grupoOutra));
+            }
+
+            @Override
+            void crescer(final int capacidade) {
+                acumulos = Arrays.copyOf(acumulos, capacidade);
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            T resultado(final int grupo) {
+                return (T) acumulos[grupo];
+            }
+
+        }
+
+    }
+
+    private static final class AgregadorEstatisticasLong<T> extends JAgregador<T, JEstatisticasLong> {
+
+        private final FuncaoParaLong<? super T> valor;
+
+        private AgregadorEstatisticasLong(final FuncaoParaLong<? super T> valor) {
+            this.valor = valor;
+        }
+
+        @Override
+        Coluna<T, JEstatisticasLong> coluna(final int capacidade) {
+            return new ColunaEstatisticas(capacidade);
+        }
+
+        @Override
+        JEstatisticasLong vazio() {
+            return JEstatisticasLong.VAZIA;
+        }
+
+        private final class ColunaEstatisticas extends Coluna<T, JEstatisticasLong> {
+
+            private long[] quantidades;
+
+            private long[] somas;
+
+            private long[] minimos;
+
+            private long[] maximos;
+
+            private ColunaEstatisticas(final int capacidade) {
+                quantidades = new long[capacidade];
+                somas = new long[capacidade];
+                minimos = new long[capacidade];
+                maximos = new long[capacidade];
+            }
+
+            @Override
+            void iniciar(final int grupo, final T t) {
+                final long v = valor.aplicar(t);
+                quantidades[grupo] = 1;
+                somas[grupo] = v;
+                minimos[grupo] = v;
+                maximos[grupo] = v;
+            }
+
+            @Override
+            void acumular(final int grupo, final T t) {
+                final long v = valor.aplicar(t);
+                quantidades[grupo]++;
+                somas[grupo] += v;
+                minimos[grupo] = Math.min(minimos[grupo], v);
+                maximos[grupo] = Math.max(maximos[grupo], v);
+            }
+
+            @Override
+            void copiar(final int grupo, final Coluna<T, JEstatisticasLong> outra, final int grupoOutra) {
+                final ColunaEstatisticas direita = (ColunaEstatisticas) outra;
+                quantidades[grupo] = direita.quantidades[grupoOutra];
+                somas[grupo] = direita.somas[grupoOutra];
+                minimos[grupo] = direita.minimos[grupoOutra];
+                maximos[grupo] = direita.maximos[grupoOutra];
+            }
+
+            @Override
+            void combinar(final int grupo, final Coluna<T, JEstatisticasLong> outra, final int grupoOutra) {
+                final ColunaEstatisticas direita = (ColunaEstatisticas) outra;
+                quantidades[grupo] += direita.quantidades[grupoOutra];
+                somas[grupo] += direita.somas[grupoOutra];
+                minimos[grupo] = Math.min(minimos[grupo], direita.minimos[grupoOutra]);
+                maximos[grupo] = Math.max(maximos[grupo], direita.maximos[grupoOutra]);
+            }
+
+            @Override
+            void crescer(final int capacidade) {
+                quantidades = Arrays.copyOf(quantidades, capacidade);
+                somas = Arrays.copyOf(somas, capacidade);
+                minimos = Arrays.copyOf(minimos, capacidade);
+                maximos = Arrays.copyOf(maximos, capacidade);
+            }
+
+            @Override
+            JEstatisticasLong resultado(final int grupo) {
+                return new JEstatisticasLong(quantidades[grupo], somas[grupo], minimos[grupo], maximos[grupo]);
+            }
+
+        }
+
+    }
+
+    private static final class AgregadorEstatisticasDouble<T> extends JAgregador<T, JEstatisticasDouble> {
+
+        private final FuncaoParaDouble<? super T> valor;
+
+        private AgregadorEstatisticasDouble(final FuncaoParaDouble<? super T> valor) {
+            this.valor = valor;
+        }
+
+        @Override
+        Coluna<T, JEstatisticasDouble> coluna(final int capacidade) {
+            return new ColunaEstatisticas(capacidade);
+        }
+
+        @Override
+        JEstatisticasDouble vazio() {
+            return JEstatisticasDouble.VAZIA;
+        }
+
+        private final class ColunaEstatisticas extends Coluna<T, JEstatisticasDouble> {
+
+            private long[] quantidades;
+
+            private double[] somas;
+
+            private double[] minimos;
+
+            private double[] maximos;
+
+            private ColunaEstatisticas(final int capacidade) {
+                quantidades = new long[capacidade];
+                somas = new double[capacidade];
+                minimos = new double[capacidade];
+                maximos = new double[capacidade];
+            }
+
+            @Override
+            void iniciar(final int grupo, final T t) {
+                final double v = valor.aplicar(t);
+                quantidades[grupo] = 1;
+                somas[grupo] = v;
+                minimos[grupo] = v;
+                maximos[grupo] = v;
+            }
+
+            @Override
+            void acumular(final int grupo, final T t) {
+                final double v = valor.aplicar(t);
+                quantidades[grupo]++;
+                somas[grupo] += v;
+                minimos[grupo] = Math.min(minimos[grupo], v);
+                maximos[grupo] = Math.max(maximos[grupo], v);
+            }
+
+            @Override
+            void copiar(final int grupo, final Coluna<T, JEstatisticasDouble> outra, final int grupoOutra) {
+                final ColunaEstatisticas direita = (ColunaEstatisticas) outra;
+                quantidades[grupo] = direita.quantidades[grupoOutra];
+                somas[grupo] = direita.somas[grupoOutra];
+                minimos[grupo] = direita.minimos[grupoOutra];
+                maximos[grupo] = direita.maximos[grupoOutra];
+            }
+
+            @Override
+            void combinar(final int grupo, final Coluna<T, JEstatisticasDouble> outra, final int grupoOutra) {
+                final ColunaEstatisticas direita = (ColunaEstatisticas) outra;
+                quantidades[grupo] += direita.quantidades[grupoOutra];
+                somas[grupo] += direita.somas[grupoOutra];
+                minimos[grupo] = Math.min(minimos[grupo], direita.minimos[grupoOutra]);
+                maximos[grupo] = Math.max(maximos[grupo], direita.maximos[grupoOutra]);
+            }
+
+            @Override
+            void crescer(final int capacidade) {
+                quantidades = Arrays.copyOf(quantidades, capacidade);
+                somas = Arrays.copyOf(somas, capacidade);
+                minimos = Arrays.copyOf(minimos, capacidade);
+                maximos = Arrays.copyOf(maximos, capacidade);
+            }
+
+            @Override
+            JEstatisticasDouble resultado(final int grupo) {
+                return new JEstatisticasDouble(quantidades[grupo], somas[grupo], minimos[grupo], maximos[grupo]);
+            }
+
+        }
+
+    }
+
+}
@@ -0,0 +1,64 @@
+package br.projeto.blastin.jstream;
+
+/**
+ * Resultados de {@link JStream#agregar(JAgregador, JAgregador)} e variantes, na ordem dos agregadores. Sem
+ * elementos, cada posição traz o resultado vazio do seu agregador: zero para contagem e soma, a identidade para
+ * reduções semeadas e {@code null} para mínimo, máximo e reduções sem identidade.
+ */
+public final class JAgregados {
+
+    private JAgregados() {
+    }
+
+    public static class Dois<A, B> {
+
+        private final A primeiro;
+
+        private final B segundo;
+
+        Dois(final A primeiro, final B segundo) {
+            this.primeiro = primeiro;
+            this.segundo = segundo;
+        }
+
+        public A primeiro() {
+            return primeiro;
+        }
+
+        public B segundo() {
+            return segundo;
+        }
+
+    }
+
+    public static class Tres<A, B, C> extends Dois<A, B> {
+
+        private final C terceiro;
+
+        Tres(final A primeiro, final B segundo, final C terceiro) {
+            super(primeiro, segundo);
+            this.terceiro = terceiro;
+        }
+
+        public C terceiro() {
+            return terceiro;
+        }
+
+    }
+
+    public static final class Quatro<A, B, C, D> extends Tres<A, B, C> {
+
+        private final D quarto;
+
+        Quatro(final A primeiro, final B segundo, final C terceiro, final D quarto) {
+            super(primeiro, segundo, terceiro);
+            this.quarto = quarto;
+        }
+
+        public D quarto() {
+            return quarto;
+        }
+
+    }
+
+}
@@ -0,0 +1,312 @@
+package br.projeto.blastin.jstream;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Registros de largura fixa guardados fora do heap, em buffers diretos, segundo o layout de um {@link JCodec}.
+ * Milhões de registros ocupam apenas os seus bytes, sem cabeçalhos de objeto nem referências para o coletor
+ * de lixo percorrer. Filtros e mapeamentos sobre {@link #registros()} leem os campos no próprio buffer; os
+ * objetos só são decodificados quando pedidos, como em {@link #stream()} ou {@link JRegistro#decodificar()}.
+ *
+ * @param <T> tipo dos objetos codificados
+ */
+public final class JArmazem<T> {
+
+    /**
+     * cada bloco tem no máximo 1 GiB e uma potência de dois de registros, para localizar um registro com
+     * deslocamentos de bits
+     */
+    private static final int REGISTROS_POR_BLOCO_MAXIMO = 1 << 16;
+
+    private final JCodec<T> codec;
+
+    private final int tamanhoRegistro;
+
+    private final int bitsPorBloco;
+
+    private ByteBuffer[] blocos;
+
+    private long tamanho;
+
+    private JArmazem(final JCodec<T> codec) {
+
+        tamanhoRegistro = codec.tamanho();
+
+        if (tamanhoRegistro < 1) throw new IllegalArgumentException("tamanho de registro inválido: " + tamanhoRegistro);
+
+        this.codec = codec;
+        this.bitsPorBloco = Integer.numberOfTrailingZeros(Integer.highestOneBit(Math.min(REGISTROS_POR_BLOCO_MAXIMO, (1 << 30) / tamanhoRegistro)));
+        this.blocos = new ByteBuffer[0];
+
+    }
+
+    /**
+     * Codifica todos os elementos da origem, na ordem de encontro. Origens paralelas codificam cada fatia num
+     * armazém próprio, e os armazéns são depois anexados em ordem.
+     */
+    public static <T> JArmazem<T> de(final JCodec<T> codec, final JStream<? extends T> origem) {
+
+        Objects.requireNonNull(codec);
+        Objects.requireNonNull(origem);
+
+        return origem.paraColecao(new Codificacao<>(codec));
+
+    }
+
+    public long tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Decodifica cada registro ao ser percorrido.
+     */
+    public JStream<T> stream() {
+        return JStreams.deFonte(new Decodificados<>(this, 0, tamanho));
+    }
+
+    public JStream<JRegistro<T>> registros() {
+        return JStreams.deFonte(new Registros<>(this, 0, tamanho));
+    }
+
+    /**
+     * Lê o campo int de cada registro, sem criar objetos.
+     */
+    public JIntStream campoInt(final int deslocamento) {
+        campo(deslocamento, Integer.BYTES);
+        return new JIntStreams(sumidouro -> {
+            for (long i = 0; i < tamanho && !sumidouro.saciado(); i++) sumidouro.aceitar(bloco(i).getInt(posicao(i) + deslocamento));
+        });
+    }
+
+    public JLongStream campoLong(final int deslocamento) {
+        campo(deslocamento, Long.BYTES);
+        return new JLongStreams(sumidouro -> {
+            for (long i = 0; i < tamanho && !sumidouro.saciado(); i++) sumidouro.aceitar(bloco(i).getLong(posicao(i) + deslocamento));
+        });
+    }
+
+    public JDoubleStream campoDouble(final int deslocamento) {
+        campo(deslocamento, Double.BYTES);
+        return new JDoubleStreams(sumidouro -> {
+            for (long i = 0; i < tamanho && !sumidouro.saciado(); i++) sumidouro.aceitar(bloco(i).getDouble(posicao(i) + deslocamento));
+        });
+    }
+
+    private void campo(final int deslocamento, final int bytes) {
+        if (deslocamento < 0 || deslocamento > tamanhoRegistro - bytes) {
+            throw new IndexOutOfBoundsException("campo de " + bytes + " bytes fora do registro: " + deslocamento);
+        }
+    }
+
+    private void adicionar(final T t) {
+
+        Objects.requireNonNull(t, "registro nulo");
+
+        reservar();
+
+        codec.codificar(t, bloco(tamanho), posicao(tamanho));
+
+        tamanho++;
+
+    }
+
+    /**
+     * Acrescenta os registros do outro armazém, de mesmo codec, após os deste. Quando o último bloco deste
+     * está cheio, os blocos do outro são reaproveitados sem cópia; senão os registros são copiados em trechos
+     * contíguos, sem decodificar.
+     */
+    private void anexar(final JArmazem<T> outro) {
+
+        if (tamanho == (long) blocos.length << bitsPorBloco) {
+
+            final int cheios = blocos.length;
+
+            blocos = Arrays.copyOf(blocos, cheios + outro.blocos.length);
+
+            System.arraycopy(outro.blocos, 0, blocos, cheios, outro.blocos.length);
+
+            tamanho += outro.tamanho;
+
+            return;
+
+        }
+
+        final int registrosPorBloco = 1 << bitsPorBloco;
+
+        for (long i = 0; i < outro.tamanho; ) {
+
+            reservar();
+
+            final int livres = registrosPorBloco - (int) (tamanho & (registrosPorBloco - 1));
+
+            final int restantes = registrosPorBloco - (int) (i & (registrosPorBloco - 1));
+
+            final int quantidade = (int) Math.min(Math.min(livres, restantes), outro.tamanho - i);
+
+            final ByteBuffer origem = outro.bloco(i).duplicate();
+
+            origem.limit(outro.posicao(i) + quantidade * tamanhoRegistro).position(outro.posicao(i));
+
+            bloco(tamanho).duplicate().position(posicao(tamanho)).put(origem);
+
+            tamanho += quantidade;
+
+            i += quantidade;
+
+        }
+
+    }
+
+    /**
+     * Garante um bloco para o próximo registro.
+     */
+    private void reservar() {
+        if (tamanho == (long) blocos.length << bitsPorBloco) {
+            blocos = Arrays.copyOf(blocos, blocos.length + 1);
+            blocos[blocos.length - 1] = ByteBuffer.allocateDirect(tamanhoRegistro << bitsPorBloco).order(ByteOrder.nativeOrder());
+        }
+    }
+
+    private ByteBuffer bloco(final long indice) {
+        return blocos[(int) (indice >>> bitsPorBloco)];
+    }
+
+    private int posicao(final long indice) {
+        return ((int) indice & ((1 << bitsPorBloco) - 1)) * tamanhoRegistro;
+    }
+
+    /**
+     * Coletor que codifica cada elemento num armazém por fatia; a combinação anexa o armazém da direita ao da
+     * esquerda.
+     */
+    private static final class Codificacao<T> implements JColetor<T, JArmazem<T>, JArmazem<T>> {
+
+        private final JCodec<T> codec;
+
+        private Codificacao(final JCodec<T> codec) {
+            this.codec = codec;
+        }
+
+        @Override
+        public JArmazem<T> novo(final long tamanho) {
+            return new JArmazem<>(codec);
+        }
+
+        @Override
+        public void acumular(final JArmazem<T> recipiente, final T t) {
+            recipiente.adicionar(t);
+        }
+
+        @Override
+        public JArmazem<T> combinar(final JArmazem<T> esquerda, final JArmazem<T> direita) {
+            esquerda.anexar(direita);
+            return esquerda;
+        }
+
+        @Override
+        public JArmazem<T> finalizar(final JArmazem<T> recipiente) {
+            return recipiente;
+        }
+
+    }
+
+    private static final class Decodificados<T> implements Fonte<T> {
+
+        private final JArmazem<T> armazem;
+
+        private final long primeiro;
+
+        private final long ultimo;
+
+        private Decodificados(final JArmazem<T> armazem, final long primeiro, final long ultimo) {
+            this.armazem = armazem;
+            this.primeiro = primeiro;
+            this.ultimo = ultimo;
+        }
+
+        @Override
+        public void percorrer(final Sumidouro<? super T> sumidouro) {
+            for (long i = primeiro; i < ultimo && !sumidouro.saciado(); i++) {
+                sumidouro.aceitar(armazem.codec.decodificar(armazem.bloco(i), armazem.posicao(i)));
+            }
+        }
+
+        @Override
+        public long tamanhoExato() {
+            return ultimo - primeiro;
+        }
+
+        @Override
+        public long extensao() {
+            return ultimo - primeiro;
+        }
+
+        @Override
+        public Fonte<T> fatia(final long inicio, final long fim) {
+            return new Decodificados<>(armazem, primeiro + inicio, primeiro + fim);
+        }
+
+        @Override
+        public Fonte<T> limite(final long quantidade) {
+            return new Decodificados<>(armazem, primeiro, primeiro + Math.min(quantidade, ultimo - primeiro));
+        }
+
+        @Override
+        public Fonte<T> pular(final long quantidade) {
+            return new Decodificados<>(armazem, primeiro + Math.min(quantidade, ultimo - primeiro), ultimo);
+        }
+
+    }
+
+    private static final class Registros<T> implements Fonte<JRegistro<T>> {
+
+        private final JArmazem<T> armazem;
+
+        private final long primeiro;
+
+        private final long ultimo;
+
+        private Registros(final JArmazem<T> armazem, final long primeiro, final long ultimo) {
+            this.armazem = armazem;
+            this.primeiro = primeiro;
+            this.ultimo = ultimo;
+        }
+
+        @Override
+        public void percorrer(final Sumidouro<? super JRegistro<T>> sumidouro) {
+            for (long i = primeiro; i < ultimo && !sumidouro.saciado(); i++) {
+                sumidouro.aceitar(new JRegistro<>(armazem.bloco(i), armazem.posicao(i), armazem.codec));
+            }
+        }
+
+        @Override
+        public long tamanhoExato() {
+            return ultimo - primeiro;
+        }
+
+        @Override
+        public long extensao() {
+            return ultimo - primeiro;
+        }
+
+        @Override
+        public Fonte<JRegistro<T>> fatia(final long inicio, final long fim) {
+            return new Registros<>(armazem, primeiro + inicio, primeiro + fim);
+        }
+
+        @Override
+        public Fonte<JRegistro<T>> limite(final long quantidade) {
+            return new Registros<>(armazem, primeiro, primeiro + Math.min(quantidade, ultimo - primeiro));
+        }
+
+        @Override
+        public Fonte<JRegistro<T>> pular(final long quantidade) {
+            return new Registros<>(armazem, primeiro + Math.min(quantidade, ultimo - primeiro), ultimo);
+        }
+
+    }
+
+}
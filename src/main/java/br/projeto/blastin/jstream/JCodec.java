@@ -0,0 +1,23 @@
+package br.projeto.blastin.jstream;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Layout de registros de largura fixa de um {@link JArmazem}. As leituras e escritas devem usar os métodos
+ * absolutos de {@link ByteBuffer}, como {@code getLong(int)}, a partir de {@code posicao}, sem alterar a posição
+ * nem o limite do buffer, que é compartilhado por vários registros e está na ordem de bytes nativa.
+ *
+ * @param <T> tipo dos objetos codificados
+ */
+public interface JCodec<T> {
+
+    /**
+     * @return quantidade de bytes de cada registro
+     */
+    int tamanho();
+
+    void codificar(T t, ByteBuffer destino, int posicao);
+
+    T decodificar(ByteBuffer origem, int posicao);
+
+}
@@ -0,0 +1,29 @@
+package br.projeto.blastin.jstream;
+
+/**
+ * Coletor nativo de {@link JStream}: acumula os elementos diretamente, sem o pipeline de
+ * {@link java.util.stream.Collector}, e recebe o tamanho da stream quando ele é conhecido.
+ *
+ * @param <T> tipo dos elementos coletados
+ * @param <A> tipo do recipiente intermediário
+ * @param <R> tipo do resultado
+ */
+public interface JColetor<T, A, R> {
+
+    /**
+     * @param tamanho quantidade exata de elementos que serão acumulados, ou -1 quando desconhecida; nunca uma
+     *                estimativa, então o recipiente pode ser reservado com esse tamanho sem desperdício. Em
+     *                percursos paralelos, cada fatia recebe -1.
+     */
+    A novo(final long tamanho);
+
+    void acumular(final A recipiente, final T t);
+
+    /**
+     * Une dois recipientes de fatias vizinhas de uma stream paralela, preservando a ordem de encontro.
+     */
+    A combinar(final A esquerda, final A direita);
+
+    R finalizar(final A recipiente);
+
+}
@@ -0,0 +1,333 @@
+package br.projeto.blastin.jstream;
+
+import br.projeto.blastin.joptional.Funcao;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Coletores nativos para {@link JStream#paraColecao(JColetor)}. Os recipientes são dimensionados pelo tamanho
+ * da stream quando ele é conhecido, evitando realocações durante a coleta.
+ */
+public final class JColetores {
+
+    private JColetores() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> JColetor<T, ?, List<T>> paraLista() {
+        return (JColetor<T, ?, List<T>>) ParaLista.INSTANCIA;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> JColetor<T, ?, Set<T>> paraConjunto() {
+        return (JColetor<T, ?, Set<T>>) ParaConjunto.INSTANCIA;
+    }
+
+    public static <T, K, V> JColetor<T, ?, Map<K, V>> paraMapa(final Funcao<? super T, ? extends K> chave,
+                                                               final Funcao<? super T, ? extends V> valor) {
+        return paraMapa(chave, valor, ParaMapa::duplicada);
+    }
+
+    public static <T, K, V> JColetor<T, ?, Map<K, V>> paraMapa(final Funcao<? super T, ? extends K> chave,
+                                                               final Funcao<? super T, ? extends V> valor,
+                                                               final OperacaoBinaria<V> mesclar) {
+        Objects.requireNonNull(chave);
+        Objects.requireNonNull(valor);
+        Objects.requireNonNull(mesclar);
+        return new ParaMapa<>(chave, valor, mesclar);
+    }
+
+    public static JColetor<CharSequence, ?, String> juncao() {
+        return juncao("");
+    }
+
+    public static JColetor<CharSequence, ?, String> juncao(final CharSequence separador) {
+        return juncao(separador, "", "");
+    }
+
+    public static JColetor<CharSequence, ?, String> juncao(final CharSequence separador,
+                                                          final CharSequence prefixo,
+                                                          final CharSequence sufixo) {
+        Objects.requireNonNull(separador);
+        Objects.requireNonNull(prefixo);
+        Objects.requireNonNull(sufixo);
+        return new Juncao(separador, prefixo, sufixo);
+    }
+
+    public static JColetor<Object, ?, Long> contagem() {
+        return Contagem.INSTANCIA;
+    }
+
+    public static <T, K> JColetor<T, ?, Map<K, List<T>>> agrupamento(final Funcao<? super T, ? extends K> chave) {
+        return agrupamento(chave, paraLista());
+    }
+
+    public static <T, K, A, R> JColetor<T, ?, Map<K, R>> agrupamento(final Funcao<? super T, ? extends K> chave,
+                                                                     final JColetor<? super T, A, R> coletor) {
+        Objects.requireNonNull(chave);
+        Objects.requireNonNull(coletor);
+        return new Agrupamento<>(chave, coletor);
+    }
+
+    /**
+     * Dimensiona tabelas de hash para receber {@code tamanho} elementos sem rehash.
+     */
+    private static int capacidade(final long tamanho) {
+        if (tamanho < 0) return 16;
+        return (int) Math.min(1 << 30, tamanho * 4 / 3 + 1);
+    }
+
+    static final class ParaLista<T> implements JColetor<T, ParaLista.Recipiente, List<T>> {
+
+        private static final ParaLista<?> INSTANCIA = new ParaLista<>();
+
+        static boolean instancia(final JColetor<?, ?, ?> coletor) {
+            return coletor == INSTANCIA;
+        }
+
+        @Override
+        public Recipiente novo(final long tamanho) {
+            return new Recipiente(tamanho < 0 ? 10 : (int) Math.min(tamanho, Integer.MAX_VALUE - 8));
+        }
+
+        @Override
+        public void acumular(final Recipiente recipiente, final T t) {
+            recipiente.adicionar(t);
+        }
+
+        @Override
+        public Recipiente combinar(final Recipiente esquerda, final Recipiente direita) {
+            esquerda.adicionarTodos(direita);
+            return esquerda;
+        }
+
+        @Override
+        public List<T> finalizar(final Recipiente recipiente) {
+            return new VistaArranjo<>(recipiente.ts, 0, recipiente.tamanho);
+        }
+
+        static final class Recipiente {
+
+            private Object[] ts;
+
+            private int tamanho;
+
+            private Recipiente(final int capacidade) {
+                ts = new Object[capacidade];
+            }
+
+            private void adicionar(final Object t) {
+                if (tamanho == ts.length) ts = Arrays.copyOf(ts, Math.max(10, tamanho + (tamanho >> 1)));
+                ts[tamanho++] = t;
+            }
+
+            private void adicionarTodos(final Recipiente outro) {
+                if (tamanho + outro.tamanho > ts.length) ts = Arrays.copyOf(ts, tamanho + outro.tamanho);
+                System.arraycopy(outro.ts, 0, ts, tamanho, outro.tamanho);
+                tamanho += outro.tamanho;
+            }
+
+        }
+
+    }
+
+    private static final class ParaConjunto<T> implements JColetor<T, Set<T>, Set<T>> {
+
+        private static final ParaConjunto<?> INSTANCIA = new ParaConjunto<>();
+
+        @Override
+        public Set<T> novo(final long tamanho) {
+            return new HashSet<>(capacidade(tamanho));
+        }
+
+        @Override
+        public void acumular(final Set<T> recipiente, final T t) {
+            recipiente.add(t);
+        }
+
+        @Override
+        public Set<T> combinar(final Set<T> esquerda, final Set<T> direita) {
+            esquerda.addAll(direita);
+            return esquerda;
+        }
+
+        @Override
+        public Set<T> finalizar(final Set<T> recipiente) {
+            return recipiente;
+        }
+
+    }
+
+    private static final class ParaMapa<T, K, V> implements JColetor<T, Map<K, V>, Map<K, V>> {
+
+        private final Funcao<? super T, ? extends K> chave;
+
+        private final Funcao<? super T, ? extends V> valor;
+
+        private final OperacaoBinaria<V> mesclar;
+
+        private ParaMapa(final Funcao<? super T, ? extends K> chave,
+                         final Funcao<? super T, ? extends V> valor,
+                         final OperacaoBinaria<V> mesclar) {
+            this.chave = chave;
+            this.valor = valor;
+            this.mesclar = mesclar;
+        }
+
+        private static <V> V duplicada(final V a, final V b) {
+            throw new IllegalStateException("chave duplicada para os valores " + a + " e " + b);
+        }
+
+        @Override
+        public Map<K, V> novo(final long tamanho) {
+            return new HashMap<>(capacidade(tamanho));
+        }
+
+        @Override
+        public void acumular(final Map<K, V> recipiente, final T t) {
+            inserir(recipiente, chave.aplicar(t), Objects.requireNonNull(valor.aplicar(t)));
+        }
+
+        @Override
+        public Map<K, V> combinar(final Map<K, V> esquerda, final Map<K, V> direita) {
+            for (final Map.Entry<K, V> entrada : direita.entrySet()) inserir(esquerda, entrada.getKey(), entrada.getValue());
+            return esquerda;
+        }
+
+        @Override
+        public Map<K, V> finalizar(final Map<K, V> recipiente) {
+            return recipiente;
+        }
+
+        private void inserir(final Map<K, V> recipiente, final K k, final V v) {
+            final V anterior = recipiente.putIfAbsent(k, v);
+            if (anterior != null) recipiente.put(k, mesclar.operar(anterior, v));
+        }
+
+    }
+
+    private static final class Juncao implements JColetor<CharSequence, StringJoiner, String> {
+
+        private final CharSequence separador;
+
+        private final CharSequence prefixo;
+
+        private final CharSequence sufixo;
+
+        private Juncao(final CharSequence separador, final CharSequence prefixo, final CharSequence sufixo) {
+            this.separador = separador;
+            this.prefixo = prefixo;
+            this.sufixo = sufixo;
+        }
+
+        @Override
+        public StringJoiner novo(final long tamanho) {
+            return new StringJoiner(separador, prefixo, sufixo);
+        }
+
+        @Override
+        public void acumular(final StringJoiner recipiente, final CharSequence t) {
+            recipiente.add(t);
+        }
+
+        @Override
+        public StringJoiner combinar(final StringJoiner esquerda, final StringJoiner direita) {
+            return esquerda.merge(direita);
+        }
+
+        @Override
+        public String finalizar(final StringJoiner recipiente) {
+            return recipiente.toString();
+        }
+
+    }
+
+    private static final class Contagem implements JColetor<Object, long[], Long> {
+
+        private static final Contagem INSTANCIA = new Contagem();
+
+        @Override
+        public long[] novo(final long tamanho) {
+            return new long[1];
+        }
+
+        @Override
+        public void acumular(final long[] recipiente, final Object t) {
+            recipiente[0]++;
+        }
+
+        @Override
+        public long[] combinar(final long[] esquerda, final long[] direita) {
+            esquerda[0] += direita[0];
+            return esquerda;
+        }
+
+        @Override
+        public Long finalizar(final long[] recipiente) {
+            return recipiente[0];
+        }
+
+    }
+
+    private static final class Agrupamento<T, K, A, R> implements JColetor<T, Map<K, A>, Map<K, R>> {
+
+        private final Funcao<? super T, ? extends K> chave;
+
+        private final JColetor<? super T, A, R> coletor;
+
+        private Agrupamento(final Funcao<? super T, ? extends K> chave, final JColetor<? super T, A, R> coletor) {
+            this.chave = chave;
+            this.coletor = coletor;
+        }
+
+        @Override
+        public Map<K, A> novo(final long tamanho) {
+            return new HashMap<>();
+        }
+
+        @Override
+        public void acumular(final Map<K, A> recipiente, final T t) {
+
+            final K k = Objects.requireNonNull(chave.aplicar(t), "chave de agrupamento nula");
+
+            A grupo = recipiente.get(k);
+
+            if (grupo == null) {
+                grupo = coletor.novo(-1);
+                recipiente.put(k, grupo);
+            }
+
+            coletor.acumular(grupo, t);
+
+        }
+
+        @Override
+        public Map<K, A> combinar(final Map<K, A> esquerda, final Map<K, A> direita) {
+
+            for (final Map.Entry<K, A> entrada : direita.entrySet()) {
+                final A grupo = esquerda.get(entrada.getKey());
+                esquerda.put(entrada.getKey(), grupo == null ? entrada.getValue() : coletor.combinar(grupo, entrada.getValue()));
+            }
+
+            return esquerda;
+
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map<K, R> finalizar(final Map<K, A> recipiente) {
+            final Map<K, Object> finalizado = (Map<K, Object>) recipiente;
+            finalizado.replaceAll((k, grupo) -> coletor.finalizar((A) grupo));
+            return (Map<K, R>) finalizado;
+        }
+
+    }
+
+}
@@ -0,0 +1,68 @@
+package br.projeto.blastin.jstream;
+
+import br.projeto.blastin.joptional.JOptional;
+
+public interface JDoubleStream {
+
+    JDoubleStream mapeamento(OperacaoUnariaDouble operacao);
+
+    <S> JStream<S> mapeamentoParaObjeto(FuncaoDeDouble<S> funcao);
+
+    JStream<Double> emCaixa();
+
+    JDoubleStream filtro(PredicadoDouble predicado);
+
+    JDoubleStream limite(long quantidade);
+
+    JDoubleStream pular(long quantidade);
+
+    JDoubleStream tomarEnquanto(PredicadoDouble predicado);
+
+    JDoubleStream descartarEnquanto(PredicadoDouble predicado);
+
+    JDoubleStream distintos();
+
+    /**
+     * Agregações sobre janelas de {@code tamanho} valores iniciadas a cada {@code passo} valores.
+     */
+    JJanelasDouble janelaDeslizante(int tamanho, int passo);
+
+    JJanelasDouble janelaFixa(int tamanho);
+
+    /**
+     * Valores em ordem crescente; conjuntos grandes são ordenados por radix sort.
+     */
+    JDoubleStream ordenado();
+
+    double reducao(double identidade, OperacaoBinariaDouble operacao);
+
+    JOptional<Double> reducao(OperacaoBinariaDouble operacao);
+
+    JOptional<Double> primeiroValor();
+
+    double soma();
+
+    JOptional<Double> minimo();
+
+    JOptional<Double> maximo();
+
+    JOptional<Double> media();
+
+    /**
+     * Quantidade, soma, mínimo, máximo e média numa única passada.
+     */
+    JEstatisticasDouble estatisticas();
+
+    long quantidade();
+
+    double[] paraArranjo();
+
+    boolean presente();
+
+    boolean vazio();
+
+    boolean peloMenosUmCombina(PredicadoDouble predicado);
+
+    boolean todosCombinam(PredicadoDouble predicado);
+
+}
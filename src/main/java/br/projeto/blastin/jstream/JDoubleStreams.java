@@ -0,0 +1,358 @@
+package br.projeto.blastin.jstream;
+
+import br.projeto.blastin.joptional.JOptional;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Stream de valores double primitivos. Os estágios e as operações terminais trabalham diretamente sobre
+ * double, de modo que nenhum valor é encaixotado antes do resultado final.
+ */
+public final class JDoubleStreams implements JDoubleStream {
+
+    public static JDoubleStream de(final double... valores) {
+        return new JDoubleStreams(new FontesDouble.Arranjo(valores));
+    }
+
+    JDoubleStreams(final FonteDouble fonte) {
+        this.fonte = fonte;
+    }
+
+    private final FonteDouble fonte;
+
+    @Override
+    public JDoubleStream mapeamento(final OperacaoUnariaDouble operacao) {
+        Objects.requireNonNull(operacao);
+        return new JDoubleStreams(new FontesDouble.Mapeamento(fonte, operacao));
+    }
+
+    @Override
+    public <S> JStream<S> mapeamentoParaObjeto(final FuncaoDeDouble<S> funcao) {
+        Objects.requireNonNull(funcao);
+        return JStreams.deFonte(new FontesDouble.ParaObjeto<>(fonte, funcao));
+    }
+
+    @Override
+    public JStream<Double> emCaixa() {
+        return mapeamentoParaObjeto(Double::valueOf);
+    }
+
+    @Override
+    public JDoubleStream filtro(final PredicadoDouble predicado) {
+        Objects.requireNonNull(predicado);
+        return new JDoubleStreams(new FontesDouble.Filtro(fonte, predicado));
+    }
+
+    @Override
+    public JDoubleStream limite(final long quantidade) {
+        return new JDoubleStreams(fonte.limite(naoNegativo(quantidade)));
+    }
+
+    @Override
+    public JDoubleStream pular(final long quantidade) {
+        return new JDoubleStreams(fonte.pular(naoNegativo(quantidade)));
+    }
+
+    @Override
+    public JDoubleStream tomarEnquanto(final PredicadoDouble predicado) {
+        Objects.requireNonNull(predicado);
+        return new JDoubleStreams(new FontesDouble.TomarEnquanto(fonte, predicado));
+    }
+
+    @Override
+    public JDoubleStream descartarEnquanto(final PredicadoDouble predicado) {
+        Objects.requireNonNull(predicado);
+        return new JDoubleStreams(new FontesDouble.DescartarEnquanto(fonte, predicado));
+    }
+
+    @Override
+    public JDoubleStream distintos() {
+        return new JDoubleStreams(new FontesDouble.Distintos(fonte));
+    }
+
+    @Override
+    public JJanelasDouble janelaDeslizante(final int tamanho, final int passo) {
+        Janelas.validar(tamanho, passo);
+        return new JanelasDouble(fonte, tamanho, passo);
+    }
+
+    @Override
+    public JJanelasDouble janelaFixa(final int tamanho) {
+        return janelaDeslizante(tamanho, tamanho);
+    }
+
+    @Override
+    public JDoubleStream ordenado() {
+        return new JDoubleStreams(new FontesDouble.Ordenado(fonte));
+    }
+
+    @Override
+    public double reducao(final double identidade, final OperacaoBinariaDouble operacao) {
+        Objects.requireNonNull(operacao);
+        final Reducao reducao = new Reducao(operacao, identidade);
+        fonte.percorrer(reducao);
+        return reducao.acumulo;
+    }
+
+    @Override
+    public JOptional<Double> reducao(final OperacaoBinariaDouble operacao) {
+        Objects.requireNonNull(operacao);
+        final Reducao reducao = new Reducao(operacao);
+        fonte.percorrer(reducao);
+        return reducao.resultado();
+    }
+
+    @Override
+    public JOptional<Double> primeiroValor() {
+        final PrimeiroValor primeiroValor = new PrimeiroValor();
+        fonte.percorrer(primeiroValor);
+        return primeiroValor.resultado();
+    }
+
+    @Override
+    public double soma() {
+        final Soma soma = new Soma();
+        fonte.percorrer(soma);
+        return soma.soma;
+    }
+
+    @Override
+    public JOptional<Double> minimo() {
+        return reducao(Math::min);
+    }
+
+    @Override
+    public JOptional<Double> maximo() {
+        return reducao(Math::max);
+    }
+
+    @Override
+    public JOptional<Double> media() {
+
+        final Soma soma = new Soma();
+
+        fonte.percorrer(soma);
+
+        if (soma.quantidade == 0) return JOptional.nulo();
+
+        return JOptional.dePossivelNulo(soma.soma / soma.quantidade);
+
+    }
+
+    @Override
+    public JEstatisticasDouble estatisticas() {
+        final Estatisticas estatisticas = new Estatisticas();
+        fonte.percorrer(estatisticas);
+        return estatisticas.resultado();
+    }
+
+    @Override
+    public long quantidade() {
+        final Soma soma = new Soma();
+        fonte.percorrer(soma);
+        return soma.quantidade;
+    }
+
+    @Override
+    public double[] paraArranjo() {
+        final Arranjo arranjo = new Arranjo(fonte.tamanhoExato());
+        fonte.percorrer(arranjo);
+        return arranjo.resultado();
+    }
+
+    @Override
+    public boolean presente() {
+        final PrimeiroValor primeiroValor = new PrimeiroValor();
+        fonte.percorrer(primeiroValor);
+        return primeiroValor.encontrado;
+    }
+
+    @Override
+    public boolean vazio() {
+        return !presente();
+    }
+
+    @Override
+    public boolean peloMenosUmCombina(final PredicadoDouble predicado) {
+        return combinacao(predicado, true).encontrada;
+    }
+
+    @Override
+    public boolean todosCombinam(final PredicadoDouble predicado) {
+        final Combinacao divergencia = combinacao(predicado, false);
+        return divergencia.avaliada && !divergencia.encontrada;
+    }
+
+    private Combinacao combinacao(final PredicadoDouble predicado, final boolean esperado) {
+        Objects.requireNonNull(predicado);
+        final Combinacao combinacao = new Combinacao(predicado, esperado);
+        fonte.percorrer(combinacao);
+        return combinacao;
+    }
+
+    private static long naoNegativo(final long quantidade) {
+        if (quantidade < 0) throw new IllegalArgumentException("quantidade negativa: " + quantidade);
+        return quantidade;
+    }
+
+    private static final class Reducao implements SumidouroDouble {
+
+        private final OperacaoBinariaDouble operacao;
+
+        private boolean iniciada;
+
+        private double acumulo;
+
+        private Reducao(final OperacaoBinariaDouble operacao) {
+            this.operacao = operacao;
+        }
+
+        private Reducao(final OperacaoBinariaDouble operacao, final double identidade) {
+            this.operacao = operacao;
+            this.acumulo = identidade;
+            this.iniciada = true;
+        }
+
+        @Override
+        public void aceitar(final double valor) {
+
+            if (iniciada) {
+                acumulo = operacao.operar(acumulo, valor);
+            } else {
+                acumulo = valor;
+                iniciada = true;
+            }
+
+        }
+
+        private JOptional<Double> resultado() {
+            if (!iniciada) return JOptional.nulo();
+            return JOptional.dePossivelNulo(acumulo);
+        }
+
+    }
+
+    private static final class Estatisticas implements SumidouroDouble {
+
+        private long quantidade;
+
+        private double soma;
+
+        private double minimo = Double.POSITIVE_INFINITY;
+
+        private double maximo = Double.NEGATIVE_INFINITY;
+
+        @Override
+        public void aceitar(final double valor) {
+            quantidade++;
+            soma += valor;
+            minimo = Math.min(minimo, valor);
+            maximo = Math.max(maximo, valor);
+        }
+
+        private JEstatisticasDouble resultado() {
+            return new JEstatisticasDouble(quantidade, soma, minimo, maximo);
+        }
+
+    }
+
+    private static final class Soma implements SumidouroDouble {
+
+        private double soma;
+
+        private long quantidade;
+
+        @Override
+        public void aceitar(final double valor) {
+            soma += valor;
+            quantidade++;
+        }
+
+    }
+
+    private static final class PrimeiroValor implements SumidouroDouble {
+
+        private boolean encontrado;
+
+        private double valor;
+
+        @Override
+        public void aceitar(final double valor) {
+            this.valor = valor;
+            encontrado = true;
+        }
+
+        @Override
+        public boolean saciado() {
+            return encontrado;
+        }
+
+        private JOptional<Double> resultado() {
+            if (!encontrado) return JOptional.nulo();
+            return JOptional.dePossivelNulo(valor);
+        }
+
+    }
+
+    private static final class Combinacao implements SumidouroDouble {
+
+        private final PredicadoDouble predicado;
+
+        private final boolean esperado;
+
+        private boolean avaliada;
+
+        private boolean encontrada;
+
+        private Combinacao(final PredicadoDouble predicado, final boolean esperado) {
+            this.predicado = predicado;
+            this.esperado = esperado;
+        }
+
+        @Override
+        public void aceitar(final double valor) {
+            avaliada = true;
+            encontrada = predicado.teste(valor) == esperado;
+        }
+
+        @Override
+        public boolean saciado() {
+            return encontrada;
+        }
+
+    }
+
+    /**
+     * Com o tamanho exato, o resultado é preenchido diretamente; sem ele, os valores são acumulados num arranjo
+     * emprestado da {@link Arena} e copiados no tamanho final.
+     */
+    private static final class Arranjo implements SumidouroDouble {
+
+        private final boolean exato;
+
+        private double[] valores;
+
+        private int tamanho;
+
+        private Arranjo(final long tamanhoExato) {
+            exato = tamanhoExato >= 0 && tamanhoExato <= Integer.MAX_VALUE - 8;
+            valores = exato ? new double[(int) tamanhoExato] : Arena.doubles(Arena.MENOR);
+        }
+
+        @Override
+        public void aceitar(final double valor) {
+            if (tamanho == valores.length) valores = Arena.crescer(valores, tamanho);
+            valores[tamanho++] = valor;
+        }
+
+        private double[] resultado() {
+            if (exato && tamanho == valores.length) return valores;
+            final double[] resultado = Arrays.copyOf(valores, tamanho);
+            if (!exato) Arena.devolver(valores);
+            return resultado;
+        }
+
+    }
+
+}
@@ -0,0 +1,64 @@
+package br.projeto.blastin.jstream;
+
+/**
+ * Medição de um estágio observado durante uma operação terminal.
+ */
+public final class JEstagio {
+
+    private final int posicao;
+
+    private final String nome;
+
+    private final long entradas;
+
+    private final long saidas;
+
+    private final long nanosEmFuncoes;
+
+    JEstagio(final int posicao, final String nome, final long entradas, final long saidas, final long nanosEmFuncoes) {
+        this.posicao = posicao;
+        this.nome = nome;
+        this.entradas = entradas;
+        this.saidas = saidas;
+        this.nanosEmFuncoes = nanosEmFuncoes;
+    }
+
+    /**
+     * 0 para a fonte, incrementada a cada estágio registrado depois de {@link JStream#observado(JObservador)}
+     */
+    public int posicao() {
+        return posicao;
+    }
+
+    public String nome() {
+        return nome;
+    }
+
+    public long entradas() {
+        return entradas;
+    }
+
+    public long saidas() {
+        return saidas;
+    }
+
+    /**
+     * fração das entradas que chegou ao estágio seguinte; 1 quando não houve entradas
+     */
+    public double seletividade() {
+        return entradas == 0 ? 1 : (double) saidas / entradas;
+    }
+
+    /**
+     * tempo gasto nas funções e predicados do usuário; zero para estágios sem função, como limite
+     */
+    public long nanosEmFuncoes() {
+        return nanosEmFuncoes;
+    }
+
+    @Override
+    public String toString() {
+        return posicao + ":" + nome + " entradas=" + entradas + " saidas=" + saidas + " nanosEmFuncoes=" + nanosEmFuncoes;
+    }
+
+}
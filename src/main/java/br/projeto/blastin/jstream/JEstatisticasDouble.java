@@ -0,0 +1,53 @@
+package br.projeto.blastin.jstream;
+
+import br.projeto.blastin.joptional.JOptional;
+
+/**
+ * Quantidade, soma, mínimo, máximo e média de valores de ponto flutuante, obtidos numa única passada por
+ * {@link JDoubleStream#estatisticas()} ou {@link JAgregadores#estatisticasDouble}.
+ */
+public final class JEstatisticasDouble {
+
+    static final JEstatisticasDouble VAZIA = new JEstatisticasDouble(0, 0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY);
+
+    private final long quantidade;
+
+    private final double soma;
+
+    private final double minimo;
+
+    private final double maximo;
+
+    JEstatisticasDouble(final long quantidade, final double soma, final double minimo, final double maximo) {
+        this.quantidade = quantidade;
+        this.soma = soma;
+        this.minimo = minimo;
+        this.maximo = maximo;
+    }
+
+    public long quantidade() {
+        return quantidade;
+    }
+
+    public double soma() {
+        return soma;
+    }
+
+    public JOptional<Double> minimo() {
+        return quantidade == 0 ? JOptional.nulo() : JOptional.dePossivelNulo(minimo);
+    }
+
+    public JOptional<Double> maximo() {
+        return quantidade == 0 ? JOptional.nulo() : JOptional.dePossivelNulo(maximo);
+    }
+
+    public JOptional<Double> media() {
+        return quantidade == 0 ? JOptional.nulo() : JOptional.dePossivelNulo(soma / quantidade);
+    }
+
+    @Override
+    public String toString() {
+        return "JEstatisticasDouble{quantidade=" + quantidade + ", soma=" + soma + ", minimo=" + minimo + ", maximo=" + maximo + '}';
+    }
+
+}
@@ -0,0 +1,53 @@
+package br.projeto.blastin.jstream;
+
+import br.projeto.blastin.joptional.JOptional;
+
+/**
+ * Quantidade, soma, mínimo, máximo e média de valores inteiros, obtidos numa única passada por
+ * {@link JLongStream#estatisticas()}, {@link JIntStream#estatisticas()} ou {@link JAgregadores#estatisticas}.
+ */
+public final class JEstatisticasLong {
+
+    static final JEstatisticasLong VAZIA = new JEstatisticasLong(0, 0, Long.MAX_VALUE, Long.MIN_VALUE);
+
+    private final long quantidade;
+
+    private final long soma;
+
+    private final long minimo;
+
+    private final long maximo;
+
+    JEstatisticasLong(final long quantidade, final long soma, final long minimo, final long maximo) {
+        this.quantidade = quantidade;
+        this.soma = soma;
+        this.minimo = minimo;
+        this.maximo = maximo;
+    }
+
+    public long quantidade() {
+        return quantidade;
+    }
+
+    public long soma() {
+        return soma;
+    }
+
+    public JOptional<Long> minimo() {
+        return quantidade == 0 ? JOptional.nulo() : JOptional.dePossivelNulo(minimo);
+    }
+
+    public JOptional<Long> maximo() {
+        return quantidade == 0 ? JOptional.nulo() : JOptional.dePossivelNulo(maximo);
+    }
+
+    public JOptional<Double> media() {
+        return quantidade == 0 ? JOptional.nulo() : JOptional.dePossivelNulo((double) soma / quantidade);
+    }
+
+    @Override
+    public String toString() {
+        return "JEstatisticasLong{quantidade=" + quantidade + ", soma=" + soma + ", minimo=" + minimo + ", maximo=" + maximo + '}';
+    }
+
+}
@@ -0,0 +1,72 @@
+package br.projeto.blastin.jstream;
+
+import br.projeto.blastin.joptional.JOptional;
+
+public interface JIntStream {
+
+    JIntStream mapeamento(OperacaoUnariaInt operacao);
+
+    <S> JStream<S> mapeamentoParaObjeto(FuncaoDeInt<S> funcao);
+
+    JLongStream paraLong();
+
+    JDoubleStream paraDouble();
+
+    JStream<Integer> emCaixa();
+
+    JIntStream filtro(PredicadoInt predicado);
+
+    JIntStream limite(long quantidade);
+
+    JIntStream pular(long quantidade);
+
+    JIntStream tomarEnquanto(PredicadoInt predicado);
+
+    JIntStream descartarEnquanto(PredicadoInt predicado);
+
+    JIntStream distintos();
+
+    /**
+     * Agregações sobre janelas de {@code tamanho} valores iniciadas a cada {@code passo} valores. Os valores são promovidos a long.
+     */
+    JJanelasLong janelaDeslizante(int tamanho, int passo);
+
+    JJanelasLong janelaFixa(int tamanho);
+
+    /**
+     * Valores em ordem crescente; conjuntos grandes são ordenados por radix sort.
+     */
+    JIntStream ordenado();
+
+    int reducao(int identidade, OperacaoBinariaInt operacao);
+
+    JOptional<Integer> reducao(OperacaoBinariaInt operacao);
+
+    JOptional<Integer> primeiroValor();
+
+    long soma();
+
+    JOptional<Integer> minimo();
+
+    JOptional<Integer> maximo();
+
+    JOptional<Double> media();
+
+    /**
+     * Quantidade, soma, mínimo, máximo e média numa única passada, com os valores alargados para long.
+     */
+    JEstatisticasLong estatisticas();
+
+    long quantidade();
+
+    int[] paraArranjo();
+
+    boolean presente();
+
+    boolean vazio();
+
+    boolean peloMenosUmCombina(PredicadoInt predicado);
+
+    boolean todosCombinam(PredicadoInt predicado);
+
+}
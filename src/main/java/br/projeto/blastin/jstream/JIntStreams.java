@@ -0,0 +1,372 @@
+package br.projeto.blastin.jstream;
+
+import br.projeto.blastin.joptional.JOptional;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Stream de valores int primitivos. Os estágios e as operações terminais trabalham diretamente sobre
+ * int, de modo que nenhum valor é encaixotado antes do resultado final.
+ */
+public final class JIntStreams implements JIntStream {
+
+    public static JIntStream de(final int... valores) {
+        return new JIntStreams(new FontesInt.Arranjo(valores));
+    }
+
+    public static JIntStream intervalo(final int inicio, final int fim) {
+        return new JIntStreams(new FontesInt.Intervalo(inicio, Math.max(inicio, fim)));
+    }
+
+    JIntStreams(final FonteInt fonte) {
+        this.fonte = fonte;
+    }
+
+    private final FonteInt fonte;
+
+    @Override
+    public JIntStream mapeamento(final OperacaoUnariaInt operacao) {
+        Objects.requireNonNull(operacao);
+        return new JIntStreams(new FontesInt.Mapeamento(fonte, operacao));
+    }
+
+    @Override
+    public <S> JStream<S> mapeamentoParaObjeto(final FuncaoDeInt<S> funcao) {
+        Objects.requireNonNull(funcao);
+        return JStreams.deFonte(new FontesInt.ParaObjeto<>(fonte, funcao));
+    }
+
+    @Override
+    public JLongStream paraLong() {
+        return new JLongStreams(new FontesInt.ParaLong(fonte));
+    }
+
+    @Override
+    public JDoubleStream paraDouble() {
+        return new JDoubleStreams(new FontesInt.ParaDouble(fonte));
+    }
+
+    @Override
+    public JStream<Integer> emCaixa() {
+        return mapeamentoParaObjeto(Integer::valueOf);
+    }
+
+    @Override
+    public JIntStream filtro(final PredicadoInt predicado) {
+        Objects.requireNonNull(predicado);
+        return new JIntStreams(new FontesInt.Filtro(fonte, predicado));
+    }
+
+    @Override
+    public JIntStream limite(final long quantidade) {
+        return new JIntStreams(fonte.limite(naoNegativo(quantidade)));
+    }
+
+    @Override
+    public JIntStream pular(final long quantidade) {
+        return new JIntStreams(fonte.pular(naoNegativo(quantidade)));
+    }
+
+    @Override
+    public JIntStream tomarEnquanto(final PredicadoInt predicado) {
+        Objects.requireNonNull(predicado);
+        return new JIntStreams(new FontesInt.TomarEnquanto(fonte, predicado));
+    }
+
+    @Override
+    public JIntStream descartarEnquanto(final PredicadoInt predicado) {
+        Objects.requireNonNull(predicado);
+        return new JIntStreams(new FontesInt.DescartarEnquanto(fonte, predicado));
+    }
+
+    @Override
+    public JIntStream distintos() {
+        return new JIntStreams(new FontesInt.Distintos(fonte));
+    }
+
+    @Override
+    public JJanelasLong janelaDeslizante(final int tamanho, final int passo) {
+        Janelas.validar(tamanho, passo);
+        return new JanelasLong(new FontesInt.ParaLong(fonte), tamanho, passo);
+    }
+
+    @Override
+    public JJanelasLong janelaFixa(final int tamanho) {
+        return janelaDeslizante(tamanho, tamanho);
+    }
+
+    @Override
+    public JIntStream ordenado() {
+        return new JIntStreams(new FontesInt.Ordenado(fonte));
+    }
+
+    @Override
+    public int reducao(final int identidade, final OperacaoBinariaInt operacao) {
+        Objects.requireNonNull(operacao);
+        final Reducao reducao = new Reducao(operacao, identidade);
+        fonte.percorrer(reducao);
+        return reducao.acumulo;
+    }
+
+    @Override
+    public JOptional<Integer> reducao(final OperacaoBinariaInt operacao) {
+        Objects.requireNonNull(operacao);
+        final Reducao reducao = new Reducao(operacao);
+        fonte.percorrer(reducao);
+        return reducao.resultado();
+    }
+
+    @Override
+    public JOptional<Integer> primeiroValor() {
+        final PrimeiroValor primeiroValor = new PrimeiroValor();
+        fonte.percorrer(primeiroValor);
+        return primeiroValor.resultado();
+    }
+
+    @Override
+    public long soma() {
+        final Soma soma = new Soma();
+        fonte.percorrer(soma);
+        return soma.soma;
+    }
+
+    @Override
+    public JOptional<Integer> minimo() {
+        return reducao(Math::min);
+    }
+
+    @Override
+    public JOptional<Integer> maximo() {
+        return reducao(Math::max);
+    }
+
+    @Override
+    public JOptional<Double> media() {
+
+        final Soma soma = new Soma();
+
+        fonte.percorrer(soma);
+
+        if (soma.quantidade == 0) return JOptional.nulo();
+
+        return JOptional.dePossivelNulo((double) soma.soma / soma.quantidade);
+
+    }
+
+    @Override
+    public JEstatisticasLong estatisticas() {
+        final Estatisticas estatisticas = new Estatisticas();
+        fonte.percorrer(estatisticas);
+        return estatisticas.resultado();
+    }
+
+    @Override
+    public long quantidade() {
+        final Soma soma = new Soma();
+        fonte.percorrer(soma);
+        return soma.quantidade;
+    }
+
+    @Override
+    public int[] paraArranjo() {
+        final Arranjo arranjo = new Arranjo(fonte.tamanhoExato());
+        fonte.percorrer(arranjo);
+        return arranjo.resultado();
+    }
+
+    @Override
+    public boolean presente() {
+        final PrimeiroValor primeiroValor = new PrimeiroValor();
+        fonte.percorrer(primeiroValor);
+        return primeiroValor.encontrado;
+    }
+
+    @Override
+    public boolean vazio() {
+        return !presente();
+    }
+
+    @Override
+    public boolean peloMenosUmCombina(final PredicadoInt predicado) {
+        return combinacao(predicado, true).encontrada;
+    }
+
+    @Override
+    public boolean todosCombinam(final PredicadoInt predicado) {
+        final Combinacao divergencia = combinacao(predicado, false);
+        return divergencia.avaliada && !divergencia.encontrada;
+    }
+
+    private Combinacao combinacao(final PredicadoInt predicado, final boolean esperado) {
+        Objects.requireNonNull(predicado);
+        final Combinacao combinacao = new Combinacao(predicado, esperado);
+        fonte.percorrer(combinacao);
+        return combinacao;
+    }
+
+    private static long naoNegativo(final long quantidade) {
+        if (quantidade < 0) throw new IllegalArgumentException("quantidade negativa: " + quantidade);
+        return quantidade;
+    }
+
+    private static final class Reducao implements SumidouroInt {
+
+        private final OperacaoBinariaInt operacao;
+
+        private boolean iniciada;
+
+        private int acumulo;
+
+        private Reducao(final OperacaoBinariaInt operacao) {
+            this.operacao = operacao;
+        }
+
+        private Reducao(final OperacaoBinariaInt operacao, final int identidade) {
+            this.operacao = operacao;
+            this.acumulo = identidade;
+            this.iniciada = true;
+        }
+
+        @Override
+        public void aceitar(final int valor) {
+
+            if (iniciada) {
+                acumulo = operacao.operar(acumulo, valor);
+            } else {
+                acumulo = valor;
+                iniciada = true;
+            }
+
+        }
+
+        private JOptional<Integer> resultado() {
+            if (!iniciada) return JOptional.nulo();
+            return JOptional.dePossivelNulo(acumulo);
+        }
+
+    }
+
+    private static final class Estatisticas implements SumidouroInt {
+
+        private long quantidade;
+
+        private long soma;
+
+        private long minimo = Long.MAX_VALUE;
+
+        private long maximo = Long.MIN_VALUE;
+
+        @Override
+        public void aceitar(final int valor) {
+            quantidade++;
+            soma += valor;
+            minimo = Math.min(minimo, valor);
+            maximo = Math.max(maximo, valor);
+        }
+
+        private JEstatisticasLong resultado() {
+            return new JEstatisticasLong(quantidade, soma, minimo, maximo);
+        }
+
+    }
+
+    private static final class Soma implements SumidouroInt {
+
+        private long soma;
+
+        private long quantidade;
+
+        @Override
+        public void aceitar(final int valor) {
+            soma += valor;
+            quantidade++;
+        }
+
+    }
+
+    private static final class PrimeiroValor implements SumidouroInt {
+
+        private boolean encontrado;
+
+        private int valor;
+
+        @Override
+        public void aceitar(final int valor) {
+            this.valor = valor;
+            encontrado = true;
+        }
+
+        @Override
+        public boolean saciado() {
+            return encontrado;
+        }
+
+        private JOptional<Integer> resultado() {
+            if (!encontrado) return JOptional.nulo();
+            return JOptional.dePossivelNulo(valor);
+        }
+
+    }
+
+    private static final class Combinacao implements SumidouroInt {
+
+        private final PredicadoInt predicado;
+
+        private final boolean esperado;
+
+        private boolean avaliada;
+
+        private boolean encontrada;
+
+        private Combinacao(final PredicadoInt predicado, final boolean esperado) {
+            this.predicado = predicado;
+            this.esperado = esperado;
+        }
+
+        @Override
+        public void aceitar(final int valor) {
+            avaliada = true;
+            encontrada = predicado.teste(valor) == esperado;
+        }
+
+        @Override
+        public boolean saciado() {
+            return encontrada;
+        }
+
+    }
+
+    /**
+     * Com o tamanho exato, o resultado é preenchido diretamente; sem ele, os valores são acumulados num arranjo
+     * emprestado da {@link Arena} e copiados no tamanho final.
+     */
+    private static final class Arranjo implements SumidouroInt {
+
+        private final boolean exato;
+
+        private int[] valores;
+
+        private int tamanho;
+
+        private Arranjo(final long tamanhoExato) {
+            exato = tamanhoExato >= 0 && tamanhoExato <= Integer.MAX_VALUE - 8;
+            valores = exato ? new int[(int) tamanhoExato] : Arena.ints(Arena.MENOR);
+        }
+
+        @Override
+        public void aceitar(final int valor) {
+            if (tamanho == valores.length) valores = Arena.crescer(valores, tamanho);
+            valores[tamanho++] = valor;
+        }
+
+        private int[] resultado() {
+            if (exato && tamanho == valores.length) return valores;
+            final int[] resultado = Arrays.copyOf(valores, tamanho);
+            if (!exato) Arena.devolver(valores);
+            return resultado;
+        }
+
+    }
+
+}
@@ -0,0 +1,18 @@
+package br.projeto.blastin.jstream;
+
+/**
+ * Agregações por janela de {@link JDoubleStream#janelaDeslizante(int, int)}, uma por janela completa, na ordem
+ * das janelas. Somas e médias custam O(1) por elemento, somando quem entra e subtraindo quem sai; mínimos e
+ * máximos usam uma fila monotônica e, como em {@link JDoubleStream#minimo()}, um NaN na janela prevalece.
+ */
+public interface JJanelasDouble {
+
+    JDoubleStream soma();
+
+    JDoubleStream media();
+
+    JDoubleStream minimo();
+
+    JDoubleStream maximo();
+
+}
@@ -0,0 +1,18 @@
+package br.projeto.blastin.jstream;
+
+/**
+ * Agregações por janela de {@link JLongStream#janelaDeslizante(int, int)}, uma por janela completa, na ordem
+ * das janelas. Somas e médias custam O(1) por elemento, somando quem entra e subtraindo quem sai; mínimos e
+ * máximos usam uma fila monotônica, também O(1) amortizado.
+ */
+public interface JJanelasLong {
+
+    JLongStream soma();
+
+    JDoubleStream media();
+
+    JLongStream minimo();
+
+    JLongStream maximo();
+
+}
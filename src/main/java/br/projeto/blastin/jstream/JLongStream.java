@@ -0,0 +1,70 @@
+package br.projeto.blastin.jstream;
+
+import br.projeto.blastin.joptional.JOptional;
+
+public interface JLongStream {
+
+    JLongStream mapeamento(OperacaoUnariaLong operacao);
+
+    <S> JStream<S> mapeamentoParaObjeto(FuncaoDeLong<S> funcao);
+
+    JDoubleStream paraDouble();
+
+    JStream<Long> emCaixa();
+
+    JLongStream filtro(PredicadoLong predicado);
+
+    JLongStream limite(long quantidade);
+
+    JLongStream pular(long quantidade);
+
+    JLongStream tomarEnquanto(PredicadoLong predicado);
+
+    JLongStream descartarEnquanto(PredicadoLong predicado);
+
+    JLongStream distintos();
+
+    /**
+     * Agregações sobre janelas de {@code tamanho} valores iniciadas a cada {@code passo} valores.
+     */
+    JJanelasLong janelaDeslizante(int tamanho, int passo);
+
+    JJanelasLong janelaFixa(int tamanho);
+
+    /**
+     * Valores em ordem crescente; conjuntos grandes são ordenados por radix sort.
+     */
+    JLongStream ordenado();
+
+    long reducao(long identidade, OperacaoBinariaLong operacao);
+
+    JOptional<Long> reducao(OperacaoBinariaLong operacao);
+
+    JOptional<Long> primeiroValor();
+
+    long soma();
+
+    JOptional<Long> minimo();
+
+    JOptional<Long> maximo();
+
+    JOptional<Double> media();
+
+    /**
+     * Quantidade, soma, mínimo, máximo e média numa única passada.
+     */
+    JEstatisticasLong estatisticas();
+
+    long quantidade();
+
+    long[] paraArranjo();
+
+    boolean presente();
+
+    boolean vazio();
+
+    boolean peloMenosUmCombina(PredicadoLong predicado);
+
+    boolean todosCombinam(PredicadoLong predicado);
+
+}
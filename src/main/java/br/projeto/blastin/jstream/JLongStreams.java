@@ -0,0 +1,367 @@
+package br.projeto.blastin.jstream;
+
+import br.projeto.blastin.joptional.JOptional;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Stream de valores long primitivos. Os estágios e as operações terminais trabalham diretamente sobre
+ * long, de modo que nenhum valor é encaixotado antes do resultado final.
+ */
+public final class JLongStreams implements JLongStream {
+
+    public static JLongStream de(final long... valores) {
+        return new JLongStreams(new FontesLong.Arranjo(valores));
+    }
+
+    public static JLongStream intervalo(final long inicio, final long fim) {
+        return new JLongStreams(new FontesLong.Intervalo(inicio, Math.max(inicio, fim)));
+    }
+
+    JLongStreams(final FonteLong fonte) {
+        this.fonte = fonte;
+    }
+
+    private final FonteLong fonte;
+
+    @Override
+    public JLongStream mapeamento(final OperacaoUnariaLong operacao) {
+        Objects.requireNonNull(operacao);
+        return new JLongStreams(new FontesLong.Mapeamento(fonte, operacao));
+    }
+
+    @Override
+    public <S> JStream<S> mapeamentoParaObjeto(final FuncaoDeLong<S> funcao) {
+        Objects.requireNonNull(funcao);
+        return JStreams.deFonte(new FontesLong.ParaObjeto<>(fonte, funcao));
+    }
+
+    @Override
+    public JDoubleStream paraDouble() {
+        return new JDoubleStreams(new FontesLong.ParaDouble(fonte));
+    }
+
+    @Override
+    public JStream<Long> emCaixa() {
+        return mapeamentoParaObjeto(Long::valueOf);
+    }
+
+    @Override
+    public JLongStream filtro(final PredicadoLong predicado) {
+        Objects.requireNonNull(predicado);
+        return new JLongStreams(new FontesLong.Filtro(fonte, predicado));
+    }
+
+    @Override
+    public JLongStream limite(final long quantidade) {
+        return new JLongStreams(fonte.limite(naoNegativo(quantidade)));
+    }
+
+    @Override
+    public JLongStream pular(final long quantidade) {
+        return new JLongStreams(fonte.pular(naoNegativo(quantidade)));
+    }
+
+    @Override
+    public JLongStream tomarEnquanto(final PredicadoLong predicado) {
+        Objects.requireNonNull(predicado);
+        return new JLongStreams(new FontesLong.TomarEnquanto(fonte, predicado));
+    }
+
+    @Override
+    public JLongStream descartarEnquanto(final PredicadoLong predicado) {
+        Objects.requireNonNull(predicado);
+        return new JLongStreams(new FontesLong.DescartarEnquanto(fonte, predicado));
+    }
+
+    @Override
+    public JLongStream distintos() {
+        return new JLongStreams(new FontesLong.Distintos(fonte));
+    }
+
+    @Override
+    public JJanelasLong janelaDeslizante(final int tamanho, final int passo) {
+        Janelas.validar(tamanho, passo);
+        return new JanelasLong(fonte, tamanho, passo);
+    }
+
+    @Override
+    public JJanelasLong janelaFixa(final int tamanho) {
+        return janelaDeslizante(tamanho, tamanho);
+    }
+
+    @Override
+    public JLongStream ordenado() {
+        return new JLongStreams(new FontesLong.Ordenado(fonte));
+    }
+
+    @Override
+    public long reducao(final long identidade, final OperacaoBinariaLong operacao) {
+        Objects.requireNonNull(operacao);
+        final Reducao reducao = new Reducao(operacao, identidade);
+        fonte.percorrer(reducao);
+        return reducao.acumulo;
+    }
+
+    @Override
+    public JOptional<Long> reducao(final OperacaoBinariaLong operacao) {
+        Objects.requireNonNull(operacao);
+        final Reducao reducao = new Reducao(operacao);
+        fonte.percorrer(reducao);
+        return reducao.resultado();
+    }
+
+    @Override
+    public JOptional<Long> primeiroValor() {
+        final PrimeiroValor primeiroValor = new PrimeiroValor();
+        fonte.percorrer(primeiroValor);
+        return primeiroValor.resultado();
+    }
+
+    @Override
+    public long soma() {
+        final Soma soma = new Soma();
+        fonte.percorrer(soma);
+        return soma.soma;
+    }
+
+    @Override
+    public JOptional<Long> minimo() {
+        return reducao(Math::min);
+    }
+
+    @Override
+    public JOptional<Long> maximo() {
+        return reducao(Math::max);
+    }
+
+    @Override
+    public JOptional<Double> media() {
+
+        final Soma soma = new Soma();
+
+        fonte.percorrer(soma);
+
+        if (soma.quantidade == 0) return JOptional.nulo();
+
+        return JOptional.dePossivelNulo((double) soma.soma / soma.quantidade);
+
+    }
+
+    @Override
+    public JEstatisticasLong estatisticas() {
+        final Estatisticas estatisticas = new Estatisticas();
+        fonte.percorrer(estatisticas);
+        return estatisticas.resultado();
+    }
+
+    @Override
+    public long quantidade() {
+        final Soma soma = new Soma();
+        fonte.percorrer(soma);
+        return soma.quantidade;
+    }
+
+    @Override
+    public long[] paraArranjo() {
+        final Arranjo arranjo = new Arranjo(fonte.tamanhoExato());
+        fonte.percorrer(arranjo);
+        return arranjo.resultado();
+    }
+
+    @Override
+    public boolean presente() {
+        final PrimeiroValor primeiroValor = new PrimeiroValor();
+        fonte.percorrer(primeiroValor);
+        return primeiroValor.encontrado;
+    }
+
+    @Override
+    public boolean vazio() {
+        return !presente();
+    }
+
+    @Override
+    public boolean peloMenosUmCombina(final PredicadoLong predicado) {
+        return combinacao(predicado, true).encontrada;
+    }
+
+    @Override
+    public boolean todosCombinam(final PredicadoLong predicado) {
+        final Combinacao divergencia = combinacao(predicado, false);
+        return divergencia.avaliada && !divergencia.encontrada;
+    }
+
+    private Combinacao combinacao(final PredicadoLong predicado, final boolean esperado) {
+        Objects.requireNonNull(predicado);
+        final Combinacao combinacao = new Combinacao(predicado, esperado);
+        fonte.percorrer(combinacao);
+        return combinacao;
+    }
+
+    private static long naoNegativo(final long quantidade) {
+        if (quantidade < 0) throw new IllegalArgumentException("quantidade negativa: " + quantidade);
+        return quantidade;
+    }
+
+    private static final class Reducao implements SumidouroLong {
+
+        private final OperacaoBinariaLong operacao;
+
+        private boolean iniciada;
+
+        private long acumulo;
+
+        private Reducao(final OperacaoBinariaLong operacao) {
+            this.operacao = operacao;
+        }
+
+        private Reducao(final OperacaoBinariaLong operacao, final long identidade) {
+            this.operacao = operacao;
+            this.acumulo = identidade;
+            this.iniciada = true;
+        }
+
+        @Override
+        public void aceitar(final long valor) {
+
+            if (iniciada) {
+                acumulo = operacao.operar(acumulo, valor);
+            } else {
+                acumulo = valor;
+                iniciada = true;
+            }
+
+        }
+
+        private JOptional<Long> resultado() {
+            if (!iniciada) return JOptional.nulo();
+            return JOptional.dePossivelNulo(acumulo);
+        }
+
+    }
+
+    private static final class Estatisticas implements SumidouroLong {
+
+        private long quantidade;
+
+        private long soma;
+
+        private long minimo = Long.MAX_VALUE;
+
+        private long maximo = Long.MIN_VALUE;
+
+        @Override
+        public void aceitar(final long valor) {
+            quantidade++;
+            soma += valor;
+            minimo = Math.min(minimo, valor);
+            maximo = Math.max(maximo, valor);
+        }
+
+        private JEstatisticasLong resultado() {
+            return new JEstatisticasLong(quantidade, soma, minimo, maximo);
+        }
+
+    }
+
+    private static final class Soma implements SumidouroLong {
+
+        private long soma;
+
+        private long quantidade;
+
+        @Override
+        public void aceitar(final long valor) {
+            soma += valor;
+            quantidade++;
+        }
+
+    }
+
+    private static final class PrimeiroValor implements SumidouroLong {
+
+        private boolean encontrado;
+
+        private long valor;
+
+        @Override
+        public void aceitar(final long valor) {
+            this.valor = valor;
+            encontrado = true;
+        }
+
+        @Override
+        public boolean saciado() {
+            return encontrado;
+        }
+
+        private JOptional<Long> resultado() {
+            if (!encontrado) return JOptional.nulo();
+            return JOptional.dePossivelNulo(valor);
+        }
+
+    }
+
+    private static final class Combinacao implements SumidouroLong {
+
+        private final PredicadoLong predicado;
+
+        private final boolean esperado;
+
+        private boolean avaliada;
+
+        private boolean encontrada;
+
+        private Combinacao(final PredicadoLong predicado, final boolean esperado) {
+            this.predicado = predicado;
+            this.esperado = esperado;
+        }
+
+        @Override
+        public void aceitar(final long valor) {
+            avaliada = true;
+            encontrada = predicado.teste(valor) == esperado;
+        }
+
+        @Override
+        public boolean saciado() {
+            return encontrada;
+        }
+
+    }
+
+    /**
+     * Com o tamanho exato, o resultado é preenchido diretamente; sem ele, os valores são acumulados num arranjo
+     * emprestado da {@link Arena} e copiados no tamanho final.
+     */
+    private static final class Arranjo implements SumidouroLong {
+
+        private final boolean exato;
+
+        private long[] valores;
+
+        private int tamanho;
+
+        private Arranjo(final long tamanhoExato) {
+            exato = tamanhoExato >= 0 && tamanhoExato <= Integer.MAX_VALUE - 8;
+            valores = exato ? new long[(int) tamanhoExato] : Arena.longs(Arena.MENOR);
+        }
+
+        @Override
+        public void aceitar(final long valor) {
+            if (tamanho == valores.length) valores = Arena.crescer(valores, tamanho);
+            valores[tamanho++] = valor;
+        }
+
+        private long[] resultado() {
+            if (exato && tamanho == valores.length) return valores;
+            final long[] resultado = Arrays.copyOf(valores, tamanho);
+            if (!exato) Arena.devolver(valores);
+            return resultado;
+        }
+
+    }
+
+}
@@ -0,0 +1,12 @@
+package br.projeto.blastin.jstream;
+
+/**
+ * Recebe um {@link JRelatorio} ao fim de cada operação terminal de uma stream criada com
+ * {@link JStream#observado(JObservador)}. É chamado na thread que iniciou a operação terminal.
+ */
+@FunctionalInterface
+public interface JObservador {
+
+    void relatar(JRelatorio relatorio);
+
+}
@@ -0,0 +1,144 @@
+package br.projeto.blastin.jstream;
+
+import br.projeto.blastin.joptional.Funcao;
+import br.projeto.blastin.joptional.Predicado;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Sequência de mapeamentos e filtros montada e validada uma única vez e aplicada a quantas fontes for preciso.
+ * É imutável: cada estágio devolve um novo pipeline, e o mesmo pipeline pode ser aplicado por várias threads ao
+ * mesmo tempo. Na aplicação, todos os estágios são fundidos num só, sem um sumidouro por estágio.
+ *
+ * @param <T> tipo dos elementos de entrada
+ * @param <R> tipo dos elementos produzidos
+ */
+public final class JPipeline<T, R> {
+
+    private static final JPipeline<?, ?> IDENTIDADE = new JPipeline<>(new Object[0], new boolean[0], false);
+
+    private final Object[] operacoes;
+
+    private final boolean[] filtros;
+
+    private final boolean especializado;
+
+    /**
+     * resolvidos na primeira aplicação especializada; threads concorrentes podem resolvê-los mais de uma vez, e
+     * qualquer um dos resultados serve
+     */
+    private volatile MethodHandle[] construtores;
+
+    private JPipeline(final Object[] operacoes, final boolean[] filtros, final boolean especializado) {
+        this.operacoes = operacoes;
+        this.filtros = filtros;
+        this.especializado = especializado;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> JPipeline<T, T> novo() {
+        return (JPipeline<T, T>) IDENTIDADE;
+    }
+
+    public <S> JPipeline<T, S> mapeamento(final Funcao<? super R, S> funcao) {
+        Objects.requireNonNull(funcao);
+        return new JPipeline<>(acrescentar(funcao), Arrays.copyOf(filtros, filtros.length + 1), especializado);
+    }
+
+    public JPipeline<T, R> filtro(final Predicado<? super R> predicado) {
+        Objects.requireNonNull(predicado);
+        final boolean[] novosFiltros = Arrays.copyOf(filtros, filtros.length + 1);
+        novosFiltros[filtros.length] = true;
+        return new JPipeline<>(acrescentar(predicado), novosFiltros, especializado);
+    }
+
+    /**
+     * Pipeline cujos estágios, ao serem aplicados, rodam em classes ocultas geradas para este pipeline,
+     * para que o JIT possa embutir as funções mesmo quando muitas outras passam pelos mesmos estágios. A geração
+     * ocorre uma vez por pipeline, na primeira aplicação, e as classes são liberadas junto com ele; em JVMs sem
+     * {@code Lookup.defineHiddenClass} (anteriores ao JDK 15) o comportamento é o de um pipeline comum. Estágios
+     * observados não são especializados.
+     */
+    public JPipeline<T, R> especializado() {
+        if (especializado) return this;
+        return new JPipeline<>(operacoes, filtros, true);
+    }
+
+    public JStream<R> aplicar(final T[] dados) {
+        Objects.requireNonNull(dados);
+        return aplicar(JStreams.de(dados));
+    }
+
+    public JStream<R> aplicar(final Collection<? extends T> dados) {
+        Objects.requireNonNull(dados);
+        return aplicar(JStreams.de(dados));
+    }
+
+    /**
+     * Os estágios seguem os da stream, que mantém o paralelismo e a observação configurados.
+     */
+    @SuppressWarnings("unchecked")
+    public JStream<R> aplicar(final JStream<? extends T> stream) {
+
+        Objects.requireNonNull(stream);
+
+        if (stream instanceof JStreams) return ((JStreams<? extends T>) stream).encadear(this);
+
+        JStream<Object> encadeada = (JStream<Object>) stream;
+
+        for (int i = 0; i < operacoes.length; i++) {
+            encadeada = filtros[i]
+                    ? encadeada.filtro((Predicado<Object>) operacoes[i])
+                    : encadeada.mapeamento((Funcao<Object, Object>) operacoes[i]);
+        }
+
+        return (JStream<R>) encadeada;
+
+    }
+
+    /**
+     * Estágio fundido sobre a fonte; com um medidor, cada operação tem seu tempo medido.
+     */
+    @SuppressWarnings("unchecked")
+    Fonte<R> sobre(final Fonte<? extends T> fonte, final Medidor medidor) {
+
+        if (operacoes.length == 0) return (Fonte<R>) fonte;
+
+        if (medidor == null) {
+            return especializado
+                    ? Especializacao.fusao(fonte, construtores(), operacoes, filtros)
+                    : new Fusao<>(fonte, operacoes, filtros);
+        }
+
+        final Object[] medidas = new Object[operacoes.length];
+
+        for (int i = 0; i < operacoes.length; i++) {
+            medidas[i] = filtros[i]
+                    ? medidor.medirPredicado((Predicado<Object>) operacoes[i])
+                    : medidor.medir((Funcao<Object, Object>) operacoes[i]);
+        }
+
+        return new Fusao<>(fonte, medidas, filtros);
+
+    }
+
+    private MethodHandle[] construtores() {
+
+        MethodHandle[] resolvidos = construtores;
+
+        if (resolvidos == null) construtores = resolvidos = Especializacao.resolver(filtros);
+
+        return resolvidos;
+
+    }
+
+    private Object[] acrescentar(final Object operacao) {
+        final Object[] novas = Arrays.copyOf(operacoes, operacoes.length + 1);
+        novas[operacoes.length] = operacao;
+        return novas;
+    }
+
+}
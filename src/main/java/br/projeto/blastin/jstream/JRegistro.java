@@ -0,0 +1,51 @@
+package br.projeto.blastin.jstream;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Vista de um registro de um {@link JArmazem}. Os campos são lidos diretamente da memória fora do heap, pelo
+ * deslocamento em bytes dentro do registro; o objeto só é criado em {@link #decodificar()}.
+ */
+public final class JRegistro<T> {
+
+    private final ByteBuffer bloco;
+
+    private final int posicao;
+
+    private final JCodec<T> codec;
+
+    JRegistro(final ByteBuffer bloco, final int posicao, final JCodec<T> codec) {
+        this.bloco = bloco;
+        this.posicao = posicao;
+        this.codec = codec;
+    }
+
+    public byte lerByte(final int deslocamento) {
+        return bloco.get(posicao + deslocamento);
+    }
+
+    public short lerShort(final int deslocamento) {
+        return bloco.getShort(posicao + deslocamento);
+    }
+
+    public int lerInt(final int deslocamento) {
+        return bloco.getInt(posicao + deslocamento);
+    }
+
+    public long lerLong(final int deslocamento) {
+        return bloco.getLong(posicao + deslocamento);
+    }
+
+    public float lerFloat(final int deslocamento) {
+        return bloco.getFloat(posicao + deslocamento);
+    }
+
+    public double lerDouble(final int deslocamento) {
+        return bloco.getDouble(posicao + deslocamento);
+    }
+
+    public T decodificar() {
+        return codec.decodificar(bloco, posicao);
+    }
+
+}
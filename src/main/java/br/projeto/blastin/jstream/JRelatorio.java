@@ -0,0 +1,54 @@
+package br.projeto.blastin.jstream;
+
+import java.util.List;
+
+/**
+ * Resultado da observação de uma operação terminal. As contagens de cada estágio são zeradas ao serem
+ * relatadas, então cada relatório cobre apenas o seu percurso.
+ */
+public final class JRelatorio {
+
+    private final String operacao;
+
+    private final long nanos;
+
+    private final long tamanhoPrevisto;
+
+    private final List<JEstagio> estagios;
+
+    JRelatorio(final String operacao, final long nanos, final long tamanhoPrevisto, final List<JEstagio> estagios) {
+        this.operacao = operacao;
+        this.nanos = nanos;
+        this.tamanhoPrevisto = tamanhoPrevisto;
+        this.estagios = estagios;
+    }
+
+    public String operacao() {
+        return operacao;
+    }
+
+    public long nanos() {
+        return nanos;
+    }
+
+    /**
+     * tamanho exato conhecido antes do percurso, usado para dimensionar arranjos e recipientes; -1 quando
+     * desconhecido e os recipientes crescem sob demanda
+     */
+    public long tamanhoPrevisto() {
+        return tamanhoPrevisto;
+    }
+
+    /**
+     * estágios na ordem do pipeline, da fonte à operação terminal
+     */
+    public List<JEstagio> estagios() {
+        return estagios;
+    }
+
+    @Override
+    public String toString() {
+        return operacao + " nanos=" + nanos + " tamanhoPrevisto=" + tamanhoPrevisto + " " + estagios;
+    }
+
+}
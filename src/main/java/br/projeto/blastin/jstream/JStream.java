@@ -4,20 +4,165 @@ import br.projeto.blastin.joptional.Funcao;
 import br.projeto.blastin.joptional.JOptional;
 import br.projeto.blastin.joptional.Predicado;
 
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collector;
 
 public interface JStream<T> {
 
     <S> JStream<S> mapeamento(Funcao<? super T, S> funcao);
 
+    /**
+     * Substitui cada elemento pelos elementos da stream produzida pela função, percorrendo-a diretamente, sem
+     * coletá-la. Streams nulas são ignoradas.
+     */
+    <S> JStream<S> mapeamentoPlano(Funcao<? super T, ? extends JStream<? extends S>> funcao);
+
+    /**
+     * Como {@link #mapeamentoAssincrono(Funcao, int, Executor)}, em threads virtuais quando a JVM as oferece, ou
+     * num pool de threads daemon nas versões anteriores.
+     */
+    <S> JStream<S> mapeamentoAssincrono(Funcao<? super T, S> funcao, int concorrenciaMaxima);
+
+    /**
+     * Aplica a função no executor com até {@code concorrenciaMaxima} chamadas simultâneas, para funções que
+     * bloqueiam em E/S. Os resultados seguem na ordem de encontro; a primeira falha cancela as tarefas restantes
+     * e é relançada na operação terminal.
+     */
+    <S> JStream<S> mapeamentoAssincrono(Funcao<? super T, S> funcao, int concorrenciaMaxima, Executor executor);
+
+    JIntStream mapeamentoParaInt(FuncaoParaInt<? super T> funcao);
+
+    JLongStream mapeamentoParaLong(FuncaoParaLong<? super T> funcao);
+
+    JDoubleStream mapeamentoParaDouble(FuncaoParaDouble<? super T> funcao);
+
     JStream<T> filtro(Predicado<? super T> predicado);
 
+    JStream<T> limite(long quantidade);
+
+    JStream<T> pular(long quantidade);
+
+    JStream<T> tomarEnquanto(Predicado<? super T> predicado);
+
+    JStream<T> descartarEnquanto(Predicado<? super T> predicado);
+
+    /**
+     * Agrupa os elementos em listas imutáveis de até {@code tamanho} elementos, na ordem de encontro. Sobre
+     * arranjos, cada lista é uma vista do trecho correspondente, sem cópia.
+     */
+    JStream<List<T>> emLotes(int tamanho);
+
+    /**
+     * Como {@link #mapeamentoEmLote(int, Funcao)}, com lotes de {@value JStreams#LOTE_PADRAO} elementos.
+     */
+    <S> JStream<S> mapeamentoEmLote(Funcao<? super List<T>, ? extends List<S>> funcao);
+
+    /**
+     * Entrega à função lotes inteiros, como em {@link #emLotes(int)}, para operações mais baratas em bloco, e
+     * segue com os elementos das listas devolvidas. Resultados nulos são descartados.
+     */
+    <S> JStream<S> mapeamentoEmLote(int tamanho, Funcao<? super List<T>, ? extends List<S>> funcao);
+
+    /**
+     * Janelas de {@code tamanho} elementos iniciadas a cada {@code passo} elementos, como listas imutáveis; só
+     * janelas completas são emitidas. Nenhuma janela é copiada: sobre arranjos, cada uma é uma vista do trecho
+     * correspondente, e nas demais fontes, uma vista de um buffer que nunca é sobrescrito.
+     */
+    JStream<List<T>> janelaDeslizante(int tamanho, int passo);
+
+    /**
+     * Janelas consecutivas e sem sobreposição, como {@code janelaDeslizante(tamanho, tamanho)}.
+     */
+    JStream<List<T>> janelaFixa(int tamanho);
+
+    /**
+     * Mantém a primeira ocorrência de cada elemento, segundo {@link Object#equals(Object)}, na ordem de encontro.
+     */
+    JStream<T> distintos();
+
+    /**
+     * Ordena os elementos de forma estável. É um estágio de barreira: nada segue adiante antes de a fonte ser
+     * consumida por inteiro. Seguido de {@link #limite(long)}, mantém apenas os primeiros num heap limitado.
+     */
+    JStream<T> ordenado(Comparator<? super T> comparador);
+
+    /**
+     * Os {@code quantidade} maiores elementos, do maior para o menor, sem ordenar a stream inteira.
+     */
+    JStream<T> maiores(long quantidade, Comparator<? super T> comparador);
+
+    /**
+     * Os {@code quantidade} menores elementos, do menor para o maior, sem ordenar a stream inteira.
+     */
+    JStream<T> menores(long quantidade, Comparator<? super T> comparador);
+
+    JStream<T> paralelo();
+
+    JStream<T> paralelo(ForkJoinPool pool);
+
+    /**
+     * Divide a fonte em fatias avaliadas no pool informado e combina os parciais na ordem de encontro. Fontes
+     * com até {@code limiarSequencial} elementos, ou com estágios dependentes de ordem como {@link #limite(long)},
+     * são avaliadas sequencialmente. Operações de {@link #reducao(OperacaoBinaria)} devem ser associativas.
+     */
+    JStream<T> paralelo(ForkJoinPool pool, long limiarSequencial);
+
+    JStream<T> sequencial();
+
+    /**
+     * Estágios registrados a partir daqui contam elementos de entrada e saída e o tempo gasto nas funções do
+     * usuário; ao fim de cada operação terminal o observador recebe um {@link JRelatorio} e eventos do JDK Flight
+     * Recorder são emitidos. Tudo o que veio antes é medido como um único estágio, a fonte.
+     */
+    JStream<T> observado(JObservador observador);
+
+    /**
+     * Como {@link #observado(JObservador)}, emitindo apenas os eventos do JDK Flight Recorder.
+     */
+    JStream<T> observado();
+
+    /**
+     * Publica os elementos para assinantes de {@link Flow}, produzindo cada um somente quando há demanda. Cada
+     * assinatura percorre a stream sequencialmente, em threads virtuais quando a JVM as oferece.
+     */
+    Flow.Publisher<T> comoPublicador();
+
+    Flow.Publisher<T> comoPublicador(Executor executor);
+
     JOptional<T> reducao(OperacaoBinaria<T> operacaoBinaria);
 
     JOptional<T> primeiroValor();
 
     <A, R> R paraColecao(Collector<? super T, A, R> collector);
 
+    <A, R> R paraColecao(JColetor<? super T, A, R> coletor);
+
+    /**
+     * Agrupa os elementos pela chave e agrega cada grupo numa única passada, sem coleções por grupo. O mapa
+     * resultante é imutável e itera os grupos na ordem em que apareceram; chaves nulas não são aceitas.
+     */
+    <K, R> Map<K, R> agruparPor(Funcao<? super T, ? extends K> chave, JAgregador<? super T, R> agregador);
+
+    /**
+     * Calcula todos os agregadores numa única passada pelos elementos. Em paralelo, cada fatia acumula os seus
+     * parciais, que são combinados na ordem de encontro.
+     */
+    <A, B> JAgregados.Dois<A, B> agregar(JAgregador<? super T, A> primeiro, JAgregador<? super T, B> segundo);
+
+    <A, B, C> JAgregados.Tres<A, B, C> agregar(JAgregador<? super T, A> primeiro,
+                                             JAgregador<? super T, B> segundo,
+                                             JAgregador<? super T, C> terceiro);
+
+    <A, B, C, D> JAgregados.Quatro<A, B, C, D> agregar(JAgregador<? super T, A> primeiro,
+                                                     JAgregador<? super T, B> segundo,
+                                                     JAgregador<? super T, C> terceiro,
+                                                     JAgregador<? super T, D> quarto);
+
     boolean presente();
 
     boolean vazio();
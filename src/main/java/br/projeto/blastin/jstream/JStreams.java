@@ -5,9 +5,25 @@ import br.projeto.blastin.joptional.JOptional;
 import br.projeto.blastin.joptional.Predicado;
 import br.projeto.blastin.joptional.Provedor;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
 import java.util.stream.Collector;
 
 /**
@@ -15,23 +31,189 @@ import java.util.stream.Collector;
  * @author Jefferson Lisboa < lisboa.jeff@gmail.com >
  * @apiNote JStream é uma releitura básica da biblioteca stream. A proposta é estudar e desenvolver
  * habilidades com a utilizao de interfaces para resolver o canivete <p> map, filter, reduce </p>
+ * <p> As operações intermediárias apenas registram estágios; a operação terminal percorre a fonte uma
+ * única vez, aplicando todos os estágios a cada elemento, sem arranjos intermediários. </p>
  */
 public final class JStreams<T> implements JStream<T> {
 
+    /**
+     * tamanho de lote de {@link JStream#mapeamentoEmLote(Funcao)} e da demanda de {@link #dePublicador(Flow.Publisher)}
+     */
+    public static final int LOTE_PADRAO = 1 << 8;
+
     public static <T> JStream<T> de(final T t) {
-        return new JStreamProxy<>(new JStreams<>(t));
+        if (t == null) return nula();
+        return new JStreams<>(new FonteUnica<>(t));
     }
 
+    /**
+     * Percorre o próprio arranjo, sem cópia, que não deve ser modificado enquanto a stream existir. O arranjo só
+     * é lido elemento a elemento e nunca é devolvido como {@code T[]}, por isso guardá-lo na fonte não polui o heap.
+     */
     @SafeVarargs
+    @SuppressWarnings("varargs")
     public static <T> JStream<T> de(final T... t) {
-        return new JStreamProxy<>(new JStreams<>(t, t.length));
+        if (t.length == 0) return nula();
+        return new JStreams<>(new FonteArranjo<>(t, t.length, false));
+    }
+
+    /**
+     * Trecho [inicio, fim) do arranjo, sem cópia; como em {@link #de(Object[])}, o arranjo não deve ser
+     * modificado enquanto a stream existir.
+     */
+    public static <T> JStream<T> de(final T[] ts, final int inicio, final int fim) {
+        Objects.checkFromToIndex(inicio, fim, ts.length);
+        if (inicio == fim) return nula();
+        return new JStreams<>(FonteArranjo.trecho(ts, inicio, fim));
     }
 
     @SuppressWarnings("unchecked")
     public static <T> JStream<T> de(final Collection<T> colecao) {
-        Objects.requireNonNull(colecao);
+        if (colecao.isEmpty()) return nula();
         final T[] ts = (T[]) colecao.toArray();
-        return new JStreamProxy<>(new JStreams<>(ts, ts.length));
+        return new JStreams<>(new FonteArranjo<>(ts, ts.length, true));
+    }
+
+    /**
+     * Listas de acesso aleatório, como {@link java.util.ArrayList}, são lidas por índice, sem cópia, e podem ser
+     * divididas em paralelo; as demais são percorridas pelo iterador. A lista não deve ser modificada enquanto
+     * a stream existir: mudanças de tamanho são relatadas com
+     * {@link java.util.ConcurrentModificationException} ao fim de cada percurso.
+     */
+    public static <T> JStream<T> deLista(final List<? extends T> lista) {
+        Objects.requireNonNull(lista);
+        if (lista.isEmpty()) return nula();
+        if (lista instanceof RandomAccess) return new JStreams<>(new FonteLista<>(lista));
+        return deFonte(new FonteIteravel<>(lista));
+    }
+
+    /**
+     * O iterador é consumido pelo primeiro percurso; operações terminais seguintes encontram a stream vazia.
+     */
+    public static <T> JStream<T> deIterador(final Iterator<? extends T> iterador) {
+        Objects.requireNonNull(iterador);
+        return deFonte(new FonteIteravel<T>(iteravelUnico(iterador)));
+    }
+
+    /**
+     * Cada operação terminal obtém um novo iterador, sem copiar os elementos.
+     */
+    public static <T> JStream<T> deIteravel(final Iterable<? extends T> iteravel) {
+        Objects.requireNonNull(iteravel);
+        return deFonte(new FonteIteravel<>(iteravel));
+    }
+
+    public static <T> JStream<T> deSpliterator(final Spliterator<? extends T> spliterator) {
+        Objects.requireNonNull(spliterator);
+        return deFonte(new FonteSpliterator<>(spliterator));
+    }
+
+    /**
+     * Stream infinita; deve ser encerrada por {@link JStream#limite(long)}, {@link JStream#tomarEnquanto(Predicado)}
+     * ou por uma operação terminal de curto-circuito.
+     */
+    public static <T> JStream<T> gerar(final Provedor<? extends T> provedor) {
+        Objects.requireNonNull(provedor);
+        return deFonte(new FonteGerada<>(provedor));
+    }
+
+    /**
+     * Stream infinita semente, f(semente), f(f(semente)), ...; ver {@link #gerar(Provedor)}.
+     */
+    public static <T> JStream<T> iterar(final T semente, final Funcao<? super T, ? extends T> funcao) {
+        Objects.requireNonNull(funcao);
+        return deFonte(new FonteIterada<>(semente, funcao));
+    }
+
+    /**
+     * Linhas de um arquivo UTF-8 mapeado em memória; ver {@link #deArquivo(Path, Charset)}.
+     */
+    public static JStream<Linha> deArquivo(final Path arquivo) {
+        return deArquivo(arquivo, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Linhas de um arquivo mapeado em memória, lidas sem cópia como {@link Linha}. O arquivo não deve ser alterado
+     * enquanto a stream existir. Em paralelo, o arquivo é dividido em trechos de bytes.
+     *
+     * @param charset deve codificar '\n' e '\r' em um único byte, como UTF-8 e ISO-8859-1
+     */
+    public static JStream<Linha> deArquivo(final Path arquivo, final Charset charset) {
+        Objects.requireNonNull(arquivo);
+        if (!Arrays.equals("\r\n".getBytes(charset), new byte[]{'\r', '\n'})) {
+            throw new IllegalArgumentException("charset sem quebra de linha de um byte: " + charset);
+        }
+        return deFonte(new FonteLinhas(new ArquivoMapeado(arquivo, 1), charset));
+    }
+
+    /**
+     * Registros de largura fixa de um arquivo mapeado em memória, como fatias somente leitura do arquivo.
+     */
+    public static JStream<ByteBuffer> deRegistros(final Path arquivo, final int tamanhoRegistro) {
+        Objects.requireNonNull(arquivo);
+        if (tamanhoRegistro < 1) throw new IllegalArgumentException("tamanho de registro inválido: " + tamanhoRegistro);
+        return deFonte(new FonteRegistros(new ArquivoMapeado(arquivo, tamanhoRegistro), tamanhoRegistro));
+    }
+
+    /**
+     * Como {@link #dePublicador(Flow.Publisher, int)}, pedindo {@value #LOTE_PADRAO} itens por vez.
+     */
+    public static <T> JStream<T> dePublicador(final Flow.Publisher<? extends T> publicador) {
+        return dePublicador(publicador, LOTE_PADRAO);
+    }
+
+    /**
+     * Cada operação terminal assina o publicador e aplica os estágios a cada item assim que ele chega, pedindo
+     * {@code lote} itens por vez; a operação termina com {@code onComplete}, relança o erro de {@code onError}
+     * e cancela a assinatura quando um curto-circuito é satisfeito.
+     */
+    public static <T> JStream<T> dePublicador(final Flow.Publisher<? extends T> publicador, final int lote) {
+        Objects.requireNonNull(publicador);
+        positivo(lote);
+        return deFonte(new FontePublicador<>(publicador, lote));
+    }
+
+    private static <T> Iterable<T> iteravelUnico(final Iterator<T> iterador) {
+        return () -> iterador;
+    }
+
+    static <T> JStream<T> deFonte(final Fonte<T> fonte) {
+        return new JStreams<>(fonte);
+    }
+
+    /**
+     * Percorre as streams em sequência, sem coletar seus elementos. O tamanho é conhecido quando o de todas é,
+     * e a concatenação de arranjos pode ser dividida em paralelo. Streams nulas são ignoradas.
+     */
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    public static <T> JStream<T> concatenar(final JStream<? extends T>... streams) {
+
+        final Fonte<? extends T>[] partes = Concatenacao.partes(streams.length);
+
+        int quantidade = 0;
+
+        for (final JStream<? extends T> stream : streams) {
+            if (stream != null && stream != JSTREAM_NULO) partes[quantidade++] = fonte(stream);
+        }
+
+        if (quantidade == 0) return nula();
+
+        if (quantidade == 1) return new JStreams<>((Fonte<T>) partes[0]);
+
+        return new JStreams<>(new Concatenacao<>(Arrays.copyOf(partes, quantidade)));
+
+    }
+
+    /**
+     * A fonte de uma {@link JStreams}, sem o paralelismo e a observação; streams de outras implementações são
+     * coletadas numa lista.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Fonte<T> fonte(final JStream<? extends T> stream) {
+        if (stream instanceof JStreams) return ((JStreams<T>) stream).fonte;
+        final T[] ts = (T[]) stream.paraColecao(JColetores.paraLista()).toArray();
+        return new FonteArranjo<>(ts, ts.length, true);
     }
 
     @SuppressWarnings("unchecked")
@@ -39,64 +221,364 @@ public final class JStreams<T> implements JStream<T> {
         return (JStream<T>) JStreams.JSTREAM_NULO;
     }
 
-    private static final JStream<?> JSTREAM_NULO = new JStreamProxy<>(new JStreams<>(null));
+    /**
+     * Operações intermediárias sobre a stream nula devolvem ela mesma, sem alocar estágios.
+     */
+    private static final JStreams<?> JSTREAM_NULO = new JStreams<>(FonteArranjo.vazia());
 
-    @SuppressWarnings("unchecked")
-    private static <T> T[] instancias(final int tamanho) {
-        return (T[]) new Object[tamanho];
+    private JStreams(final Fonte<T> fonte) {
+        this(fonte, null);
     }
 
-    private JStreams(final T t) {
+    private JStreams(final Fonte<T> fonte, final Paralelismo paralelismo) {
+        this(fonte, paralelismo, null);
+    }
 
-        ts = instancias(1);
+    private JStreams(final Fonte<T> fonte, final Paralelismo paralelismo, final Observacao observacao) {
+        this.fonte = fonte;
+        this.paralelismo = paralelismo;
+        this.observacao = observacao;
+    }
 
-        if (t == null) {
-            tamanho = 0;
-        } else {
-            ts[0] = t;
-            tamanho = 1;
-        }
+    private final Fonte<T> fonte;
 
+    /**
+     * nulo quando a stream é sequencial
+     */
+    private final Paralelismo paralelismo;
+
+    /**
+     * nula quando a stream não é observada; os estágios então não recebem contadores nem funções medidas
+     */
+    private final Observacao observacao;
+
+    @Override
+    public <S> JStream<S> mapeamento(final Funcao<? super T, S> funcao) {
+        Objects.requireNonNull(funcao);
+        if (semElementos()) return JStreams.nula();
+        if (observacao == null) return new JStreams<>(new Mapeamento<>(fonte, funcao), paralelismo);
+        return observado("mapeamento", (anterior, medidor) -> new Mapeamento<>(anterior, medidor.medir(funcao)));
+    }
+
+    @Override
+    public <S> JStream<S> mapeamentoPlano(final Funcao<? super T, ? extends JStream<? extends S>> funcao) {
+        Objects.requireNonNull(funcao);
+        if (semElementos()) return JStreams.nula();
+        if (observacao == null) return new JStreams<>(new MapeamentoPlano<>(fonte, funcao), paralelismo);
+        return observado("mapeamentoPlano", (anterior, medidor) -> new MapeamentoPlano<>(anterior, medidor.medir(funcao)));
+    }
+
+    @Override
+    public <S> JStream<S> mapeamentoAssincrono(final Funcao<? super T, S> funcao, final int concorrenciaMaxima) {
+        return mapeamentoAssincrono(funcao, concorrenciaMaxima, MapeamentoAssincrono.executorPadrao());
     }
 
-    private JStreams(final T[] ts, final int tamanho) {
-        this.ts = ts;
-        this.tamanho = tamanho;
+    @Override
+    public <S> JStream<S> mapeamentoAssincrono(final Funcao<? super T, S> funcao,
+                                               final int concorrenciaMaxima,
+                                               final Executor executor) {
+        Objects.requireNonNull(funcao);
+        Objects.requireNonNull(executor);
+        if (concorrenciaMaxima < 1) throw new IllegalArgumentException("concorrência máxima deve ser positiva: " + concorrenciaMaxima);
+        if (semElementos()) return JStreams.nula();
+        if (observacao == null) return new JStreams<>(new MapeamentoAssincrono<>(fonte, funcao, concorrenciaMaxima, executor), paralelismo);
+        return observado("mapeamentoAssincrono", (anterior, medidor) -> new MapeamentoAssincrono<>(anterior, medidor.medir(funcao), concorrenciaMaxima, executor));
     }
 
-    private final T[] ts;
+    @Override
+    public JIntStream mapeamentoParaInt(final FuncaoParaInt<? super T> funcao) {
+        Objects.requireNonNull(funcao);
+        return new JIntStreams(new FontesInt.DeObjeto<>(fonte, funcao));
+    }
 
-    private final int tamanho;
+    @Override
+    public JLongStream mapeamentoParaLong(final FuncaoParaLong<? super T> funcao) {
+        Objects.requireNonNull(funcao);
+        return new JLongStreams(new FontesLong.DeObjeto<>(fonte, funcao));
+    }
 
     @Override
-    public <S> JStream<S> mapeamento(final Funcao<? super T, S> funcao) {
-        return aplicar(() -> mapear(funcao), JStreams::nula);
+    public JDoubleStream mapeamentoParaDouble(final FuncaoParaDouble<? super T> funcao) {
+        Objects.requireNonNull(funcao);
+        return new JDoubleStreams(new FontesDouble.DeObjeto<>(fonte, funcao));
     }
 
     @Override
     public JStream<T> filtro(final Predicado<? super T> predicado) {
-        return aplicar(() -> filtrar(predicado), JStreams::nula);
+        Objects.requireNonNull(predicado);
+        if (semElementos()) return this;
+        if (observacao == null) return new JStreams<>(new Filtro<>(fonte, predicado), paralelismo);
+        return observado("filtro", (anterior, medidor) -> new Filtro<>(anterior, medidor.medirPredicado(predicado)));
+    }
+
+    @Override
+    public JStream<T> limite(final long quantidade) {
+        naoNegativo(quantidade);
+        if (semElementos()) return this;
+        if (observacao == null) return new JStreams<>(fonte.limite(quantidade), paralelismo);
+        return observado("limite", (anterior, medidor) -> anterior.limite(quantidade));
+    }
+
+    @Override
+    public JStream<T> pular(final long quantidade) {
+        naoNegativo(quantidade);
+        if (semElementos()) return this;
+        if (observacao == null) return new JStreams<>(fonte.pular(quantidade), paralelismo);
+        return observado("pular", (anterior, medidor) -> anterior.pular(quantidade));
+    }
+
+    @Override
+    public JStream<T> tomarEnquanto(final Predicado<? super T> predicado) {
+        Objects.requireNonNull(predicado);
+        if (semElementos()) return this;
+        if (observacao == null) return new JStreams<>(new TomarEnquanto<>(fonte, predicado), paralelismo);
+        return observado("tomarEnquanto", (anterior, medidor) -> new TomarEnquanto<>(anterior, medidor.medirPredicado(predicado)));
+    }
+
+    @Override
+    public JStream<T> descartarEnquanto(final Predicado<? super T> predicado) {
+        Objects.requireNonNull(predicado);
+        if (semElementos()) return this;
+        if (observacao == null) return new JStreams<>(new DescartarEnquanto<>(fonte, predicado), paralelismo);
+        return observado("descartarEnquanto", (anterior, medidor) -> new DescartarEnquanto<>(anterior, medidor.medirPredicado(predicado)));
+    }
+
+    @Override
+    public JStream<List<T>> emLotes(final int tamanho) {
+        positivo(tamanho);
+        if (semElementos()) return JStreams.nula();
+        if (observacao == null) return new JStreams<>(EmLotes.de(fonte, tamanho), paralelismo);
+        return observado("emLotes", (anterior, medidor) -> EmLotes.de(anterior, tamanho));
+    }
+
+    @Override
+    public <S> JStream<S> mapeamentoEmLote(final Funcao<? super List<T>, ? extends List<S>> funcao) {
+        return mapeamentoEmLote(LOTE_PADRAO, funcao);
+    }
+
+    @Override
+    public <S> JStream<S> mapeamentoEmLote(final int tamanho, final Funcao<? super List<T>, ? extends List<S>> funcao) {
+        positivo(tamanho);
+        Objects.requireNonNull(funcao);
+        if (semElementos()) return JStreams.nula();
+        if (observacao == null) return new JStreams<>(new MapeamentoEmLote<>(EmLotes.de(fonte, tamanho), funcao), paralelismo);
+        return observado("mapeamentoEmLote", (anterior, medidor) -> new MapeamentoEmLote<>(EmLotes.de(anterior, tamanho), medidor.medir(funcao)));
+    }
+
+    @Override
+    public JStream<List<T>> janelaDeslizante(final int tamanho, final int passo) {
+        Janelas.validar(tamanho, passo);
+        if (semElementos()) return JStreams.nula();
+        if (observacao == null) return new JStreams<>(Janelas.de(fonte, tamanho, passo), paralelismo);
+        return observado("janelaDeslizante", (anterior, medidor) -> Janelas.de(anterior, tamanho, passo));
+    }
+
+    @Override
+    public JStream<List<T>> janelaFixa(final int tamanho) {
+        return janelaDeslizante(tamanho, tamanho);
+    }
+
+    @Override
+    public JStream<T> distintos() {
+        if (semElementos() || Caracteristicas.tem(fonte, Caracteristicas.DISTINTO)) return this;
+        if (observacao == null) return new JStreams<>(new Distintos<>(fonte), paralelismo);
+        return observado("distintos", (anterior, medidor) -> new Distintos<>(anterior));
+    }
+
+    @Override
+    public JStream<T> ordenado(final Comparator<? super T> comparador) {
+        Objects.requireNonNull(comparador);
+        if (semElementos() || ordenadoPor(comparador)) return this;
+        if (observacao == null) return new JStreams<>(new Ordenado<>(fonte, comparador, paralelismo), paralelismo);
+        return observado("ordenado", (anterior, medidor) -> new Ordenado<>(anterior, comparador, paralelismo));
+    }
+
+    private boolean ordenadoPor(final Comparator<? super T> comparador) {
+        if (fonte.tamanhoExato() == 1) return true;
+        return Caracteristicas.tem(fonte, Caracteristicas.ORDENADO) && comparador.equals(fonte.comparador());
+    }
+
+    @Override
+    public JStream<T> maiores(final long quantidade, final Comparator<? super T> comparador) {
+        Objects.requireNonNull(comparador);
+        return ordenado(comparador.reversed()).limite(quantidade);
+    }
+
+    @Override
+    public JStream<T> menores(final long quantidade, final Comparator<? super T> comparador) {
+        return ordenado(comparador).limite(quantidade);
+    }
+
+    /**
+     * Ponto de entrada de {@link JPipeline#aplicar(JStream)}: os estágios do pipeline entram como um só.
+     */
+    <S> JStream<S> encadear(final JPipeline<? super T, S> pipeline) {
+        if (semElementos()) return JStreams.nula();
+        if (observacao == null) return new JStreams<>(pipeline.sobre(fonte, null), paralelismo);
+        return observado("pipeline", (anterior, medidor) -> pipeline.sobre(anterior, medidor));
+    }
+
+    @Override
+    public JStream<T> paralelo() {
+        if (semElementos()) return this;
+        return new JStreams<>(fonte, Paralelismo.PADRAO, observacao);
+    }
+
+    @Override
+    public JStream<T> paralelo(final ForkJoinPool pool) {
+        Objects.requireNonNull(pool);
+        if (semElementos()) return this;
+        return new JStreams<>(fonte, new Paralelismo(pool, Paralelismo.LIMIAR_PADRAO), observacao);
+    }
+
+    @Override
+    public JStream<T> paralelo(final ForkJoinPool pool, final long limiarSequencial) {
+        Objects.requireNonNull(pool);
+        if (limiarSequencial < 1) throw new IllegalArgumentException("limiar sequencial deve ser positivo: " + limiarSequencial);
+        if (semElementos()) return this;
+        return new JStreams<>(fonte, new Paralelismo(pool, limiarSequencial), observacao);
+    }
+
+    @Override
+    public JStream<T> sequencial() {
+        if (paralelismo == null) return this;
+        return new JStreams<>(fonte, null, observacao);
+    }
+
+    @Override
+    public JStream<T> observado(final JObservador observador) {
+        Objects.requireNonNull(observador);
+        return observar(observador);
+    }
+
+    @Override
+    public JStream<T> observado() {
+        return observar(null);
+    }
+
+    private JStream<T> observar(final JObservador observador) {
+        return new JStreams<>(fonte, paralelismo, Observacao.fonte(observador, fonte));
+    }
+
+    /**
+     * O estágio montado aqui só responde a consultas de tamanho e características; cada operação terminal monta
+     * o seu, com medidores próprios, a partir da {@link Observacao}.
+     */
+    private <S> JStream<S> observado(final String nome, final Observacao.Construtor<T, S> construtor) {
+        return new JStreams<>(construtor.construir(fonte, new Medidor()), paralelismo, observacao.estagio(nome, construtor));
+    }
+
+    @Override
+    public Flow.Publisher<T> comoPublicador() {
+        return comoPublicador(MapeamentoAssincrono.executorPadrao());
+    }
+
+    @Override
+    public Flow.Publisher<T> comoPublicador(final Executor executor) {
+        Objects.requireNonNull(executor);
+        return new Publicador<>(fonte, executor);
     }
 
     @Override
     public JOptional<T> reducao(final OperacaoBinaria<T> operacaoBinaria) {
-        return aplicar(() -> reduzir(operacaoBinaria), JOptional::nulo);
+
+        Objects.requireNonNull(operacaoBinaria);
+
+        if (semElementos()) return JOptional.nulo();
+
+        final Reducao<T> reducao = paralelismo == null
+                ? percorrer("reducao", new Reducao<>(operacaoBinaria))
+                : emParalelo("reducao", () -> new Reducao<>(operacaoBinaria), Reducao::combinar);
+
+        return reducao.resultado();
+
     }
 
     @Override
     public JOptional<T> primeiroValor() {
-        if (vazio()) return JOptional.nulo();
-        return JOptional.dePossivelNulo(ts[0]);
+        if (semElementos()) return JOptional.nulo();
+        return primeiro().resultado();
     }
 
     @Override
     public <A, R> R paraColecao(final Collector<? super T, A, R> collector) {
-        return Arrays.stream(ts, 0, tamanho).collect(collector);
+
+        Objects.requireNonNull(collector);
+
+        final Coleta<T, A> coleta = paralelismo == null
+                ? percorrer("paraColecao", new Coleta<>(collector))
+                : emParalelo("paraColecao", () -> new Coleta<>(collector), Coleta::combinar);
+
+        return collector.finisher().apply(coleta.recipiente);
+
+    }
+
+    /**
+     * Sem estágios, a lista é montada diretamente do arranjo de origem; nos demais casos o coletor recebe o
+     * tamanho exato, quando conhecido, para dimensionar o recipiente.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <A, R> R paraColecao(final JColetor<? super T, A, R> coletor) {
+
+        Objects.requireNonNull(coletor);
+
+        if (observacao == null && JColetores.ParaLista.instancia(coletor) && fonte instanceof FonteArranjo) {
+            return (R) ((FonteArranjo<T>) fonte).comoLista();
+        }
+
+        final ColetaNativa<T, A> coleta = paralelismo == null
+                ? percorrer("paraColecao", new ColetaNativa<>(coletor, fonte.tamanhoExato()))
+                : emParalelo("paraColecao", () -> new ColetaNativa<>(coletor, -1), ColetaNativa::combinar);
+
+        return coletor.finalizar(coleta.recipiente);
+
+    }
+
+    @Override
+    public <K, R> Map<K, R> agruparPor(final Funcao<? super T, ? extends K> chave,
+                                       final JAgregador<? super T, R> agregador) {
+
+        Objects.requireNonNull(chave);
+        Objects.requireNonNull(agregador);
+
+        final Agrupamento<T, K, R> agrupamento = paralelismo == null
+                ? percorrer("agruparPor", new Agrupamento<>(chave, agregador))
+                : emParalelo("agruparPor", () -> new Agrupamento<>(chave, agregador), Agrupamento::combinar);
+
+        return agrupamento.tabela.resultado();
+
+    }
+
+    @Override
+    public <A, B> JAgregados.Dois<A, B> agregar(final JAgregador<? super T, A> primeiro,
+                                                final JAgregador<? super T, B> segundo) {
+        final Agregacao<T> agregacao = agregacao(primeiro, segundo);
+        return new JAgregados.Dois<>(agregacao.resultado(0, primeiro), agregacao.resultado(1, segundo));
+    }
+
+    @Override
+    public <A, B, C> JAgregados.Tres<A, B, C> agregar(final JAgregador<? super T, A> primeiro,
+                                                      final JAgregador<? super T, B> segundo,
+                                                      final JAgregador<? super T, C> terceiro) {
+        final Agregacao<T> agregacao = agregacao(primeiro, segundo, terceiro);
+        return new JAgregados.Tres<>(agregacao.resultado(0, primeiro), agregacao.resultado(1, segundo),
+                agregacao.resultado(2, terceiro));
+    }
+
+    @Override
+    public <A, B, C, D> JAgregados.Quatro<A, B, C, D> agregar(final JAgregador<? super T, A> primeiro,
+                                                              final JAgregador<? super T, B> segundo,
+                                                              final JAgregador<? super T, C> terceiro,
+                                                              final JAgregador<? super T, D> quarto) {
+        final Agregacao<T> agregacao = agregacao(primeiro, segundo, terceiro, quarto);
+        return new JAgregados.Quatro<>(agregacao.resultado(0, primeiro), agregacao.resultado(1, segundo),
+                agregacao.resultado(2, terceiro), agregacao.resultado(3, quarto));
     }
 
     @Override
     public boolean presente() {
-        return ts != null && tamanho > 0;
+        return !semElementos() && primeiro().encontrado;
     }
 
     @Override
@@ -106,149 +588,331 @@ public final class JStreams<T> implements JStream<T> {
 
     @Override
     public boolean peloMenosUmCombina(final Predicado<? super T> predicado) {
-        return combinacoes(predicado, integer -> integer > 0);
+        Objects.requireNonNull(predicado);
+        return !semElementos() && combinacao(predicado, true).encontrada;
     }
 
     @Override
     public boolean todosCombinam(final Predicado<? super T> predicado) {
-        return combinacoes(predicado, integer -> integer == tamanho);
-    }
 
-    private <S> JStream<S> mapear(final Funcao<? super T, S> funcao) {
+        Objects.requireNonNull(predicado);
 
-        final S[] ss = instancias(tamanho);
+        if (semElementos()) return false;
 
-        int quantidadeMapeada = 0;
+        final Combinacao<T> divergencia = combinacao(predicado, false);
 
-        for (int i = 0; i < tamanho; i++) {
+        return divergencia.avaliada && !divergencia.encontrada;
 
-            final S mapeado = funcao.aplicar(ts[i]);
+    }
 
-            if (mapeado != null) ss[quantidadeMapeada++] = mapeado;
+    private Agregacao<T> agregacao(final JAgregador<?, ?>... agregadores) {
 
-        }
+        for (final JAgregador<?, ?> agregador : agregadores) Objects.requireNonNull(agregador);
+
+        if (semElementos()) return new Agregacao<>(agregadores);
 
-        return new JStreams<>(ss, quantidadeMapeada);
+        return paralelismo == null
+                ? percorrer("agregar", new Agregacao<>(agregadores))
+                : emParalelo("agregar", () -> new Agregacao<>(agregadores), Agregacao::combinar);
 
     }
 
-    private JStream<T> filtrar(final Predicado<? super T> predicado) {
+    private PrimeiroValor<T> primeiro() {
+        if (paralelismo == null) return percorrer("primeiroValor", new PrimeiroValor<>());
+        return emParalelo("primeiroValor", PrimeiroValor::new, PrimeiroValor::combinar);
+    }
 
-        T[] tss = instancias(tamanho);
+    private Combinacao<T> combinacao(final Predicado<? super T> predicado, final boolean esperado) {
 
-        int filtrados = 0;
+        if (paralelismo == null) return percorrer("combinacao", new Combinacao<>(predicado, esperado, null));
 
-        for (int i = 0; i < tamanho; i++) {
+        final AtomicBoolean decidida = new AtomicBoolean();
 
-            final T t = ts[i];
+        return emParalelo("combinacao", () -> new Combinacao<>(predicado, esperado, decidida), Combinacao::combinar);
 
-            if (predicado.teste(t)) {
-                tss[filtrados++] = t;
-            }
+    }
+
+    /**
+     * Caminho sequencial: o sumidouro é criado diretamente pela operação terminal, sem provedores nem capturas.
+     * Em paralelo, cada fatia da fonte recebe um sumidouro novo e os parciais são combinados na ordem de encontro.
+     */
+    private <S extends Sumidouro<T>> S percorrer(final String operacao, final S sumidouro) {
 
+        if (observacao == null) {
+            fonte.percorrer(sumidouro);
+            return sumidouro;
         }
 
-        if (filtrados == 0) tss = instancias(0);
+        return percorrerObservado(operacao, sumidouro);
 
-        return new JStreams<>(tss, filtrados);
+    }
 
+    private <S extends Sumidouro<T>> S percorrerObservado(final String operacao, final S sumidouro) {
+        return observacao.medir(operacao, fonte.tamanhoExato(), (final Fonte<T> medida) -> {
+            medida.percorrer(sumidouro);
+            return sumidouro;
+        });
     }
 
-    private JOptional<T> reduzir(final OperacaoBinaria<T> operacaoBinaria) {
+    private <S extends Sumidouro<T>> S emParalelo(final String operacao,
+                                                  final Provedor<S> novo,
+                                                  final OperacaoBinaria<S> combinar) {
 
-        T acumulo = ts[0];
+        if (observacao == null) return paralelismo.avaliar(fonte, novo, combinar);
 
-        for (int i = 1; i < tamanho; i++) {
-            acumulo = operacaoBinaria.operar(acumulo, ts[i]);
-        }
+        return observacao.medir(operacao, fonte.tamanhoExato(), (final Fonte<T> medida) -> paralelismo.avaliar(medida, novo, combinar));
 
-        return JOptional.dePossivelNulo(acumulo);
+    }
+
+    private boolean semElementos() {
+        return this == JSTREAM_NULO;
+    }
 
+    private static void naoNegativo(final long quantidade) {
+        if (quantidade < 0) throw new IllegalArgumentException("quantidade negativa: " + quantidade);
     }
 
-    private boolean combinacoes(final Predicado<? super T> predicado, final Predicado<Integer> predicadoCombinacao) {
-        return aplicar(() -> predicadoCombinacao.teste(quantidadeCombinacao(predicado)), () -> false);
+    private static void positivo(final int tamanho) {
+        if (tamanho < 1) throw new IllegalArgumentException("tamanho de lote deve ser positivo: " + tamanho);
     }
 
-    private int quantidadeCombinacao(final Predicado<? super T> predicado) {
+    private static final class Reducao<T> implements Sumidouro<T> {
 
-        int quantidade = 0;
+        private final OperacaoBinaria<T> operacaoBinaria;
 
-        for (int i = 0; i < tamanho; i++) {
-            if (predicado.teste(ts[i])) quantidade++;
+        private boolean iniciada;
+
+        private T acumulo;
+
+        private Reducao(final OperacaoBinaria<T> operacaoBinaria) {
+            this.operacaoBinaria = operacaoBinaria;
         }
 
-        return quantidade;
+        @Override
+        public void aceitar(final T t) {
 
-    }
+            if (iniciada) {
+                acumulo = operacaoBinaria.operar(acumulo, t);
+            } else {
+                acumulo = t;
+                iniciada = true;
+            }
+
+        }
+
+        private Reducao<T> combinar(final Reducao<T> direita) {
 
-    private <S> S aplicar(final Provedor<S> sucesso, final Provedor<S> outroCaso) {
+            if (!direita.iniciada) return this;
+
+            if (iniciada) {
+                acumulo = operacaoBinaria.operar(acumulo, direita.acumulo);
+                return this;
+            }
+
+            return direita;
 
-        if (presente()) {
-            return sucesso.prover();
         }
 
-        return outroCaso.prover();
+        private JOptional<T> resultado() {
+            return JOptional.dePossivelNulo(acumulo);
+        }
 
     }
 
-    private static class JStreamProxy<T> implements JStream<T> {
+    private static final class PrimeiroValor<T> implements Sumidouro<T> {
 
-        private final JStream<T> jStream;
+        private boolean encontrado;
 
-        private JStreamProxy(final JStream<T> jStream) {
-            this.jStream = jStream;
-        }
+        private T valor;
 
         @Override
-        public <S> JStream<S> mapeamento(final Funcao<? super T, S> funcao) {
-            Objects.requireNonNull(funcao);
-            return new JStreamProxy<>(jStream.mapeamento(funcao));
+        public void aceitar(final T t) {
+            valor = t;
+            encontrado = true;
         }
 
         @Override
-        public JStream<T> filtro(final Predicado<? super T> predicado) {
-            Objects.requireNonNull(predicado);
-            return new JStreamProxy<>(jStream.filtro(predicado));
+        public boolean saciado() {
+            return encontrado;
         }
 
-        @Override
-        public JOptional<T> reducao(final OperacaoBinaria<T> operacaoBinaria) {
-            Objects.requireNonNull(operacaoBinaria);
-            return jStream.reducao(operacaoBinaria);
+        private PrimeiroValor<T> combinar(final PrimeiroValor<T> direita) {
+            return encontrado ? this : direita;
+        }
+
+        private JOptional<T> resultado() {
+            return JOptional.dePossivelNulo(valor);
+        }
+
+    }
+
+    private static final class Combinacao<T> implements Sumidouro<T> {
+
+        private final Predicado<? super T> predicado;
+
+        private final boolean esperado;
+
+        /**
+         * compartilhada entre as fatias de uma avaliação paralela, para que todas parem assim que uma decidir;
+         * nula na avaliação sequencial
+         */
+        private final AtomicBoolean decidida;
+
+        private boolean avaliada;
+
+        private boolean encontrada;
+
+        private Combinacao(final Predicado<? super T> predicado, final boolean esperado, final AtomicBoolean decidida) {
+            this.predicado = predicado;
+            this.esperado = esperado;
+            this.decidida = decidida;
         }
 
         @Override
-        public JOptional<T> primeiroValor() {
-            return jStream.primeiroValor();
+        public void aceitar(final T t) {
+
+            avaliada = true;
+
+            if (predicado.teste(t) == esperado) {
+                encontrada = true;
+                if (decidida != null) decidida.set(true);
+            }
+
         }
 
         @Override
-        public <A, R> R paraColecao(final Collector<? super T, A, R> collector) {
-            Objects.requireNonNull(collector);
-            return jStream.paraColecao(collector);
+        public boolean saciado() {
+            return encontrada || decidida != null && decidida.get();
+        }
+
+        private Combinacao<T> combinar(final Combinacao<T> direita) {
+            avaliada |= direita.avaliada;
+            encontrada |= direita.encontrada;
+            return this;
+        }
+
+    }
+
+    private static final class Agrupamento<T, K, R> implements Sumidouro<T> {
+
+        private final Funcao<? super T, ? extends K> chave;
+
+        private final TabelaAgregacao<T, K, R> tabela;
+
+        @SuppressWarnings("unchecked")
+        private Agrupamento(final Funcao<? super T, ? extends K> chave, final JAgregador<? super T, R> agregador) {
+            this.chave = chave;
+            this.tabela = new TabelaAgregacao<>((JAgregador<T, R>) agregador);
         }
 
         @Override
-        public boolean presente() {
-            return jStream.presente();
+        public void aceitar(final T t) {
+            tabela.acumular(chave.aplicar(t), t);
+        }
+
+        private Agrupamento<T, K, R> combinar(final Agrupamento<T, K, R> direita) {
+            tabela.combinar(direita.tabela);
+            return this;
+        }
+
+    }
+
+    /**
+     * Uma coluna de um único grupo por agregador; cada elemento passa por todas antes do próximo.
+     */
+    private static final class Agregacao<T> implements Sumidouro<T> {
+
+        private final JAgregador.Coluna<T, ?>[] colunas;
+
+        private boolean iniciada;
+
+        @SuppressWarnings("unchecked")
+        private Agregacao(final JAgregador<?, ?>[] agregadores) {
+            this.colunas = (JAgregador.Coluna<T, ?>[]) new JAgregador.Coluna<?, ?>[agregadores.length];
+            for (int i = 0; i < agregadores.length; i++) colunas[i] = ((JAgregador<T, ?>) agregadores[i]).coluna(1);
         }
 
         @Override
-        public boolean vazio() {
-            return jStream.vazio();
+        public void aceitar(final T t) {
+
+            if (iniciada) {
+                for (final JAgregador.Coluna<T, ?> coluna : colunas) coluna.acumular(0, t);
+                return;
+            }
+
+            for (final JAgregador.Coluna<T, ?> coluna : colunas) coluna.iniciar(0, t);
+
+            iniciada = true;
+
+        }
+
+        @SuppressWarnings("unchecked")
+        private <R> R resultado(final int posicao, final JAgregador<? super T, R> agregador) {
+            return iniciada ? ((JAgregador.Coluna<T, R>) colunas[posicao]).resultado(0) : agregador.vazio();
+        }
+
+        private Agregacao<T> combinar(final Agregacao<T> direita) {
+            if (!direita.iniciada) return this;
+            if (!iniciada) return direita;
+            for (int i = 0; i < colunas.length; i++) combinarColuna(colunas[i], direita.colunas[i]);
+            return this;
+        }
+
+        /**
+         * As colunas na mesma posição vêm do mesmo agregador, e portanto têm o mesmo tipo de resultado.
+         */
+        @SuppressWarnings("unchecked")
+        private static <T, R> void combinarColuna(final JAgregador.Coluna<T, R> coluna, final JAgregador.Coluna<T, ?> outra) {
+            coluna.combinar(0, (JAgregador.Coluna<T, R>) outra, 0);
+        }
+
+    }
+
+    private static final class Coleta<T, A> implements Sumidouro<T> {
+
+        private final BiConsumer<A, ? super T> acumulador;
+
+        private final BinaryOperator<A> combinador;
+
+        private A recipiente;
+
+        private Coleta(final Collector<? super T, A, ?> collector) {
+            this.acumulador = collector.accumulator();
+            this.combinador = collector.combiner();
+            this.recipiente = collector.supplier().get();
         }
 
         @Override
-        public boolean peloMenosUmCombina(final Predicado<? super T> predicado) {
-            Objects.requireNonNull(predicado);
-            return jStream.peloMenosUmCombina(predicado);
+        public void aceitar(final T t) {
+            acumulador.accept(recipiente, t);
+        }
+
+        private Coleta<T, A> combinar(final Coleta<T, A> direita) {
+            recipiente = combinador.apply(recipiente, direita.recipiente);
+            return this;
+        }
+
+    }
+
+    private static final class ColetaNativa<T, A> implements Sumidouro<T> {
+
+        private final JColetor<? super T, A, ?> coletor;
+
+        private A recipiente;
+
+        private ColetaNativa(final JColetor<? super T, A, ?> coletor, final long tamanho) {
+            this.coletor = coletor;
+            this.recipiente = coletor.novo(tamanho);
         }
 
         @Override
-        public boolean todosCombinam(final Predicado<? super T> predicado) {
-            Objects.requireNonNull(predicado);
-            return jStream.todosCombinam(predicado);
+        public void aceitar(final T t) {
+            coletor.acumular(recipiente, t);
+        }
+
+        private ColetaNativa<T, A> combinar(final ColetaNativa<T, A> direita) {
+            recipiente = coletor.combinar(recipiente, direita.recipiente);
+            return this;
         }
 
     }
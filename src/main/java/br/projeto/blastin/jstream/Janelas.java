@@ -0,0 +1,136 @@
+package br.projeto.blastin.jstream;
+
+import java.util.List;
+
+/**
+ * Janelas de {@code tamanho} elementos que começam a cada {@code passo} elementos; apenas janelas completas são
+ * emitidas. Fontes de arranjo produzem vistas sem cópia. As demais escrevem num buffer que só é descartado, nunca
+ * sobrescrito, de modo que cada janela é uma vista válida mesmo retida abaixo e cada elemento é copiado no máximo
+ * uma vez ao trocar de buffer.
+ */
+final class Janelas<T> implements Fonte<List<T>> {
+
+    /**
+     * janelas grandes crescem sob demanda, para que uma fonte curta não reserve o buffer inteiro
+     */
+    private static final int CAPACIDADE_INICIAL = 1 << 10;
+
+    private final Fonte<T> anterior;
+
+    private final int tamanho;
+
+    private final int passo;
+
+    private Janelas(final Fonte<T> anterior, final int tamanho, final int passo) {
+        this.anterior = anterior;
+        this.tamanho = tamanho;
+        this.passo = passo;
+    }
+
+    static <T> Fonte<List<T>> de(final Fonte<T> anterior, final int tamanho, final int passo) {
+        if (anterior instanceof FonteArranjo) return ((FonteArranjo<T>) anterior).janelas(tamanho, passo);
+        return new Janelas<>(anterior, tamanho, passo);
+    }
+
+    static void validar(final int tamanho, final int passo) {
+        if (tamanho < 1) throw new IllegalArgumentException("tamanho de janela deve ser positivo: " + tamanho);
+        if (passo < 1) throw new IllegalArgumentException("passo de janela deve ser positivo: " + passo);
+    }
+
+    /**
+     * Quantidade de janelas completas sobre {@code elementos} elementos, ou -1 quando desconhecida.
+     */
+    static long quantidade(final long elementos, final int tamanho, final int passo) {
+        if (elementos < 0) return -1;
+        return elementos < tamanho ? 0 : (elementos - tamanho) / passo + 1;
+    }
+
+    @Override
+    public void percorrer(final Sumidouro<? super List<T>> sumidouro) {
+        anterior.percorrer(new SumidouroJanelas<>(tamanho, passo, sumidouro));
+    }
+
+    @Override
+    public long tamanhoExato() {
+        return quantidade(anterior.tamanhoExato(), tamanho, passo);
+    }
+
+    private static final class SumidouroJanelas<T> implements Sumidouro<T> {
+
+        private final int tamanho;
+
+        private final int passo;
+
+        /**
+         * capacidade final do buffer: o que resta de uma janela ocupa menos da metade dele
+         */
+        private final int capacidade;
+
+        private final Sumidouro<? super List<T>> abaixo;
+
+        private Object[] buffer;
+
+        private int inicio;
+
+        private int ocupados;
+
+        /**
+         * elementos entre duas janelas quando o passo é maior que o tamanho
+         */
+        private long pular;
+
+        private SumidouroJanelas(final int tamanho, final int passo, final Sumidouro<? super List<T>> abaixo) {
+            this.tamanho = tamanho;
+            this.passo = passo;
+            this.capacidade = (int) Math.min(Integer.MAX_VALUE - 8, 2L * tamanho);
+            this.abaixo = abaixo;
+            this.buffer = new Object[Math.min(capacidade, CAPACIDADE_INICIAL)];
+        }
+
+        @Override
+        public void aceitar(final T t) {
+
+            if (pular > 0) {
+                pular--;
+                return;
+            }
+
+            if (ocupados == buffer.length) trocarBuffer();
+
+            buffer[ocupados++] = t;
+
+            if (ocupados - inicio < tamanho) return;
+
+            abaixo.aceitar(new VistaArranjo<>(buffer, inicio, ocupados));
+
+            if (passo <= tamanho) {
+                inicio += passo;
+            } else {
+                inicio = ocupados;
+                pular = passo - tamanho;
+            }
+
+        }
+
+        @Override
+        public boolean saciado() {
+            return abaixo.saciado();
+        }
+
+        private void trocarBuffer() {
+
+            final int retidos = ocupados - inicio;
+
+            final Object[] novo = new Object[retidos < buffer.length / 2 ? buffer.length : Math.min(capacidade, 2 * buffer.length)];
+
+            System.arraycopy(buffer, inicio, novo, 0, retidos);
+
+            buffer = novo;
+            inicio = 0;
+            ocupados = retidos;
+
+        }
+
+    }
+
+}
@@ -0,0 +1,256 @@
+package br.projeto.blastin.jstream;
+
+/**
+ * Versão de {@link JanelasLong} para doubles, cuja soma incremental trata à parte infinitos e NaN.
+ */
+final class JanelasDouble implements JJanelasDouble {
+
+    private final FonteDouble anterior;
+
+    private final int tamanho;
+
+    private final int passo;
+
+    JanelasDouble(final FonteDouble anterior, final int tamanho, final int passo) {
+        this.anterior = anterior;
+        this.tamanho = tamanho;
+        this.passo = passo;
+    }
+
+    @Override
+    public JDoubleStream soma() {
+        return new JDoubleStreams(new Soma(anterior, tamanho, passo));
+    }
+
+    @Override
+    public JDoubleStream media() {
+        final double divisor = tamanho;
+        return new JDoubleStreams(new FontesDouble.Mapeamento(new Soma(anterior, tamanho, passo), soma -> soma / divisor));
+    }
+
+    @Override
+    public JDoubleStream minimo() {
+        return new JDoubleStreams(new Extremo(anterior, tamanho, passo, true));
+    }
+
+    @Override
+    public JDoubleStream maximo() {
+        return new JDoubleStreams(new Extremo(anterior, tamanho, passo, false));
+    }
+
+    private static final class Soma implements FonteDouble {
+
+        private final FonteDouble anterior;
+
+        private final int tamanho;
+
+        private final int passo;
+
+        private Soma(final FonteDouble anterior, final int tamanho, final int passo) {
+            this.anterior = anterior;
+            this.tamanho = tamanho;
+            this.passo = passo;
+        }
+
+        @Override
+        public void percorrer(final SumidouroDouble sumidouro) {
+            anterior.percorrer(new SumidouroSoma(new double[JanelasLong.capacidade(anterior.tamanhoExato(), tamanho)], tamanho, passo, sumidouro));
+        }
+
+        @Override
+        public long tamanhoExato() {
+            return Janelas.quantidade(anterior.tamanhoExato(), tamanho, passo);
+        }
+
+        /**
+         * Somente valores finitos entram na soma incremental, recalculada a cada volta do anel para que os
+         * erros de arredondamento de somar e subtrair não se acumulem; infinitos e NaN são apenas contados.
+         */
+        private static final class SumidouroSoma implements SumidouroDouble {
+
+            private final double[] anel;
+
+            private final int tamanho;
+
+            private final int passo;
+
+            private final SumidouroDouble abaixo;
+
+            private int posicao;
+
+            private long vistos;
+
+            /**
+             * índice do valor que completa a próxima janela
+             */
+            private long proxima;
+
+            private double soma;
+
+            private int positivosInfinitos;
+
+            private int negativosInfinitos;
+
+            private int nans;
+
+            private SumidouroSoma(final double[] anel, final int tamanho, final int passo, final SumidouroDouble abaixo) {
+                this.anel = anel;
+                this.tamanho = tamanho;
+                this.passo = passo;
+                this.abaixo = abaixo;
+                this.proxima = tamanho - 1;
+            }
+
+            @Override
+            public void aceitar(final double valor) {
+
+                if (vistos >= tamanho) contar(anel[posicao], -1);
+
+                anel[posicao] = valor;
+                contar(valor, 1);
+
+                if (++posicao == tamanho) {
+                    posicao = 0;
+                    recalcular();
+                }
+
+                if (vistos++ == proxima) {
+                    abaixo.aceitar(resultado());
+                    proxima += passo;
+                }
+
+            }
+
+            @Override
+            public boolean saciado() {
+                return abaixo.saciado();
+            }
+
+            private void contar(final double valor, final int sinal) {
+                if (Double.isFinite(valor)) soma += sinal * valor;
+                else if (valor != valor) nans += sinal;
+                else if (valor > 0) positivosInfinitos += sinal;
+                else negativosInfinitos += sinal;
+            }
+
+            private void recalcular() {
+                double exata = 0;
+                for (final double valor : anel) if (Double.isFinite(valor)) exata += valor;
+                soma = exata;
+            }
+
+            private double resultado() {
+                if (nans > 0 || positivosInfinitos > 0 && negativosInfinitos > 0) return Double.NaN;
+                if (positivosInfinitos > 0) return Double.POSITIVE_INFINITY;
+                if (negativosInfinitos > 0) return Double.NEGATIVE_INFINITY;
+                return soma;
+            }
+
+        }
+
+    }
+
+    private static final class Extremo implements FonteDouble {
+
+        private final FonteDouble anterior;
+
+        private final int tamanho;
+
+        private final int passo;
+
+        private final boolean minimo;
+
+        private Extremo(final FonteDouble anterior, final int tamanho, final int passo, final boolean minimo) {
+            this.anterior = anterior;
+            this.tamanho = tamanho;
+            this.passo = passo;
+            this.minimo = minimo;
+        }
+
+        @Override
+        public void percorrer(final SumidouroDouble sumidouro) {
+            anterior.percorrer(new SumidouroExtremo(JanelasLong.capacidade(anterior.tamanhoExato(), tamanho), tamanho, passo, minimo, sumidouro));
+        }
+
+        @Override
+        public long tamanhoExato() {
+            return Janelas.quantidade(anterior.tamanhoExato(), tamanho, passo);
+        }
+
+        private static final class SumidouroExtremo implements SumidouroDouble {
+
+            private final long[] indices;
+
+            private final double[] valores;
+
+            private final int tamanho;
+
+            private final int passo;
+
+            private final boolean minimo;
+
+            private final SumidouroDouble abaixo;
+
+            private int cabeca;
+
+            private int quantidade;
+
+            private long vistos;
+
+            private long proxima;
+
+            private SumidouroExtremo(final int capacidade, final int tamanho, final int passo, final boolean minimo, final SumidouroDouble abaixo) {
+                this.indices = new long[capacidade];
+                this.valores = new double[capacidade];
+                this.tamanho = tamanho;
+                this.passo = passo;
+                this.minimo = minimo;
+                this.abaixo = abaixo;
+                this.proxima = tamanho - 1;
+            }
+
+            @Override
+            public void aceitar(final double valor) {
+
+                if (quantidade > 0 && indices[cabeca] <= vistos - tamanho) {
+                    if (++cabeca == indices.length) cabeca = 0;
+                    quantidade--;
+                }
+
+                while (quantidade > 0 && substitui(valor, valores[posicao(quantidade - 1)])) quantidade--;
+
+                final int cauda = posicao(quantidade++);
+
+                indices[cauda] = vistos;
+                valores[cauda] = valor;
+
+                if (vistos++ == proxima) {
+                    abaixo.aceitar(valores[cabeca]);
+                    proxima += passo;
+                }
+
+            }
+
+            @Override
+            public boolean saciado() {
+                return abaixo.saciado();
+            }
+
+            /**
+             * Segue {@link Double#compare(double, double)}, salvo que NaN prevalece também no mínimo.
+             */
+            private boolean substitui(final double novo, final double antigo) {
+                if (minimo) return novo != novo || antigo == antigo && Double.compare(novo, antigo) <= 0;
+                return Double.compare(novo, antigo) >= 0;
+            }
+
+            private int posicao(final int deslocamento) {
+                final int posicao = cabeca + deslocamento;
+                return posicao < indices.length ? posicao : posicao - indices.length;
+            }
+
+        }
+
+    }
+
+}
@@ -0,0 +1,232 @@
+package br.projeto.blastin.jstream;
+
+/**
+ * Agregações incrementais sobre janelas de {@code tamanho} valores que começam a cada {@code passo} valores.
+ * Cada estágio guarda apenas o necessário para atualizar o agregado: um anel com os últimos {@code tamanho}
+ * valores, para a soma, ou a fila monotônica de candidatos, para os extremos.
+ */
+final class JanelasLong implements JJanelasLong {
+
+    private final FonteLong anterior;
+
+    private final int tamanho;
+
+    private final int passo;
+
+    JanelasLong(final FonteLong anterior, final int tamanho, final int passo) {
+        this.anterior = anterior;
+        this.tamanho = tamanho;
+        this.passo = passo;
+    }
+
+    @Override
+    public JLongStream soma() {
+        return new JLongStreams(new Soma(anterior, tamanho, passo));
+    }
+
+    @Override
+    public JDoubleStream media() {
+        final double divisor = tamanho;
+        return new JDoubleStreams(new FontesDouble.Mapeamento(new FontesLong.ParaDouble(new Soma(anterior, tamanho, passo)), soma -> soma / divisor));
+    }
+
+    @Override
+    public JLongStream minimo() {
+        return new JLongStreams(new Extremo(anterior, tamanho, passo, true));
+    }
+
+    @Override
+    public JLongStream maximo() {
+        return new JLongStreams(new Extremo(anterior, tamanho, passo, false));
+    }
+
+    /**
+     * Capacidade suficiente para {@code tamanho} valores, limitada pelo tamanho da fonte quando conhecido.
+     */
+    static int capacidade(final long tamanhoExato, final int tamanho) {
+        return tamanhoExato < 0 ? tamanho : (int) Math.max(1, Math.min(tamanho, tamanhoExato));
+    }
+
+    private static final class Soma implements FonteLong {
+
+        private final FonteLong anterior;
+
+        private final int tamanho;
+
+        private final int passo;
+
+        private Soma(final FonteLong anterior, final int tamanho, final int passo) {
+            this.anterior = anterior;
+            this.tamanho = tamanho;
+            this.passo = passo;
+        }
+
+        @Override
+        public void percorrer(final SumidouroLong sumidouro) {
+            anterior.percorrer(new SumidouroSoma(new long[capacidade(anterior.tamanhoExato(), tamanho)], tamanho, passo, sumidouro));
+        }
+
+        @Override
+        public long tamanhoExato() {
+            return Janelas.quantidade(anterior.tamanhoExato(), tamanho, passo);
+        }
+
+        private static final class SumidouroSoma implements SumidouroLong {
+
+            private final long[] anel;
+
+            private final int tamanho;
+
+            private final int passo;
+
+            private final SumidouroLong abaixo;
+
+            private int posicao;
+
+            private long vistos;
+
+            /**
+             * índice do valor que completa a próxima janela
+             */
+            private long proxima;
+
+            private long soma;
+
+            private SumidouroSoma(final long[] anel, final int tamanho, final int passo, final SumidouroLong abaixo) {
+                this.anel = anel;
+                this.tamanho = tamanho;
+                this.passo = passo;
+                this.abaixo = abaixo;
+                this.proxima = tamanho - 1;
+            }
+
+            @Override
+            public void aceitar(final long valor) {
+
+                if (vistos >= tamanho) soma -= anel[posicao];
+
+                anel[posicao] = valor;
+                soma += valor;
+
+                if (++posicao == tamanho) posicao = 0;
+
+                if (vistos++ == proxima) {
+                    abaixo.aceitar(soma);
+                    proxima += passo;
+                }
+
+            }
+
+            @Override
+            public boolean saciado() {
+                return abaixo.saciado();
+            }
+
+        }
+
+    }
+
+    private static final class Extremo implements FonteLong {
+
+        private final FonteLong anterior;
+
+        private final int tamanho;
+
+        private final int passo;
+
+        private final boolean minimo;
+
+        private Extremo(final FonteLong anterior, final int tamanho, final int passo, final boolean minimo) {
+            this.anterior = anterior;
+            this.tamanho = tamanho;
+            this.passo = passo;
+            this.minimo = minimo;
+        }
+
+        @Override
+        public void percorrer(final SumidouroLong sumidouro) {
+            anterior.percorrer(new SumidouroExtremo(capacidade(anterior.tamanhoExato(), tamanho), tamanho, passo, minimo, sumidouro));
+        }
+
+        @Override
+        public long tamanhoExato() {
+            return Janelas.quantidade(anterior.tamanhoExato(), tamanho, passo);
+        }
+
+        /**
+         * Fila de candidatos em ordem de chegada cujos valores nunca são superados por um sucessor: o extremo da
+         * janela está sempre na cabeça e cada valor entra e sai da fila uma única vez.
+         */
+        private static final class SumidouroExtremo implements SumidouroLong {
+
+            private final long[] indices;
+
+            private final long[] valores;
+
+            private final int tamanho;
+
+            private final int passo;
+
+            private final boolean minimo;
+
+            private final SumidouroLong abaixo;
+
+            private int cabeca;
+
+            private int quantidade;
+
+            private long vistos;
+
+            private long proxima;
+
+            private SumidouroExtremo(final int capacidade, final int tamanho, final int passo, final boolean minimo, final SumidouroLong abaixo) {
+                this.indices = new long[capacidade];
+                this.valores = new long[capacidade];
+                this.tamanho = tamanho;
+                this.passo = passo;
+                this.minimo = minimo;
+                this.abaixo = abaixo;
+                this.proxima = tamanho - 1;
+            }
+
+            @Override
+            public void aceitar(final long valor) {
+
+                if (quantidade > 0 && indices[cabeca] <= vistos - tamanho) {
+                    if (++cabeca == indices.length) cabeca = 0;
+                    quantidade--;
+                }
+
+                while (quantidade > 0 && substitui(valor, valores[posicao(quantidade - 1)])) quantidade--;
+
+                final int cauda = posicao(quantidade++);
+
+                indices[cauda] = vistos;
+                valores[cauda] = valor;
+
+                if (vistos++ == proxima) {
+                    abaixo.aceitar(valores[cabeca]);
+                    proxima += passo;
+                }
+
+            }
+
+            @Override
+            public boolean saciado() {
+                return abaixo.saciado();
+            }
+
+            private boolean substitui(final long novo, final long antigo) {
+                return minimo ? novo <= antigo : novo >= antigo;
+            }
+
+            private int posicao(final int deslocamento) {
+                final int posicao = cabeca + deslocamento;
+                return posicao < indices.length ? posicao : posicao - indices.length;
+            }
+
+        }
+
+    }
+
+}
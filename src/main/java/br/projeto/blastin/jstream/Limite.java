@@ -0,0 +1,69 @@
+package br.projeto.blastin.jstream;
+
+import java.util.Comparator;
+
+final class Limite<T> implements Fonte<T> {
+
+    private final Fonte<T> anterior;
+
+    private final long quantidade;
+
+    Limite(final Fonte<T> anterior, final long quantidade) {
+        this.anterior = anterior;
+        this.quantidade = quantidade;
+    }
+
+    @Override
+    public void percorrer(final Sumidouro<? super T> sumidouro) {
+        anterior.percorrer(new SumidouroLimite<>(quantidade, sumidouro));
+    }
+
+    @Override
+    public long tamanhoExato() {
+        final long tamanho = anterior.tamanhoExato();
+        return tamanho < 0 ? -1 : Math.min(tamanho, quantidade);
+    }
+
+    @Override
+    public long tamanhoEstimado() {
+        final long tamanho = anterior.tamanhoEstimado();
+        return tamanho < 0 ? -1 : Math.min(tamanho, quantidade);
+    }
+
+    @Override
+    public int caracteristicas() {
+        return anterior.caracteristicas();
+    }
+
+    @Override
+    public Comparator<? super T> comparador() {
+        return anterior.comparador();
+    }
+
+    private static final class SumidouroLimite<T> implements Sumidouro<T> {
+
+        private final Sumidouro<? super T> abaixo;
+
+        private long restantes;
+
+        private SumidouroLimite(final long quantidade, final Sumidouro<? super T> abaixo) {
+            this.restantes = quantidade;
+            this.abaixo = abaixo;
+        }
+
+        @Override
+        public void aceitar(final T t) {
+            if (restantes > 0) {
+                restantes--;
+                abaixo.aceitar(t);
+            }
+        }
+
+        @Override
+        public boolean saciado() {
+            return restantes == 0 || abaixo.saciado();
+        }
+
+    }
+
+}
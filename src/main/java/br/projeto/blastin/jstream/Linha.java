@@ -0,0 +1,106 @@
+package br.projeto.blastin.jstream;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Linha de um arquivo mapeado, lida diretamente dos bytes do arquivo. Linhas somente ASCII respondem
+ * {@link #charAt(int)} e {@link #subSequence(int, int)} sem decodificação; a {@link String} só é criada em
+ * {@link #toString()}, ou no primeiro acesso a caracteres de uma linha com bytes não ASCII.
+ */
+public final class Linha implements CharSequence {
+
+    private static final byte DESCONHECIDO = 0;
+
+    private static final byte ASCII = 1;
+
+    private static final byte CODIFICADO = 2;
+
+    private final ByteBuffer buffer;
+
+    private final int inicio;
+
+    private final int tamanho;
+
+    private final Charset charset;
+
+    private byte codificacao;
+
+    private String texto;
+
+    Linha(final ByteBuffer buffer, final int inicio, final int tamanho, final Charset charset) {
+        this(buffer, inicio, tamanho, charset, DESCONHECIDO);
+    }
+
+    private Linha(final ByteBuffer buffer, final int inicio, final int tamanho, final Charset charset, final byte codificacao) {
+        this.buffer = buffer;
+        this.inicio = inicio;
+        this.tamanho = tamanho;
+        this.charset = charset;
+        this.codificacao = codificacao;
+    }
+
+    /**
+     * @return bytes da linha, sem o terminador, como uma fatia somente leitura do arquivo
+     */
+    public ByteBuffer bytes() {
+        return buffer.slice(inicio, tamanho).asReadOnlyBuffer();
+    }
+
+    @Override
+    public int length() {
+        return ascii() ? tamanho : toString().length();
+    }
+
+    @Override
+    public char charAt(final int indice) {
+        if (!ascii()) return toString().charAt(indice);
+        if (indice < 0 || indice >= tamanho) throw new IndexOutOfBoundsException(indice);
+        return (char) buffer.get(inicio + indice);
+    }
+
+    @Override
+    public CharSequence subSequence(final int inicio, final int fim) {
+        if (!ascii()) return toString().subSequence(inicio, fim);
+        if (inicio < 0 || fim > tamanho || inicio > fim) throw new IndexOutOfBoundsException(inicio);
+        return new Linha(buffer, this.inicio + inicio, fim - inicio, charset, ASCII);
+    }
+
+    @Override
+    public String toString() {
+
+        if (texto == null) {
+
+            final byte[] bytes = new byte[tamanho];
+
+            buffer.get(inicio, bytes);
+
+            texto = new String(bytes, ascii() ? StandardCharsets.ISO_8859_1 : charset);
+
+        }
+
+        return texto;
+
+    }
+
+    private boolean ascii() {
+
+        if (codificacao == DESCONHECIDO) {
+
+            codificacao = ASCII;
+
+            for (int i = inicio; i < inicio + tamanho; i++) {
+                if (buffer.get(i) < 0) {
+                    codificacao = CODIFICADO;
+                    break;
+                }
+            }
+
+        }
+
+        return codificacao == ASCII;
+
+    }
+
+}
@@ -0,0 +1,106 @@
+package br.projeto.blastin.jstream;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Mapa imutável sobre os arranjos de uma {@link TabelaAgregacao}, sem nós por entrada. A iteração segue a
+ * ordem de chegada dos grupos.
+ */
+final class MapaAgrupado<K, V> extends AbstractMap<K, V> {
+
+    private final Object[] chaves;
+
+    private final int[] hashes;
+
+    private final int[] indice;
+
+    private final Object[] valores;
+
+    private final int tamanho;
+
+    MapaAgrupado(final Object[] chaves, final int[] hashes, final int[] indice, final Object[] valores, final int tamanho) {
+        this.chaves = chaves;
+        this.hashes = hashes;
+        this.indice = indice;
+        this.valores = valores;
+        this.tamanho = tamanho;
+    }
+
+    @Override
+    public int size() {
+        return tamanho;
+    }
+
+    @Override
+    public boolean containsKey(final Object chave) {
+        return posicao(chave) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(final Object chave) {
+        final int posicao = posicao(chave);
+        return posicao < 0 ? null : (V) valores[posicao];
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new Entradas();
+    }
+
+    private int posicao(final Object chave) {
+
+        if (chave == null) return -1;
+
+        final int hash = ConjuntoAberto.espalhar(chave.hashCode());
+
+        final int mascara = indice.length - 1;
+
+        for (int i = hash & mascara; ; i = (i + 1) & mascara) {
+
+            final int posicao = indice[i] - 1;
+
+            if (posicao < 0) return -1;
+
+            if (hashes[posicao] == hash && chaves[posicao].equals(chave)) return posicao;
+
+        }
+
+    }
+
+    private final class Entradas extends AbstractSet<Entry<K, V>> {
+
+        @Override
+        public int size() {
+            return tamanho;
+        }
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new Iterator<>() {
+
+                private int posicao;
+
+                @Override
+                public boolean hasNext() {
+                    return posicao < tamanho;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public Entry<K, V> next() {
+                    if (posicao >= tamanho) throw new NoSuchElementException();
+                    final int atual = posicao++;
+                    return new SimpleImmutableEntry<>((K) chaves[atual], (V) valores[atual]);
+                }
+
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,66 @@
+package br.projeto.blastin.jstream;
+
+import br.projeto.blastin.joptional.Funcao;
+
+final class Mapeamento<E, S> implements Fonte<S> {
+
+    private final Fonte<E> anterior;
+
+    private final Funcao<? super E, S> funcao;
+
+    Mapeamento(final Fonte<E> anterior, final Funcao<? super E, S> funcao) {
+        this.anterior = anterior;
+        this.funcao = funcao;
+    }
+
+    @Override
+    public void percorrer(final Sumidouro<? super S> sumidouro) {
+        anterior.percorrer(new SumidouroMapeamento<>(funcao, sumidouro));
+    }
+
+    /**
+     * Um limite superior: resultados nulos são descartados.
+     */
+    @Override
+    public long tamanhoEstimado() {
+        return anterior.tamanhoEstimado();
+    }
+
+    @Override
+    public long extensao() {
+        return anterior.extensao();
+    }
+
+    @Override
+    public Fonte<S> fatia(final long inicio, final long fim) {
+        return new Mapeamento<>(anterior.fatia(inicio, fim), funcao);
+    }
+
+    private static final class SumidouroMapeamento<E, S> implements Sumidouro<E> {
+
+        private final Funcao<? super E, S> funcao;
+
+        private final Sumidouro<? super S> abaixo;
+
+        private SumidouroMapeamento(final Funcao<? super E, S> funcao, final Sumidouro<? super S> abaixo) {
+            this.funcao = funcao;
+            this.abaixo = abaixo;
+        }
+
+        @Override
+        public void aceitar(final E e) {
+
+            final S mapeado = funcao.aplicar(e);
+
+            if (mapeado != null) abaixo.aceitar(mapeado);
+
+        }
+
+        @Override
+        public boolean saciado() {
+            return abaixo.saciado();
+        }
+
+    }
+
+}
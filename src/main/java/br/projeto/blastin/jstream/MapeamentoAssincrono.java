@@ -0,0 +1,214 @@
+package br.projeto.blastin.jstream;
+
+import br.projeto.blastin.joptional.Funcao;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Aplica a função no executor, com até {@code concorrenciaMaxima} chamadas em andamento, e repassa os
+ * resultados na ordem de encontro. A thread que percorre a fonte só espera quando a janela está cheia ou
+ * quando a fonte termina. A primeira falha, na ordem em que acontece, cancela as demais tarefas e é relançada.
+ * O estágio não é dividido em fatias, para que o limite de concorrência valha para a stream inteira.
+ */
+final class MapeamentoAssincrono<E, S> implements Fonte<S> {
+
+    private final Fonte<E> anterior;
+
+    private final Funcao<? super E, S> funcao;
+
+    private final int concorrenciaMaxima;
+
+    private final Executor executor;
+
+    MapeamentoAssincrono(final Fonte<E> anterior,
+                         final Funcao<? super E, S> funcao,
+                         final int concorrenciaMaxima,
+                         final Executor executor) {
+        this.anterior = anterior;
+        this.funcao = funcao;
+        this.concorrenciaMaxima = concorrenciaMaxima;
+        this.executor = executor;
+    }
+
+    @Override
+    public void percorrer(final Sumidouro<? super S> sumidouro) {
+
+        final SumidouroAssincrono<E, S> assincrono = new SumidouroAssincrono<>(this, sumidouro);
+
+        try {
+            anterior.percorrer(assincrono);
+            assincrono.esvaziar();
+        } finally {
+            assincrono.cancelar();
+        }
+
+    }
+
+    /**
+     * Threads virtuais quando a JVM as oferece (JDK 21); senão, um pool de threads daemon que cresce sob demanda,
+     * adequado a funções que bloqueiam em E/S.
+     */
+    static Executor executorPadrao() {
+        return Padrao.EXECUTOR;
+    }
+
+    private static final class Padrao {
+
+        private static final Executor EXECUTOR = criar();
+
+        private static Executor criar() {
+            try {
+                return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (final ReflectiveOperationException | RuntimeException e) {
+                return Executors.newCachedThreadPool(new Daemon());
+            }
+        }
+
+    }
+
+    private static final class Daemon implements ThreadFactory {
+
+        private final AtomicInteger contador = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable tarefa) {
+            final Thread thread = new Thread(tarefa, "jstream-assincrono-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+    private static final class SumidouroAssincrono<E, S> implements Sumidouro<E> {
+
+        private final MapeamentoAssincrono<E, S> estagio;
+
+        private final Sumidouro<? super S> abaixo;
+
+        private final ArrayDeque<Tarefa> janela;
+
+        /**
+         * thread que espera a primeira tarefa da janela; com {@link FontePublicador}, é a do publicador, e não a da
+         * operação terminal
+         */
+        private volatile Thread consumidor;
+
+        private final AtomicReference<Throwable> falha = new AtomicReference<>();
+
+        private SumidouroAssincrono(final MapeamentoAssincrono<E, S> estagio, final Sumidouro<? super S> abaixo) {
+            this.estagio = estagio;
+            this.abaixo = abaixo;
+            this.janela = new ArrayDeque<>(estagio.concorrenciaMaxima);
+        }
+
+        @Override
+        public void aceitar(final E e) {
+
+            while (janela.size() >= estagio.concorrenciaMaxima && !abaixo.saciado()) repassarPrimeira();
+
+            if (abaixo.saciado()) return;
+
+            final Tarefa tarefa = new Tarefa(e);
+
+            janela.addLast(tarefa);
+
+            estagio.executor.execute(tarefa);
+
+        }
+
+        @Override
+        public boolean saciado() {
+            return abaixo.saciado();
+        }
+
+        private void esvaziar() {
+            while (!janela.isEmpty() && !abaixo.saciado()) repassarPrimeira();
+        }
+
+        private void cancelar() {
+            for (final Tarefa tarefa : janela) tarefa.cancel(true);
+            janela.clear();
+        }
+
+        private void repassarPrimeira() {
+
+            final Tarefa primeira = janela.peekFirst();
+
+            consumidor = Thread.currentThread();
+
+            while (!primeira.isDone()) {
+
+                verificarFalha();
+
+                LockSupport.park(this);
+
+                if (Thread.interrupted()) {
+                    Thread.currentThread().interrupt();
+                    throw new CancellationException("mapeamento assíncrono interrompido");
+                }
+
+            }
+
+            verificarFalha();
+
+            janela.removeFirst();
+
+            final S mapeado = primeira.resultado();
+
+            if (mapeado != null) abaixo.aceitar(mapeado);
+
+        }
+
+        private void verificarFalha() {
+
+            final Throwable causa = falha.get();
+
+            if (causa == null) return;
+
+            if (causa instanceof RuntimeException) throw (RuntimeException) causa;
+            if (causa instanceof Error) throw (Error) causa;
+
+            throw new CompletionException(causa);
+
+        }
+
+        private final class Tarefa extends FutureTask<S> {
+
+            private Tarefa(final E e) {
+                super(() -> estagio.funcao.aplicar(e));
+            }
+
+            @Override
+            protected void setException(final Throwable causa) {
+                falha.compareAndSet(null, causa);
+                super.setException(causa);
+            }
+
+            @Override
+            protected void done() {
+                LockSupport.unpark(consumidor);
+            }
+
+            private S resultado() {
+                try {
+                    return get();
+                } catch (final InterruptedException | ExecutionException e) {
+                    throw new IllegalStateException("tarefa concluída sem resultado", e);
+                }
+            }
+
+        }
+
+    }
+
+}
@@ -0,0 +1,79 @@
+package br.projeto.blastin.jstream;
+
+import br.projeto.blastin.joptional.Funcao;
+
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Aplica a função a cada lote de {@link EmLotes} e devolve os elementos dos resultados, um a um. Como em
+ * {@link Mapeamento}, resultados nulos são descartados.
+ */
+final class MapeamentoEmLote<E, S> implements Fonte<S> {
+
+    private final Fonte<List<E>> lotes;
+
+    private final Funcao<? super List<E>, ? extends List<S>> funcao;
+
+    MapeamentoEmLote(final Fonte<List<E>> lotes, final Funcao<? super List<E>, ? extends List<S>> funcao) {
+        this.lotes = lotes;
+        this.funcao = funcao;
+    }
+
+    @Override
+    public void percorrer(final Sumidouro<? super S> sumidouro) {
+        lotes.percorrer(new SumidouroMapeamentoEmLote<>(funcao, sumidouro));
+    }
+
+    @Override
+    public long extensao() {
+        return lotes.extensao();
+    }
+
+    @Override
+    public Fonte<S> fatia(final long inicio, final long fim) {
+        return new MapeamentoEmLote<>(lotes.fatia(inicio, fim), funcao);
+    }
+
+    private static final class SumidouroMapeamentoEmLote<E, S> implements Sumidouro<List<E>> {
+
+        private final Funcao<? super List<E>, ? extends List<S>> funcao;
+
+        private final Sumidouro<? super S> abaixo;
+
+        private SumidouroMapeamentoEmLote(final Funcao<? super List<E>, ? extends List<S>> funcao,
+                                          final Sumidouro<? super S> abaixo) {
+            this.funcao = funcao;
+            this.abaixo = abaixo;
+        }
+
+        @Override
+        public void aceitar(final List<E> lote) {
+
+            final List<S> mapeados = funcao.aplicar(lote);
+
+            if (mapeados == null) return;
+
+            if (mapeados instanceof RandomAccess) {
+                for (int i = 0; i < mapeados.size() && !abaixo.saciado(); i++) repassar(mapeados.get(i));
+            } else {
+                for (final S mapeado : mapeados) {
+                    if (abaixo.saciado()) return;
+                    repassar(mapeado);
+                }
+            }
+
+        }
+
+        @Override
+        public boolean saciado() {
+            return abaixo.saciado();
+        }
+
+        private void repassar(final S mapeado) {
+            if (mapeado != null) abaixo.aceitar(mapeado);
+        }
+
+    }
+
+}
@@ -0,0 +1,63 @@
+package br.projeto.blastin.jstream;
+
+import br.projeto.blastin.joptional.Funcao;
+
+/**
+ * Percorre a fonte de cada stream produzida pela função diretamente para o sumidouro seguinte, sem coletar
+ * os elementos: sobre arranjos, é um laço sobre o próprio arranjo. As streams produzidas são percorridas
+ * sequencialmente; as nulas são ignoradas.
+ */
+final class MapeamentoPlano<E, S> implements Fonte<S> {
+
+    private final Fonte<E> anterior;
+
+    private final Funcao<? super E, ? extends JStream<? extends S>> funcao;
+
+    MapeamentoPlano(final Fonte<E> anterior, final Funcao<? super E, ? extends JStream<? extends S>> funcao) {
+        this.anterior = anterior;
+        this.funcao = funcao;
+    }
+
+    @Override
+    public void percorrer(final Sumidouro<? super S> sumidouro) {
+        anterior.percorrer(new SumidouroMapeamentoPlano<>(funcao, sumidouro));
+    }
+
+    @Override
+    public long extensao() {
+        return anterior.extensao();
+    }
+
+    @Override
+    public Fonte<S> fatia(final long inicio, final long fim) {
+        return new MapeamentoPlano<>(anterior.fatia(inicio, fim), funcao);
+    }
+
+    private static final class SumidouroMapeamentoPlano<E, S> implements Sumidouro<E> {
+
+        private final Funcao<? super E, ? extends JStream<? extends S>> funcao;
+
+        private final Sumidouro<? super S> abaixo;
+
+        private SumidouroMapeamentoPlano(final Funcao<? super E, ? extends JStream<? extends S>> funcao, final Sumidouro<? super S> abaixo) {
+            this.funcao = funcao;
+            this.abaixo = abaixo;
+        }
+
+        @Override
+        public void aceitar(final E e) {
+
+            final JStream<? extends S> stream = funcao.aplicar(e);
+
+            if (stream != null) JStreams.fonte(stream).percorrer(abaixo);
+
+        }
+
+        @Override
+        public boolean saciado() {
+            return abaixo.saciado();
+        }
+
+    }
+
+}
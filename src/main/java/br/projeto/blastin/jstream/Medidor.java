@@ -0,0 +1,51 @@
+package br.projeto.blastin.jstream;
+
+import br.projeto.blastin.joptional.Funcao;
+import br.projeto.blastin.joptional.Predicado;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores de um estágio observado durante um único percurso. São acumulados por fatia em avaliações paralelas.
+ */
+final class Medidor {
+
+    private final LongAdder saidas = new LongAdder();
+
+    private final LongAdder nanos = new LongAdder();
+
+    <E, S> Funcao<E, S> medir(final Funcao<E, S> funcao) {
+        return e -> {
+            final long inicio = System.nanoTime();
+            try {
+                return funcao.aplicar(e);
+            } finally {
+                nanos.add(System.nanoTime() - inicio);
+            }
+        };
+    }
+
+    <E> Predicado<E> medirPredicado(final Predicado<E> predicado) {
+        return e -> {
+            final long inicio = System.nanoTime();
+            try {
+                return predicado.teste(e);
+            } finally {
+                nanos.add(System.nanoTime() - inicio);
+            }
+        };
+    }
+
+    void adicionarSaidas(final long quantidade) {
+        saidas.add(quantidade);
+    }
+
+    long saidas() {
+        return saidas.sum();
+    }
+
+    long nanos() {
+        return nanos.sum();
+    }
+
+}
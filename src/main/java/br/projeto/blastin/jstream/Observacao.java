@@ -0,0 +1,140 @@
+package br.projeto.blastin.jstream;
+
+import br.projeto.blastin.joptional.Funcao;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Cadeia imutável dos estágios observados de uma stream, da fonte ao último estágio. Streams derivadas da
+ * mesma stream observada compartilham o início da cadeia.
+ * <p> A cadeia guarda como montar cada estágio, e não os contadores: cada operação terminal monta os estágios
+ * de novo com medidores próprios, de modo que percursos simultâneos, ou de streams derivadas da mesma fonte, não
+ * misturam suas contagens, e um percurso interrompido por exceção não deixa resíduos para o próximo. </p>
+ */
+final class Observacao {
+
+    /**
+     * Monta um estágio sobre o anterior, com as funções medidas pelo medidor do percurso.
+     */
+    interface Construtor<E, S> {
+
+        Fonte<S> construir(Fonte<E> anterior, Medidor medidor);
+
+    }
+
+    private final JObservador observador;
+
+    private final Observacao anterior;
+
+    private final int posicao;
+
+    private final String nome;
+
+    /**
+     * fonte original, apenas na raiz da cadeia
+     */
+    private final Fonte<?> origem;
+
+    private final Construtor<?, ?> construtor;
+
+    private Observacao(final JObservador observador,
+                       final Observacao anterior,
+                       final int posicao,
+                       final String nome,
+                       final Fonte<?> origem,
+                       final Construtor<?, ?> construtor) {
+        this.observador = observador;
+        this.anterior = anterior;
+        this.posicao = posicao;
+        this.nome = nome;
+        this.origem = origem;
+        this.construtor = construtor;
+    }
+
+    /**
+     * @param observador nulo quando apenas os eventos do JFR são emitidos
+     */
+    static Observacao fonte(final JObservador observador, final Fonte<?> origem) {
+        return new Observacao(observador, null, 0, "fonte", origem, null);
+    }
+
+    Observacao estagio(final String nome, final Construtor<?, ?> construtor) {
+        return new Observacao(observador, this, posicao + 1, nome, null, construtor);
+    }
+
+    <T, R> R medir(final String operacao, final long tamanhoPrevisto, final Funcao<Fonte<T>, R> percurso) {
+
+        final Medidor[] medidores = new Medidor[posicao + 1];
+
+        final Fonte<T> fonte = montar(medidores);
+
+        final EventoTerminal evento = new EventoTerminal();
+
+        evento.begin();
+
+        final long inicio = System.nanoTime();
+
+        final R resultado = percurso.aplicar(fonte);
+
+        final long nanos = System.nanoTime() - inicio;
+
+        evento.end();
+
+        final List<JEstagio> estagios = new ArrayList<>(posicao + 1);
+
+        coletar(estagios, medidores);
+
+        if (evento.shouldCommit()) {
+
+            for (final JEstagio estagio : estagios) EventoEstagio.emitir(operacao, estagio);
+
+            evento.operacao = operacao;
+            evento.tamanhoPrevisto = tamanhoPrevisto;
+            evento.estagios = estagios.size();
+            evento.commit();
+
+        }
+
+        if (observador != null) {
+            observador.relatar(new JRelatorio(operacao, nanos, tamanhoPrevisto, Collections.unmodifiableList(estagios)));
+        }
+
+        return resultado;
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Fonte<T> montar(final Medidor[] medidores) {
+
+        final Medidor medidor = new Medidor();
+
+        medidores[posicao] = medidor;
+
+        final Fonte<T> estagio = anterior == null
+                ? (Fonte<T>) origem
+                : ((Construtor<Object, T>) construtor).construir(anterior.montar(medidores), medidor);
+
+        return new FonteMedida<>(estagio, medidor);
+
+    }
+
+    /**
+     * As entradas de cada estágio são as saídas do anterior; a fonte não tem entradas próprias.
+     */
+    private long coletar(final List<JEstagio> estagios, final Medidor[] medidores) {
+
+        final long entradas = anterior == null ? -1 : anterior.coletar(estagios, medidores);
+
+        final Medidor medidor = medidores[posicao];
+
+        final long saidas = medidor.saidas();
+
+        estagios.add(new JEstagio(posicao, nome, entradas < 0 ? saidas : entradas, saidas, medidor.nanos()));
+
+        return saidas;
+
+    }
+
+}
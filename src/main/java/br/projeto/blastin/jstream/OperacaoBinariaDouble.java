@@ -0,0 +1,8 @@
+package br.projeto.blastin.jstream;
+
+@FunctionalInterface
+public interface OperacaoBinariaDouble {
+
+    double operar(final double a, final double b);
+
+}
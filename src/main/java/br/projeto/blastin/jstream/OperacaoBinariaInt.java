@@ -0,0 +1,8 @@
+package br.projeto.blastin.jstream;
+
+@FunctionalInterface
+public interface OperacaoBinariaInt {
+
+    int operar(final int a, final int b);
+
+}
@@ -0,0 +1,8 @@
+package br.projeto.blastin.jstream;
+
+@FunctionalInterface
+public interface OperacaoBinariaLong {
+
+    long operar(final long a, final long b);
+
+}
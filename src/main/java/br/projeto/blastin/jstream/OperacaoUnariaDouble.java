@@ -0,0 +1,8 @@
+package br.projeto.blastin.jstream;
+
+@FunctionalInterface
+public interface OperacaoUnariaDouble {
+
+    double operar(final double valor);
+
+}
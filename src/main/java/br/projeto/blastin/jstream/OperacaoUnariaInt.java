@@ -0,0 +1,8 @@
+package br.projeto.blastin.jstream;
+
+@FunctionalInterface
+public interface OperacaoUnariaInt {
+
+    int operar(final int valor);
+
+}
@@ -0,0 +1,8 @@
+package br.projeto.blastin.jstream;
+
+@FunctionalInterface
+public interface OperacaoUnariaLong {
+
+    long operar(final long valor);
+
+}
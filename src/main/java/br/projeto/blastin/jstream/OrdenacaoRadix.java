@@ -0,0 +1,151 @@
+package br.projeto.blastin.jstream;
+
+import java.util.Arrays;
+
+/**
+ * Radix sort LSD com dígitos de 8 bits para os estágios ordenados das streams primitivas. Cada passada é uma
+ * contagem seguida de uma distribuição estável num arranjo auxiliar; passadas em que todos os valores têm o
+ * mesmo dígito são puladas. Arranjos pequenos usam {@link Arrays#sort}, mais rápido abaixo do limiar. Os
+ * arranjos auxiliares vêm da {@link Arena}.
+ */
+final class OrdenacaoRadix {
+
+    static final int LIMIAR = 1 << 12;
+
+    private OrdenacaoRadix() {
+    }
+
+    static void ordenar(final int[] valores, final int tamanho) {
+
+        if (tamanho < LIMIAR) {
+            Arrays.sort(valores, 0, tamanho);
+            return;
+        }
+
+        final int[] auxiliar = Arena.ints(tamanho);
+
+        final int[] contagem = new int[257];
+
+        int[] origem = valores;
+        int[] destino = auxiliar;
+
+        for (int deslocamento = 0; deslocamento < Integer.SIZE; deslocamento += 8) {
+
+            Arrays.fill(contagem, 0);
+
+            final boolean sinal = deslocamento == Integer.SIZE - 8;
+
+            for (int i = 0; i < tamanho; i++) contagem[digito(origem[i], deslocamento, sinal) + 1]++;
+
+            if (unico(contagem, tamanho)) continue;
+
+            for (int d = 0; d < 256; d++) contagem[d + 1] += contagem[d];
+
+            for (int i = 0; i < tamanho; i++) destino[contagem[digito(origem[i], deslocamento, sinal)]++] = origem[i];
+
+            final int[] troca = origem;
+            origem = destino;
+            destino = troca;
+
+        }
+
+        if (origem != valores) System.arraycopy(origem, 0, valores, 0, tamanho);
+
+        Arena.devolver(auxiliar);
+
+    }
+
+    /**
+     * Ordena as chaves long; usado também por double, através de {@link #chave(double)}.
+     */
+    static void ordenar(final long[] valores, final int tamanho) {
+
+        if (tamanho < LIMIAR) {
+            Arrays.sort(valores, 0, tamanho);
+            return;
+        }
+
+        final long[] auxiliar = Arena.longs(tamanho);
+
+        final int[] contagem = new int[257];
+
+        long[] origem = valores;
+        long[] destino = auxiliar;
+
+        for (int deslocamento = 0; deslocamento < Long.SIZE; deslocamento += 8) {
+
+            Arrays.fill(contagem, 0);
+
+            final boolean sinal = deslocamento == Long.SIZE - 8;
+
+            for (int i = 0; i < tamanho; i++) contagem[digito(origem[i], deslocamento, sinal) + 1]++;
+
+            if (unico(contagem, tamanho)) continue;
+
+            for (int d = 0; d < 256; d++) contagem[d + 1] += contagem[d];
+
+            for (int i = 0; i < tamanho; i++) destino[contagem[digito(origem[i], deslocamento, sinal)]++] = origem[i];
+
+            final long[] troca = origem;
+            origem = destino;
+            destino = troca;
+
+        }
+
+        if (origem != valores) System.arraycopy(origem, 0, valores, 0, tamanho);
+
+        Arena.devolver(auxiliar);
+
+    }
+
+    static void ordenar(final double[] valores, final int tamanho) {
+
+        if (tamanho < LIMIAR) {
+            Arrays.sort(valores, 0, tamanho);
+            return;
+        }
+
+        final long[] chaves = Arena.longs(tamanho);
+
+        for (int i = 0; i < tamanho; i++) chaves[i] = chave(valores[i]);
+
+        ordenar(chaves, tamanho);
+
+        for (int i = 0; i < tamanho; i++) valores[i] = valor(chaves[i]);
+
+        Arena.devolver(chaves);
+
+    }
+
+    /**
+     * Bits de um double rearranjados para que a ordem de long com sinal coincida com {@link Double#compare}:
+     * negativos têm os bits de magnitude invertidos. NaN é normalizado e fica por último.
+     */
+    private static long chave(final double valor) {
+        final long bits = Double.doubleToLongBits(valor);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    private static double valor(final long chave) {
+        return Double.longBitsToDouble(chave ^ ((chave >> 63) & Long.MAX_VALUE));
+    }
+
+    /**
+     * O dígito mais significativo tem o bit de sinal invertido, para que negativos venham antes.
+     */
+    private static int digito(final int valor, final int deslocamento, final boolean sinal) {
+        final int digito = (valor >>> deslocamento) & 0xFF;
+        return sinal ? digito ^ 0x80 : digito;
+    }
+
+    private static int digito(final long valor, final int deslocamento, final boolean sinal) {
+        final int digito = (int) (valor >>> deslocamento) & 0xFF;
+        return sinal ? digito ^ 0x80 : digito;
+    }
+
+    private static boolean unico(final int[] contagem, final int tamanho) {
+        for (int d = 1; d <= 256; d++) if (contagem[d] == tamanho) return true;
+        return false;
+    }
+
+}
@@ -0,0 +1,121 @@
+package br.projeto.blastin.jstream;
+
+import br.projeto.blastin.joptional.Provedor;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Estágio de barreira: acumula todos os elementos, ordena de forma estável e só então os repassa. Quando a
+ * stream é paralela, a fonte anterior é acumulada em fatias e a ordenação usa {@link Arrays#parallelSort}, um
+ * merge sort paralelo. Um {@link #limite(long)} logo depois troca a ordenação completa por uma {@link Selecao}.
+ */
+final class Ordenado<T> implements Fonte<T> {
+
+    private final Fonte<T> anterior;
+
+    private final Comparator<? super T> comparador;
+
+    /**
+     * nulo quando a stream era sequencial ao registrar o estágio
+     */
+    private final Paralelismo paralelismo;
+
+    Ordenado(final Fonte<T> anterior, final Comparator<? super T> comparador, final Paralelismo paralelismo) {
+        this.anterior = anterior;
+        this.comparador = comparador;
+        this.paralelismo = paralelismo;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void percorrer(final Sumidouro<? super T> sumidouro) {
+
+        final long tamanhoEstimado = paralelismo == null ? anterior.tamanhoEstimado() : -1;
+
+        final Acumulo<T> acumulo = acumular(anterior, paralelismo, () -> new Acumulo<>(tamanhoEstimado), Acumulo::combinar);
+
+        final T[] ts = (T[]) acumulo.ts;
+
+        final int tamanho = acumulo.tamanho;
+
+        if (paralelismo == null) Arrays.sort(ts, 0, tamanho, comparador);
+        else paralelismo.executar(() -> Arrays.parallelSort(ts, 0, tamanho, comparador));
+
+        for (int i = 0; i < tamanho && !sumidouro.saciado(); i++) sumidouro.aceitar(ts[i]);
+
+        Arena.devolver(ts, tamanho);
+
+    }
+
+    @Override
+    public long tamanhoExato() {
+        return anterior.tamanhoExato();
+    }
+
+    @Override
+    public int caracteristicas() {
+        return anterior.caracteristicas() | Caracteristicas.ORDENADO;
+    }
+
+    @Override
+    public Comparator<? super T> comparador() {
+        return comparador;
+    }
+
+    @Override
+    public Fonte<T> limite(final long quantidade) {
+        if (quantidade == 0) return FonteArranjo.vazia();
+        return new Selecao<>(anterior, comparador, quantidade, paralelismo);
+    }
+
+    static <T, S extends Sumidouro<T>> S acumular(final Fonte<T> fonte,
+                                                  final Paralelismo paralelismo,
+                                                  final Provedor<S> novo,
+                                                  final OperacaoBinaria<S> combinar) {
+
+        if (paralelismo != null) return paralelismo.avaliar(fonte, novo, combinar);
+
+        final S sumidouro = novo.prover();
+
+        fonte.percorrer(sumidouro);
+
+        return sumidouro;
+
+    }
+
+    private static final class Acumulo<T> implements Sumidouro<T> {
+
+        private Object[] ts;
+
+        private int tamanho;
+
+        private Acumulo(final long tamanhoEstimado) {
+            ts = Arena.objetos(Arena.capacidadeInicial(tamanhoEstimado));
+        }
+
+        @Override
+        public void aceitar(final T t) {
+            if (tamanho == ts.length) ts = Arena.crescer(ts, tamanho);
+            ts[tamanho++] = t;
+        }
+
+        /**
+         * O arranjo da direita volta à reserva da thread que combina, que pode não ser a que o emprestou.
+         */
+        private Acumulo<T> combinar(final Acumulo<T> direita) {
+            if (tamanho + direita.tamanho > ts.length) {
+                final Object[] maior = Arena.objetos(tamanho + direita.tamanho);
+                System.arraycopy(ts, 0, maior, 0, tamanho);
+                Arena.devolver(ts, tamanho);
+                ts = maior;
+            }
+            System.arraycopy(direita.ts, 0, ts, tamanho, direita.tamanho);
+            Arena.devolver(direita.ts, direita.tamanho);
+            tamanho += direita.tamanho;
+            return this;
+        }
+
+    }
+
+}
@@ -0,0 +1,111 @@
+package br.projeto.blastin.jstream;
+
+import br.projeto.blastin.joptional.Provedor;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Configuração da execução paralela de um {@link JStream}. A fonte é dividida em fatias contíguas, cada
+ * fatia é percorrida por um sumidouro próprio e os resultados parciais são combinados da esquerda para a
+ * direita, preservando a ordem de encontro.
+ */
+final class Paralelismo {
+
+    static final long LIMIAR_PADRAO = 1 << 13;
+
+    static final Paralelismo PADRAO = new Paralelismo(ForkJoinPool.commonPool(), LIMIAR_PADRAO);
+
+    private final ForkJoinPool pool;
+
+    private final long limiar;
+
+    Paralelismo(final ForkJoinPool pool, final long limiar) {
+        this.pool = pool;
+        this.limiar = limiar;
+    }
+
+    /**
+     * Fontes menores que o limiar, ou indivisíveis, são percorridas na própria thread.
+     */
+    <T, S extends Sumidouro<T>> S avaliar(final Fonte<T> fonte,
+                                          final Provedor<S> novo,
+                                          final OperacaoBinaria<S> combinar) {
+
+        final long extensao = fonte.extensao();
+
+        if (extensao <= limiar) {
+            final S sumidouro = novo.prover();
+            fonte.percorrer(sumidouro);
+            return sumidouro;
+        }
+
+        final long fatia = Math.max(limiar, extensao / (4L * pool.getParallelism()));
+
+        return pool.invoke(new Tarefa<>(fonte, 0, extensao, fatia, novo, combinar));
+
+    }
+
+    /**
+     * Executa a ação no pool, para que operações de fork/join internas, como {@link java.util.Arrays#parallelSort},
+     * usem o pool configurado em vez do pool comum.
+     */
+    void executar(final Runnable acao) {
+        pool.invoke(ForkJoinTask.adapt(acao));
+    }
+
+    private static final class Tarefa<T, S extends Sumidouro<T>> extends RecursiveTask<S> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Fonte<T> fonte;
+
+        private final long inicio;
+
+        private final long fim;
+
+        private final long fatia;
+
+        private final Provedor<S> novo;
+
+        private final OperacaoBinaria<S> combinar;
+
+        private Tarefa(final Fonte<T> fonte,
+                       final long inicio,
+                       final long fim,
+                       final long fatia,
+                       final Provedor<S> novo,
+                       final OperacaoBinaria<S> combinar) {
+            this.fonte = fonte;
+            this.inicio = inicio;
+            this.fim = fim;
+            this.fatia = fatia;
+            this.novo = novo;
+            this.combinar = combinar;
+        }
+
+        @Override
+        protected S compute() {
+
+            if (fim - inicio <= fatia) {
+                final S sumidouro = novo.prover();
+                if (!sumidouro.saciado()) fonte.fatia(inicio, fim).percorrer(sumidouro);
+                return sumidouro;
+            }
+
+            final long meio = inicio + (fim - inicio) / 2;
+
+            final Tarefa<T, S> esquerda = new Tarefa<>(fonte, inicio, meio, fatia, novo, combinar);
+
+            esquerda.fork();
+
+            final S direita = new Tarefa<>(fonte, meio, fim, fatia, novo, combinar).compute();
+
+            return combinar.operar(esquerda.join(), direita);
+
+        }
+
+    }
+
+}
@@ -0,0 +1,8 @@
+package br.projeto.blastin.jstream;
+
+@FunctionalInterface
+public interface PredicadoDouble {
+
+    boolean teste(final double valor);
+
+}
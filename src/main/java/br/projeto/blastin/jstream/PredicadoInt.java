@@ -0,0 +1,8 @@
+package br.projeto.blastin.jstream;
+
+@FunctionalInterface
+public interface PredicadoInt {
+
+    boolean teste(final int valor);
+
+}
@@ -0,0 +1,8 @@
+package br.projeto.blastin.jstream;
+
+@FunctionalInterface
+public interface PredicadoLong {
+
+    boolean teste(final long valor);
+
+}
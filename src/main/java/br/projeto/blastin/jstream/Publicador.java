@@ -0,0 +1,113 @@
+package br.projeto.blastin.jstream;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Publica os elementos de uma fonte. Cada assinatura percorre a fonte numa thread do executor, que fica
+ * bloqueada enquanto o assinante não tiver demanda; assim nenhum elemento é produzido antes de ser pedido.
+ */
+final class Publicador<T> implements Flow.Publisher<T> {
+
+    private final Fonte<T> fonte;
+
+    private final Executor executor;
+
+    Publicador(final Fonte<T> fonte, final Executor executor) {
+        this.fonte = fonte;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super T> assinante) {
+
+        Objects.requireNonNull(assinante);
+
+        final Assinatura<T> assinatura = new Assinatura<>(fonte, assinante);
+
+        assinante.onSubscribe(assinatura);
+
+        executor.execute(assinatura::produzir);
+
+    }
+
+    private static final class Assinatura<T> implements Flow.Subscription, Sumidouro<T> {
+
+        private final Fonte<T> fonte;
+
+        private final Flow.Subscriber<? super T> assinante;
+
+        private final AtomicLong demanda = new AtomicLong();
+
+        private volatile boolean cancelada;
+
+        private volatile Throwable falha;
+
+        private volatile Thread produtor;
+
+        private Assinatura(final Fonte<T> fonte, final Flow.Subscriber<? super T> assinante) {
+            this.fonte = fonte;
+            this.assinante = assinante;
+        }
+
+        @Override
+        public void request(final long n) {
+
+            if (n <= 0) {
+                falha = new IllegalArgumentException("demanda deve ser positiva: " + n);
+                cancel();
+                return;
+            }
+
+            demanda.getAndAccumulate(n, (atual, pedido) -> atual + pedido < 0 ? Long.MAX_VALUE : atual + pedido);
+
+            LockSupport.unpark(produtor);
+
+        }
+
+        @Override
+        public void cancel() {
+            cancelada = true;
+            LockSupport.unpark(produtor);
+        }
+
+        @Override
+        public void aceitar(final T t) {
+
+            while (demanda.get() == 0 && !cancelada) LockSupport.park(this);
+
+            if (cancelada) return;
+
+            demanda.decrementAndGet();
+
+            assinante.onNext(t);
+
+        }
+
+        @Override
+        public boolean saciado() {
+            return cancelada;
+        }
+
+        private void produzir() {
+
+            produtor = Thread.currentThread();
+
+            try {
+                fonte.percorrer(this);
+            } catch (final RuntimeException | Error e) {
+                if (!cancelada) assinante.onError(e);
+                return;
+            }
+
+            if (falha != null) assinante.onError(falha);
+            else if (!cancelada) assinante.onComplete();
+
+        }
+
+    }
+
+}
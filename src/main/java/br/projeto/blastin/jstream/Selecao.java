@@ -0,0 +1,207 @@
+package br.projeto.blastin.jstream;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Os {@code quantidade} primeiros elementos segundo o comparador, em O(n log k): um heap de máximo com k
+ * elementos descarta cada novo elemento que não supera o pior mantido. Empates são desfeitos pela ordem de
+ * encontro, de modo que o resultado é o mesmo da ordenação estável seguida de limite.
+ */
+final class Selecao<T> implements Fonte<T> {
+
+    private final Fonte<T> anterior;
+
+    private final Comparator<? super T> comparador;
+
+    private final int quantidade;
+
+    private final Paralelismo paralelismo;
+
+    Selecao(final Fonte<T> anterior, final Comparator<? super T> comparador, final long quantidade, final Paralelismo paralelismo) {
+        this.anterior = anterior;
+        this.comparador = comparador;
+        this.quantidade = (int) Math.min(quantidade, Integer.MAX_VALUE - 8);
+        this.paralelismo = paralelismo;
+    }
+
+    @Override
+    public void percorrer(final Sumidouro<? super T> sumidouro) {
+
+        final Heap<T> heap = Ordenado.acumular(anterior, paralelismo, () -> new Heap<>(comparador, quantidade), Heap::combinar);
+
+        final T[] ordenados = heap.ordenados();
+
+        for (int i = 0; i < ordenados.length && !sumidouro.saciado(); i++) sumidouro.aceitar(ordenados[i]);
+
+    }
+
+    @Override
+    public long tamanhoExato() {
+        final long tamanho = anterior.tamanhoExato();
+        return tamanho < 0 ? -1 : Math.min(tamanho, quantidade);
+    }
+
+    @Override
+    public int caracteristicas() {
+        return anterior.caracteristicas() | Caracteristicas.ORDENADO;
+    }
+
+    @Override
+    public Comparator<? super T> comparador() {
+        return comparador;
+    }
+
+    @Override
+    public Fonte<T> limite(final long quantidade) {
+        if (quantidade == 0) return FonteArranjo.vazia();
+        return quantidade < this.quantidade ? new Selecao<>(anterior, comparador, quantidade, paralelismo) : this;
+    }
+
+    private static final class Heap<T> implements Sumidouro<T> {
+
+        private final Comparator<? super T> comparador;
+
+        private final int capacidade;
+
+        private Object[] ts;
+
+        /**
+         * posição de encontro de cada elemento do heap, para desempate
+         */
+        private long[] ordens;
+
+        private int tamanho;
+
+        private long vistos;
+
+        private Heap(final Comparator<? super T> comparador, final int capacidade) {
+            this.comparador = comparador;
+            this.capacidade = capacidade;
+            this.ts = new Object[Math.min(capacidade, 16)];
+            this.ordens = new long[ts.length];
+        }
+
+        @Override
+        public void aceitar(final T t) {
+            oferecer(t, vistos++);
+        }
+
+        private void oferecer(final T t, final long ordem) {
+
+            if (tamanho < capacidade) {
+
+                if (tamanho == ts.length) {
+                    final int novo = (int) Math.min(capacidade, 2L * tamanho);
+                    ts = Arrays.copyOf(ts, novo);
+                    ordens = Arrays.copyOf(ordens, novo);
+                }
+
+                ts[tamanho] = t;
+                ordens[tamanho] = ordem;
+                subir(tamanho++);
+
+            } else if (comparar(t, ordem, 0) < 0) {
+
+                ts[0] = t;
+                ordens[0] = ordem;
+                descer(0);
+
+            }
+
+        }
+
+        /**
+         * Os elementos da direita vieram depois de todos os da esquerda.
+         */
+        private Heap<T> combinar(final Heap<T> direita) {
+
+            for (int i = 0; i < direita.tamanho; i++) oferecer(direita.elemento(i), vistos + direita.ordens[i]);
+
+            vistos += direita.vistos;
+
+            return this;
+
+        }
+
+        /**
+         * Extrai o máximo para o fim repetidamente, como no heapsort, deixando o arranjo em ordem crescente.
+         */
+        @SuppressWarnings("unchecked")
+        private T[] ordenados() {
+
+            final int total = tamanho;
+
+            while (tamanho > 1) {
+                trocar(0, --tamanho);
+                descer(0);
+            }
+
+            return (T[]) (ts.length == total ? ts : Arrays.copyOf(ts, total));
+
+        }
+
+        private int comparar(final T t, final long ordem, final int posicao) {
+            final int comparacao = comparador.compare(t, elemento(posicao));
+            return comparacao != 0 ? comparacao : Long.compare(ordem, ordens[posicao]);
+        }
+
+        private void subir(final int posicao) {
+
+            int filho = posicao;
+
+            while (filho > 0) {
+
+                final int pai = (filho - 1) >>> 1;
+
+                if (comparar(elemento(filho), ordens[filho], pai) <= 0) return;
+
+                trocar(filho, pai);
+
+                filho = pai;
+
+            }
+
+        }
+
+        private void descer(final int posicao) {
+
+            int pai = posicao;
+
+            while (true) {
+
+                final int esquerdo = 2 * pai + 1;
+
+                if (esquerdo >= tamanho) return;
+
+                final int direito = esquerdo + 1;
+
+                final int maior = direito < tamanho && comparar(elemento(direito), ordens[direito], esquerdo) > 0 ? direito : esquerdo;
+
+                if (comparar(elemento(pai), ordens[pai], maior) >= 0) return;
+
+                trocar(pai, maior);
+
+                pai = maior;
+
+            }
+
+        }
+
+        private void trocar(final int a, final int b) {
+            final Object t = ts[a];
+            ts[a] = ts[b];
+            ts[b] = t;
+            final long ordem = ordens[a];
+            ordens[a] = ordens[b];
+            ordens[b] = ordem;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T elemento(final int posicao) {
+            return (T) ts[posicao];
+        }
+
+    }
+
+}
@@ -0,0 +1,21 @@
+package br.projeto.blastin.jstream;
+
+/**
+ * Destino dos elementos que atravessam um pipeline. Cada estágio intermediário encadeia o seu próprio
+ * sumidouro ao do estágio seguinte, de forma que a operação terminal percorra a fonte uma única vez.
+ *
+ * @param <T> tipo dos elementos aceitos
+ */
+@FunctionalInterface
+interface Sumidouro<T> {
+
+    void aceitar(final T t);
+
+    /**
+     * @return verdadeiro quando nenhum outro elemento é necessário e a fonte pode interromper o percurso
+     */
+    default boolean saciado() {
+        return false;
+    }
+
+}
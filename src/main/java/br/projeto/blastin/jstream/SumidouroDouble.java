@@ -0,0 +1,15 @@
+package br.projeto.blastin.jstream;
+
+/**
+ * Versão primitiva de {@link Sumidouro}, que evita o encaixotamento de cada elemento.
+ */
+@FunctionalInterface
+interface SumidouroDouble {
+
+    void aceitar(final double valor);
+
+    default boolean saciado() {
+        return false;
+    }
+
+}
@@ -0,0 +1,136 @@
+package br.projeto.blastin.jstream;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Tabela de agregação por chave. Chaves, hashes e acumuladores ficam em arranjos densos, na ordem de chegada
+ * dos grupos; o índice de endereçamento aberto guarda apenas a posição do grupo mais um, com 0 para livre. Ao
+ * crescer, só o índice é reconstruído, pois as colunas não dependem do hash.
+ */
+final class TabelaAgregacao<T, K, R> {
+
+    private static final int CAPACIDADE_INICIAL = 16;
+
+    private final JAgregador.Coluna<T, R> coluna;
+
+    private Object[] chaves;
+
+    private int[] hashes;
+
+    /**
+     * sempre com o dobro da capacidade dos arranjos densos, mantendo a carga abaixo de 1/2
+     */
+    private int[] indice;
+
+    private int grupos;
+
+    TabelaAgregacao(final JAgregador<T, R> agregador) {
+        coluna = agregador.coluna(CAPACIDADE_INICIAL);
+        chaves = new Object[CAPACIDADE_INICIAL];
+        hashes = new int[CAPACIDADE_INICIAL];
+        indice = new int[CAPACIDADE_INICIAL << 1];
+    }
+
+    void acumular(final K chave, final T t) {
+
+        Objects.requireNonNull(chave, "chave de agrupamento nula");
+
+        final int hash = ConjuntoAberto.espalhar(chave.hashCode());
+
+        final int grupo = grupo(chave, hash);
+
+        if (grupo < 0) coluna.iniciar(inserir(chave, hash, ~grupo), t);
+        else coluna.acumular(grupo, t);
+
+    }
+
+    /**
+     * Acrescenta os grupos de uma tabela parcial que vem depois na ordem de encontro; grupos novos entram no fim.
+     */
+    void combinar(final TabelaAgregacao<T, K, R> direita) {
+
+        for (int outro = 0; outro < direita.grupos; outro++) {
+
+            final Object chave = direita.chaves[outro];
+
+            final int hash = direita.hashes[outro];
+
+            final int grupo = grupo(chave, hash);
+
+            if (grupo < 0) coluna.copiar(inserir(chave, hash, ~grupo), direita.coluna, outro);
+            else coluna.combinar(grupo, direita.coluna, outro);
+
+        }
+
+    }
+
+    Map<K, R> resultado() {
+
+        final Object[] valores = new Object[grupos];
+
+        for (int grupo = 0; grupo < grupos; grupo++) valores[grupo] = coluna.resultado(grupo);
+
+        return new MapaAgrupado<>(chaves, hashes, indice, valores, grupos);
+
+    }
+
+    /**
+     * @return posição do grupo, ou o complemento da posição livre do índice onde ele deve entrar
+     */
+    private int grupo(final Object chave, final int hash) {
+
+        final int mascara = indice.length - 1;
+
+        for (int i = hash & mascara; ; i = (i + 1) & mascara) {
+
+            final int grupo = indice[i] - 1;
+
+            if (grupo < 0) return ~i;
+
+            if (hashes[grupo] == hash && chaves[grupo].equals(chave)) return grupo;
+
+        }
+
+    }
+
+    private int inserir(final Object chave, final int hash, final int livre) {
+
+        final int grupo = grupos++;
+
+        chaves[grupo] = chave;
+        hashes[grupo] = hash;
+        indice[livre] = grupo + 1;
+
+        if (grupos == chaves.length) crescer();
+
+        return grupo;
+
+    }
+
+    private void crescer() {
+
+        final int capacidade = chaves.length << 1;
+
+        chaves = Arrays.copyOf(chaves, capacidade);
+        hashes = Arrays.copyOf(hashes, capacidade);
+        coluna.crescer(capacidade);
+
+        indice = new int[capacidade << 1];
+
+        final int mascara = indice.length - 1;
+
+        for (int grupo = 0; grupo < grupos; grupo++) {
+
+            int i = hashes[grupo] & mascara;
+
+            while (indice[i] != 0) i = (i + 1) & mascara;
+
+            indice[i] = grupo + 1;
+
+        }
+
+    }
+
+}
@@ -0,0 +1,62 @@
+package br.projeto.blastin.jstream;
+
+import br.projeto.blastin.joptional.Predicado;
+
+import java.util.Comparator;
+
+final class TomarEnquanto<T> implements Fonte<T> {
+
+    private final Fonte<T> anterior;
+
+    private final Predicado<? super T> predicado;
+
+    TomarEnquanto(final Fonte<T> anterior, final Predicado<? super T> predicado) {
+        this.anterior = anterior;
+        this.predicado = predicado;
+    }
+
+    @Override
+    public void percorrer(final Sumidouro<? super T> sumidouro) {
+        anterior.percorrer(new SumidouroTomarEnquanto<>(predicado, sumidouro));
+    }
+
+    @Override
+    public int caracteristicas() {
+        return anterior.caracteristicas();
+    }
+
+    @Override
+    public Comparator<? super T> comparador() {
+        return anterior.comparador();
+    }
+
+    private static final class SumidouroTomarEnquanto<T> implements Sumidouro<T> {
+
+        private final Predicado<? super T> predicado;
+
+        private final Sumidouro<? super T> abaixo;
+
+        private boolean encerrado;
+
+        private SumidouroTomarEnquanto(final Predicado<? super T> predicado, final Sumidouro<? super T> abaixo) {
+            this.predicado = predicado;
+            this.abaixo = abaixo;
+        }
+
+        @Override
+        public void aceitar(final T t) {
+            if (!encerrado && predicado.teste(t)) {
+                abaixo.aceitar(t);
+            } else {
+                encerrado = true;
+            }
+        }
+
+        @Override
+        public boolean saciado() {
+            return encerrado || abaixo.saciado();
+        }
+
+    }
+
+}
@@ -0,0 +1,36 @@
+package br.projeto.blastin.jstream;
+
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Lista imutável sobre um trecho de arranjo, sem cópia. Só deve envolver arranjos que ninguém mais altera.
+ */
+final class VistaArranjo<T> extends AbstractList<T> implements RandomAccess {
+
+    private final Object[] ts;
+
+    private final int inicio;
+
+    private final int tamanho;
+
+    VistaArranjo(final Object[] ts, final int inicio, final int fim) {
+        this.ts = ts;
+        this.inicio = inicio;
+        this.tamanho = fim - inicio;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(final int indice) {
+        Objects.checkIndex(indice, tamanho);
+        return (T) ts[inicio + indice];
+    }
+
+    @Override
+    public int size() {
+        return tamanho;
+    }
+
+}
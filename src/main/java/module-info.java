@@ -3,5 +3,7 @@ module br.projeto.blastin.jstream {
     opens br.projeto.blastin.jstream;
 
     requires br.projeto.blastin.joptional;
+
+    requires jdk.jfr;
     
 }
\ No newline at end of file
@@ -0,0 +1,138 @@
+package br.projeto.blastin.jstream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+
+/**
+ * Regressões de alocação no caminho de streams curtas: mede bytes alocados por operação na thread corrente.
+ * O pom executa esta classe numa JVM própria com a análise de escape desligada, e então cada operação aloca
+ * exatamente os objetos que a cadeia cria, sem depender de quando o C2 compila o laço. Os limites são esses
+ * tamanhos estruturais com folga menor que um objeto: qualquer objeto a mais falha. Fora dessa JVM, a análise de
+ * escape só reduz a medição, e os limites continuam valendo.
+ */
+class AlocacaoTest {
+
+    private static final int AQUECIMENTO = 20_000;
+
+    private static final int MEDICOES = 100_000;
+
+    /**
+     * menor que o menor objeto, 16 bytes; cobre carregamento de classes durante a medição
+     */
+    private static final int FOLGA = 8;
+
+    /**
+     * a fonte unitária, três JStreams, mapeamento, filtro, os três sumidouros e o JOptional
+     */
+    private static final int CADEIA_CURTA = 224;
+
+    /**
+     * a fonte de arranjo, dois JStreams, o filtro, dois sumidouros e o JOptional
+     */
+    private static final int ARRANJO_CURTO = 168;
+
+    private static volatile Object sorvedouro;
+
+    @Test
+    void cadeiaCurtaComPrimeiroValor() {
+
+        final Integer x = 42;
+
+        final double bytes = bytesPorOperacao(() ->
+                sorvedouro = JStreams
+                        .de(x)
+                        .mapeamento(i -> i + 1)
+                        .filtro(i -> i > 0)
+                        .primeiroValor()
+        );
+
+        Assertions.assertTrue(bytes <= CADEIA_CURTA + FOLGA, "bytes por operação: " + bytes);
+
+    }
+
+    @Test
+    void streamNulaNaoAloca() {
+
+        final double bytes = bytesPorOperacao(() ->
+                sorvedouro = JStreams
+                        .nula()
+                        .mapeamento(Object::toString)
+                        .filtro(s -> !s.isEmpty())
+                        .limite(3)
+                        .primeiroValor()
+        );
+
+        Assertions.assertTrue(bytes <= FOLGA, "bytes por operação: " + bytes);
+
+    }
+
+    @Test
+    void objetoNuloNaoAloca() {
+
+        final double bytes = bytesPorOperacao(() -> sorvedouro = JStreams.de((Object) null).presente());
+
+        Assertions.assertTrue(bytes <= FOLGA, "bytes por operação: " + bytes);
+
+    }
+
+    @Test
+    void arranjoCurtoComReducao() {
+
+        final Integer[] valores = {1, 2, 3, 4, 5};
+
+        final double bytes = bytesPorOperacao(() ->
+                sorvedouro = JStreams
+                        .de(valores)
+                        .filtro(i -> i % 2 == 1)
+                        .reducao(Integer::sum)
+        );
+
+        Assertions.assertTrue(bytes <= ARRANJO_CURTO + FOLGA, "bytes por operação: " + bytes);
+
+    }
+
+    private static double bytesPorOperacao(final Runnable operacao) {
+
+        final Method alocados = medidor();
+
+        Assumptions.assumeTrue(alocados != null, "contagem de alocação indisponível nesta JVM");
+
+        for (int i = 0; i < AQUECIMENTO; i++) operacao.run();
+
+        final long id = Thread.currentThread().getId();
+
+        final long antes = invocar(alocados, id);
+
+        for (int i = 0; i < MEDICOES; i++) operacao.run();
+
+        return (double) (invocar(alocados, id) - antes) / MEDICOES;
+
+    }
+
+    /**
+     * {@code com.sun.management.ThreadMXBean} é acessado por reflexão para não exigir o módulo {@code jdk.management}.
+     */
+    private static Method medidor() {
+        try {
+            final Class<?> classe = Class.forName("com.sun.management.ThreadMXBean");
+            return classe.isInstance(ManagementFactory.getThreadMXBean())
+                    ? classe.getMethod("getThreadAllocatedBytes", long.class)
+                    : null;
+        } catch (final ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static long invocar(final Method alocados, final long id) {
+        try {
+            return (long) alocados.invoke(ManagementFactory.getThreadMXBean(), id);
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+package br.projeto.blastin.jstream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+class ArenaTest {
+
+    @Test
+    void reaproveitaArranjosDaMesmaClasse() {
+
+        final long[] emprestado = Arena.longs(3_000);
+
+        Assertions.assertEquals(4_096, emprestado.length);
+
+        Arena.devolver(emprestado);
+
+        Assertions.assertSame(emprestado, Arena.longs(2_049));
+
+        Assertions.assertNotSame(emprestado, Arena.longs(4_096));
+
+    }
+
+    @Test
+    void limpaObjetosDevolvidos() {
+
+        final Object[] emprestado = Arena.objetos(Arena.MENOR);
+
+        emprestado[0] = "a";
+        emprestado[1] = "b";
+
+        Arena.devolver(emprestado, 2);
+
+        final Object[] reaproveitado = Arena.objetos(10);
+
+        Assertions.assertSame(emprestado, reaproveitado);
+        Assertions.assertNull(reaproveitado[0]);
+        Assertions.assertNull(reaproveitado[1]);
+
+    }
+
+    @Test
+    void foraDasClassesNaoReaproveita() {
+
+        final int[] grande = Arena.ints(Arena.MAIOR + 1);
+
+        Assertions.assertEquals(Arena.MAIOR + 1, grande.length);
+
+        Arena.devolver(grande);
+
+        Assertions.assertNotSame(grande, Arena.ints(Arena.MAIOR + 1));
+
+        final int[] estrangeiro = new int[3_000];
+
+        Arena.devolver(estrangeiro);
+
+        Assertions.assertNotSame(estrangeiro, Arena.ints(3_000));
+
+    }
+
+    @Test
+    void reservaPorThread() throws Exception {
+
+        final double[] emprestado = Arena.doubles(Arena.MENOR);
+
+        Arena.devolver(emprestado);
+
+        final double[] outraThread = CompletableFuture.supplyAsync(() -> Arena.doubles(Arena.MENOR)).get();
+
+        Assertions.assertNotSame(emprestado, outraThread);
+
+        Assertions.assertSame(emprestado, Arena.doubles(Arena.MENOR));
+
+    }
+
+    @Test
+    void acumuladoresDevolvemOsArranjos() {
+
+        final int[] semente = Arena.ints(Arena.MENOR);
+
+        Arena.devolver(semente);
+
+        final int[] valores = JIntStreams.intervalo(0, 2_000).filtro(valor -> valor % 2 == 0).paraArranjo();
+
+        Assertions.assertEquals(1_000, valores.length);
+
+        final int[] acumulado = Arena.ints(Arena.MENOR);
+
+        Assertions.assertSame(semente, acumulado);
+        Assertions.assertArrayEquals(valores, Arrays.copyOf(acumulado, valores.length));
+        Assertions.assertNotSame(acumulado, valores);
+
+        Arena.devolver(acumulado);
+
+        final long soma = JIntStreams.intervalo(0, 2_000).mapeamento(valor -> 2_000 - valor).filtro(valor -> valor % 2 == 0).ordenado().soma();
+
+        Assertions.assertEquals(1_001_000, soma);
+
+        final int[] ordenado = Arena.ints(Arena.MENOR);
+
+        Assertions.assertSame(semente, ordenado);
+        Assertions.assertEquals(2, ordenado[0]);
+        Assertions.assertEquals(2_000, ordenado[999]);
+
+    }
+
+}
@@ -0,0 +1,116 @@
+package br.projeto.blastin.jstream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+class ArquivoTest {
+
+    @Test
+    void linhas() throws IOException {
+
+        final Path arquivo = arquivo("a\nbb\r\n\nccc".getBytes(StandardCharsets.UTF_8));
+
+        final List<String> linhas =
+                JStreams
+                        .deArquivo(arquivo)
+                        .mapeamento(Linha::toString)
+                        .paraColecao(Collectors.toList());
+
+        Assertions.assertEquals(List.of("a", "bb", "", "ccc"), linhas);
+
+    }
+
+    @Test
+    void linhaSemDecodificar() throws IOException {
+
+        final Linha linha = JStreams.deArquivo(arquivo("chave=valor\n".getBytes(StandardCharsets.UTF_8))).primeiroValor().obter();
+
+        Assertions.assertEquals(11, linha.length());
+        Assertions.assertEquals('=', linha.charAt(5));
+        Assertions.assertEquals("valor", linha.subSequence(6, 11).toString());
+        Assertions.assertEquals(11, linha.bytes().remaining());
+
+    }
+
+    @Test
+    void linhaNaoAscii() throws IOException {
+
+        final Linha linha = JStreams.deArquivo(arquivo("ação\n".getBytes(StandardCharsets.UTF_8))).primeiroValor().obter();
+
+        Assertions.assertEquals("ação", linha.toString());
+        Assertions.assertEquals(4, linha.length());
+        Assertions.assertEquals('ç', linha.charAt(1));
+
+    }
+
+    @Test
+    void arquivoVazio() throws IOException {
+        Assertions.assertTrue(JStreams.deArquivo(arquivo(new byte[0])).vazio());
+    }
+
+    @Test
+    void linhasEmParaleloNaoRepetemNemPerdem() throws IOException {
+
+        final StringBuilder conteudo = new StringBuilder();
+
+        for (int i = 0; i < 20_000; i++) conteudo.append(i).append('\n');
+
+        final Path arquivo = arquivo(conteudo.toString().getBytes(StandardCharsets.UTF_8));
+
+        final List<Integer> numeros =
+                JStreams
+                        .deArquivo(arquivo)
+                        .paralelo(ForkJoinPool.commonPool(), 64)
+                        .mapeamento(linha -> Integer.parseInt(linha.toString()))
+                        .paraColecao(JColetores.paraLista());
+
+        Assertions.assertEquals(20_000, numeros.size());
+
+        for (int i = 0; i < numeros.size(); i++) Assertions.assertEquals(i, numeros.get(i));
+
+    }
+
+    @Test
+    void registrosDeLarguraFixa() throws IOException {
+
+        final ByteBuffer dados = ByteBuffer.allocate(4 * 1000 + 2);
+
+        for (int i = 0; i < 1000; i++) dados.putInt(i);
+
+        final JStream<ByteBuffer> registros = JStreams.deRegistros(arquivo(dados.array()), 4);
+
+        Assertions.assertEquals(1000L, registros.paraColecao(JColetores.contagem()));
+        Assertions.assertEquals(499_500L, registros.mapeamentoParaLong(registro -> registro.getInt(0)).soma());
+        Assertions.assertEquals(998, registros.pular(998).primeiroValor().obter().getInt(0));
+        Assertions.assertEquals(
+                499_500L,
+                registros.paralelo(ForkJoinPool.commonPool(), 10).mapeamento(registro -> (long) registro.getInt(0)).reducao(Long::sum).obter());
+
+    }
+
+    @Test
+    void charsetSemQuebraDeUmByte() throws IOException {
+
+        final Path arquivo = arquivo(new byte[0]);
+
+        Assertions
+                .assertThrows(IllegalArgumentException.class, () -> JStreams.deArquivo(arquivo, StandardCharsets.UTF_16));
+
+    }
+
+    private static Path arquivo(final byte[] conteudo) throws IOException {
+        final Path arquivo = Files.createTempFile("jstream", ".txt");
+        arquivo.toFile().deleteOnExit();
+        return Files.write(arquivo, conteudo);
+    }
+
+}
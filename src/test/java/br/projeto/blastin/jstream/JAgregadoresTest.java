@@ -0,0 +1,167 @@
+package br.projeto.blastin.jstream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+class JAgregadoresTest {
+
+    private static final String[] PALAVRAS = {"ana", "bia", "caio", "ana", "duda", "bia", "ana", "eva"};
+
+    @Test
+    void contagemNaOrdemDeChegada() {
+
+        final Map<String, Long> contagem = JStreams.de(PALAVRAS).agruparPor(palavra -> palavra, JAgregadores.contagem());
+
+        Assertions.assertEquals(Map.of("ana", 3L, "bia", 2L, "caio", 1L, "duda", 1L, "eva", 1L), contagem);
+        Assertions.assertEquals(List.of("ana", "bia", "caio", "duda", "eva"), new ArrayList<>(contagem.keySet()));
+        Assertions.assertNull(contagem.get("zeca"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> contagem.put("zeca", 1L));
+
+    }
+
+    @Test
+    void somaMinimoMaximoPorTamanho() {
+
+        final Map<Integer, Long> soma = JStreams.de(PALAVRAS).agruparPor(String::length, JAgregadores.soma(palavra -> palavra.charAt(0)));
+        final Map<Integer, Long> minimo = JStreams.de(PALAVRAS).agruparPor(String::length, JAgregadores.minimo(palavra -> palavra.charAt(0)));
+        final Map<Integer, Long> maximo = JStreams.de(PALAVRAS).agruparPor(String::length, JAgregadores.maximo(palavra -> palavra.charAt(0)));
+        final Map<Integer, Double> somaDouble = JStreams.de(PALAVRAS).agruparPor(String::length, JAgregadores.somaDouble(palavra -> 0.5));
+
+        Assertions.assertEquals(Map.of(3, 3L * 'a' + 2L * 'b' + 'e', 4, (long) 'c' + 'd'), soma);
+        Assertions.assertEquals(Map.of(3, (long) 'a', 4, (long) 'c'), minimo);
+        Assertions.assertEquals(Map.of(3, (long) 'e', 4, (long) 'd'), maximo);
+        Assertions.assertEquals(Map.of(3, 3.0, 4, 1.0), somaDouble);
+
+    }
+
+    @Test
+    void reducaoNaOrdemDeEncontro() {
+
+        final Map<Character, String> concatenado = JStreams
+                .de(PALAVRAS)
+                .agruparPor(palavra -> palavra.charAt(0), JAgregadores.reducao((a, b) -> a + "," + b));
+
+        Assertions.assertEquals("ana,ana,ana", concatenado.get('a'));
+        Assertions.assertEquals("bia,bia", concatenado.get('b'));
+
+    }
+
+    @Test
+    void muitosGruposEmParalelo() {
+
+        final Integer[] numeros = new Integer[200_000];
+
+        for (int i = 0; i < numeros.length; i++) numeros[i] = i;
+
+        final Map<Integer, Long> paralelo = JStreams
+                .de(numeros)
+                .paralelo()
+                .agruparPor(i -> i % 50_000, JAgregadores.soma(i -> i));
+
+        final Map<Integer, Long> esperado = Arrays
+                .stream(numeros)
+                .collect(Collectors.groupingBy(i -> i % 50_000, Collectors.summingLong(i -> i)));
+
+        Assertions.assertEquals(esperado, paralelo);
+
+        final List<Integer> ordem = new ArrayList<>(paralelo.keySet());
+
+        Assertions.assertEquals(JStreams.de(numeros).limite(50_000).paraColecao(Collectors.toList()), ordem);
+
+    }
+
+    @Test
+    void variosAgregadoresNumaPassada() {
+
+        final int[] passagens = {0};
+
+        final JAgregados.Quatro<Long, Long, String, JEstatisticasLong> agregados = JStreams
+                .de(PALAVRAS)
+                .mapeamento(palavra -> {
+                    passagens[0]++;
+                    return palavra;
+                })
+                .agregar(
+                        JAgregadores.contagem(),
+                        JAgregadores.maximo(String::length),
+                        JAgregadores.reducao("", String::concat),
+                        JAgregadores.estatisticas(String::length));
+
+        Assertions.assertEquals(PALAVRAS.length, passagens[0]);
+        Assertions.assertEquals(8L, agregados.primeiro());
+        Assertions.assertEquals(4L, agregados.segundo());
+        Assertions.assertEquals(String.join("", PALAVRAS), agregados.terceiro());
+        Assertions.assertEquals(26L, agregados.quarto().soma());
+        Assertions.assertEquals(3L, agregados.quarto().minimo().obter());
+        Assertions.assertEquals(3.25, agregados.quarto().media().obter());
+
+    }
+
+    @Test
+    void agregarEmParalelo() {
+
+        final Integer[] numeros = new Integer[200_000];
+
+        for (int i = 0; i < numeros.length; i++) numeros[i] = i;
+
+        final JAgregados.Tres<Long, Long, Integer> agregados = JStreams
+                .de(numeros)
+                .paralelo()
+                .agregar(JAgregadores.soma(i -> i), JAgregadores.minimo(i -> -i), JAgregadores.reducao(0, Math::max));
+
+        Assertions.assertEquals(199_999L * 200_000L / 2, agregados.primeiro());
+        Assertions.assertEquals(-199_999L, agregados.segundo());
+        Assertions.assertEquals(199_999, agregados.terceiro());
+
+    }
+
+    @Test
+    void agregarSemElementos() {
+
+        final JAgregados.Quatro<Long, Long, String, JEstatisticasDouble> vazios = JStreams
+                .<String>nula()
+                .agregar(
+                        JAgregadores.contagem(),
+                        JAgregadores.minimo(String::length),
+                        JAgregadores.reducao("-", String::concat),
+                        JAgregadores.estatisticasDouble(String::length));
+
+        Assertions.assertEquals(0L, vazios.primeiro());
+        Assertions.assertNull(vazios.segundo());
+        Assertions.assertEquals("-", vazios.terceiro());
+        Assertions.assertEquals(0L, vazios.quarto().quantidade());
+        Assertions.assertTrue(vazios.quarto().media().vazio());
+
+        final JAgregados.Dois<Long, String> filtrados = JStreams.de(PALAVRAS).filtro(palavra -> false)
+                .agregar(JAgregadores.soma(String::length), JAgregadores.reducao(String::concat));
+
+        Assertions.assertEquals(0L, filtrados.primeiro());
+        Assertions.assertNull(filtrados.segundo());
+
+    }
+
+    @Test
+    void estatisticasPorGrupo() {
+
+        final Map<Integer, JEstatisticasLong> estatisticas = JStreams.de(PALAVRAS)
+                .agruparPor(String::length, JAgregadores.estatisticas(palavra -> palavra.charAt(0)));
+
+        Assertions.assertEquals(6L, estatisticas.get(3).quantidade());
+        Assertions.assertEquals((long) 'e', estatisticas.get(3).maximo().obter());
+        Assertions.assertEquals((long) 'c', estatisticas.get(4).minimo().obter());
+
+    }
+
+    @Test
+    void chaveNula() {
+        Assertions.assertThrows(NullPointerException.class, () -> JStreams.de(PALAVRAS).agruparPor(palavra -> null, JAgregadores.contagem()));
+        Assertions.assertTrue(JStreams.<String>nula().agruparPor(palavra -> palavra, JAgregadores.contagem()).isEmpty());
+    }
+
+}
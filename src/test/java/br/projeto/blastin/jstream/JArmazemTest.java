@@ -0,0 +1,152 @@
+package br.projeto.blastin.jstream;
+
+import br.projeto.blastin.joptional.Predicado;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+class JArmazemTest {
+
+    private static final int QUANTIDADE = 200_000;
+
+    private static final class Ponto {
+
+        private final long id;
+
+        private final int categoria;
+
+        private final double valor;
+
+        private Ponto(final long id, final int categoria, final double valor) {
+            this.id = id;
+            this.categoria = categoria;
+            this.valor = valor;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof Ponto)) return false;
+            final Ponto ponto = (Ponto) o;
+            return id == ponto.id && categoria == ponto.categoria && valor == ponto.valor;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, categoria, valor);
+        }
+
+    }
+
+    private static final JCodec<Ponto> CODEC = new JCodec<>() {
+
+        @Override
+        public int tamanho() {
+            return 20;
+        }
+
+        @Override
+        public void codificar(final Ponto ponto, final ByteBuffer destino, final int posicao) {
+            destino.putLong(posicao, ponto.id);
+            destino.putInt(posicao + 8, ponto.categoria);
+            destino.putDouble(posicao + 12, ponto.valor);
+        }
+
+        @Override
+        public Ponto decodificar(final ByteBuffer origem, final int posicao) {
+            return new Ponto(origem.getLong(posicao), origem.getInt(posicao + 8), origem.getDouble(posicao + 12));
+        }
+
+    };
+
+    private static Ponto ponto(final long id) {
+        return new Ponto(id, (int) (id % 7), id / 2.0);
+    }
+
+    private static JArmazem<Ponto> armazem() {
+        return JArmazem.de(CODEC, JStreams.iterar(0L, id -> id + 1).limite(QUANTIDADE).mapeamento(JArmazemTest::ponto));
+    }
+
+    @Test
+    void decodificaNaOrdemDeEncontro() {
+
+        final JArmazem<Ponto> armazem = armazem();
+
+        Assertions.assertEquals(QUANTIDADE, armazem.tamanho());
+
+        final List<Ponto> ultimos = armazem.stream().pular(QUANTIDADE - 3).paraColecao(Collectors.toList());
+
+        Assertions.assertEquals(List.of(ponto(QUANTIDADE - 3), ponto(QUANTIDADE - 2), ponto(QUANTIDADE - 1)), ultimos);
+
+    }
+
+    @Test
+    void filtroEMapeamentoSobreCamposSemDecodificar() {
+
+        final JArmazem<Ponto> armazem = armazem();
+
+        final double soma =
+                armazem
+                        .registros()
+                        .filtro(registro -> registro.lerInt(8) == 3)
+                        .mapeamentoParaDouble(registro -> registro.lerDouble(12))
+                        .soma();
+
+        double esperado = 0;
+
+        for (long id = 0; id < QUANTIDADE; id++) if (id % 7 == 3) esperado += id / 2.0;
+
+        Assertions.assertEquals(esperado, soma);
+
+        Assertions.assertEquals(ponto(10), armazem.registros().pular(10).primeiroValor().obter().decodificar());
+
+    }
+
+    @Test
+    void codificaEmParalelo() {
+
+        final List<Ponto> pontos = armazem().stream().paraColecao(Collectors.toList());
+
+        final JArmazem<Ponto> armazem = JArmazem.de(CODEC, JStreams.deLista(pontos).paralelo());
+
+        Assertions.assertEquals(QUANTIDADE, armazem.tamanho());
+        Assertions.assertEquals(pontos, armazem.stream().paraColecao(Collectors.toList()));
+
+        final Predicado<Ponto> esparsos = ponto -> ponto.id % 3 == 0 && ponto.id >= QUANTIDADE / 2;
+
+        final JArmazem<Ponto> filtrado = JArmazem.de(CODEC, JStreams.deLista(pontos).paralelo().filtro(esparsos));
+
+        Assertions.assertEquals(JStreams.deLista(pontos).filtro(esparsos).paraColecao(Collectors.toList()), filtrado.stream().paraColecao(Collectors.toList()));
+
+    }
+
+    @Test
+    void camposPrimitivos() {
+
+        final JArmazem<Ponto> armazem = armazem();
+
+        Assertions.assertEquals((long) QUANTIDADE * (QUANTIDADE - 1) / 2, armazem.campoLong(0).soma());
+        Assertions.assertEquals(6, armazem.campoInt(8).maximo().obter());
+        Assertions.assertEquals(0.5, armazem.campoDouble(12).filtro(valor -> valor > 0).minimo().obter());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> armazem.campoLong(16));
+
+    }
+
+    @Test
+    void registrosEmParalelo() {
+
+        final long quantidade =
+                armazem()
+                        .registros()
+                        .paralelo()
+                        .filtro(registro -> registro.lerLong(0) % 2 == 0)
+                        .paraColecao(JColetores.contagem());
+
+        Assertions.assertEquals(QUANTIDADE / 2, quantidade);
+
+    }
+
+}
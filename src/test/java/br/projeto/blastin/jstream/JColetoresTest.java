@@ -0,0 +1,164 @@
+package br.projeto.blastin.jstream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+class JColetoresTest {
+
+    @Test
+    void paraLista() {
+
+        final List<String> valores =
+                JStreams
+                        .de(1, 2, 3, 4)
+                        .filtro(integer -> integer % 2 == 0)
+                        .mapeamento(String::valueOf)
+                        .paraColecao(JColetores.paraLista());
+
+        Assertions.assertEquals(List.of("2", "4"), valores);
+
+    }
+
+    @Test
+    void listaImutavel() {
+
+        final List<Integer> valores = JStreams.de(1, 2).mapeamento(integer -> integer).paraColecao(JColetores.paraLista());
+
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> valores.add(3));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> valores.get(2));
+
+    }
+
+    @Test
+    void listaDeArranjoAlheioNaoCompartilhaArranjo() {
+
+        final Integer[] valores = {1, 2, 3};
+
+        final List<Integer> lista = JStreams.de(valores).paraColecao(JColetores.paraLista());
+
+        valores[0] = 10;
+
+        Assertions.assertEquals(List.of(1, 2, 3), lista);
+
+    }
+
+    @Test
+    void listaDeColecaoComLimiteEPulo() {
+
+        final List<Integer> origem = new ArrayList<>(List.of(1, 2, 3, 4, 5));
+
+        final List<Integer> lista = JStreams.de(origem).pular(1).limite(3).paraColecao(JColetores.paraLista());
+
+        origem.set(1, 20);
+
+        Assertions.assertEquals(List.of(2, 3, 4), lista);
+
+    }
+
+    @Test
+    void paraConjunto() {
+
+        final Set<Integer> valores = JStreams.de(1, 1, 2, 2, 3).paraColecao(JColetores.paraConjunto());
+
+        Assertions.assertEquals(Set.of(1, 2, 3), valores);
+
+    }
+
+    @Test
+    void paraMapa() {
+
+        final Map<Integer, String> valores =
+                JStreams
+                        .de("a", "bb", "ccc")
+                        .paraColecao(JColetores.paraMapa(String::length, s -> s));
+
+        Assertions.assertEquals(Map.of(1, "a", 2, "bb", 3, "ccc"), valores);
+
+    }
+
+    @Test
+    void paraMapaComChaveDuplicada() {
+
+        Assertions
+                .assertThrows(
+                        IllegalStateException.class,
+                        () -> JStreams.de("a", "b").paraColecao(JColetores.paraMapa(String::length, s -> s)));
+
+        final Map<Integer, String> mesclado =
+                JStreams
+                        .de("a", "b")
+                        .paraColecao(JColetores.paraMapa(String::length, s -> s, String::concat));
+
+        Assertions.assertEquals(Map.of(1, "ab"), mesclado);
+
+    }
+
+    @Test
+    void juncao() {
+
+        final String juncao =
+                JStreams
+                        .de(1, 2, 3)
+                        .mapeamento(String::valueOf)
+                        .paraColecao(JColetores.juncao(", ", "[", "]"));
+
+        Assertions.assertEquals("[1, 2, 3]", juncao);
+        Assertions.assertEquals("", JStreams.<String>nula().paraColecao(JColetores.juncao()));
+
+    }
+
+    @Test
+    void contagem() {
+        Assertions.assertEquals(2L, JStreams.de(1, 2, 3).filtro(integer -> integer > 1).paraColecao(JColetores.contagem()));
+    }
+
+    @Test
+    void agrupamento() {
+
+        final Map<Boolean, List<Integer>> grupos =
+                JStreams
+                        .de(1, 2, 3, 4, 5)
+                        .paraColecao(JColetores.agrupamento(integer -> integer % 2 == 0));
+
+        Assertions.assertEquals(Map.of(true, List.of(2, 4), false, List.of(1, 3, 5)), grupos);
+
+        final Map<Integer, Long> contagens =
+                JStreams
+                        .de("a", "b", "cc")
+                        .paraColecao(JColetores.agrupamento(String::length, JColetores.contagem()));
+
+        Assertions.assertEquals(Map.of(1, 2L, 2, 1L), contagens);
+
+    }
+
+    @Test
+    void coletoresParalelosPreservamOrdem() {
+
+        final Integer[] valores = new Integer[20_000];
+
+        for (int i = 0; i < valores.length; i++) valores[i] = i;
+
+        final JStream<Integer> jStream =
+                JStreams
+                        .de(valores)
+                        .paralelo(ForkJoinPool.commonPool(), 100)
+                        .filtro(integer -> integer % 7 == 0);
+
+        final List<Integer> lista = jStream.paraColecao(JColetores.paraLista());
+
+        Assertions.assertEquals(2858, lista.size());
+
+        for (int i = 0; i < lista.size(); i++) Assertions.assertEquals(i * 7, lista.get(i));
+
+        Assertions.assertEquals(2858L, jStream.paraColecao(JColetores.contagem()));
+        Assertions.assertEquals(1000, jStream.paraColecao(JColetores.agrupamento(integer -> integer % 1000)).size());
+
+    }
+
+}
@@ -0,0 +1,103 @@
+package br.projeto.blastin.jstream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+class JDoubleStreamTest {
+
+    @Test
+    void somaEMedia() {
+
+        final JDoubleStream jDoubleStream = JDoubleStreams.de(1.5, 2.5, 3.5);
+
+        Assertions.assertEquals(7.5, jDoubleStream.soma());
+        Assertions.assertEquals(2.5, jDoubleStream.media().obter());
+
+    }
+
+    @Test
+    void filtrandoEMapeando() {
+
+        final double[] valores =
+                JDoubleStreams
+                        .de(1.0, 4.0, 9.0, 16.0)
+                        .filtro(valor -> valor > 2)
+                        .mapeamento(Math::sqrt)
+                        .paraArranjo();
+
+        Assertions.assertArrayEquals(new double[]{2.0, 3.0, 4.0}, valores);
+
+    }
+
+    @Test
+    void deObjetoParaDouble() {
+
+        final double minimo =
+                JStreams
+                        .de(3, 1, 2)
+                        .mapeamentoParaDouble(Integer::doubleValue)
+                        .minimo()
+                        .obter();
+
+        Assertions.assertEquals(1.0, minimo);
+
+    }
+
+    @Test
+    void distintosSegueDoubleEquals() {
+        Assertions.assertArrayEquals(new double[]{0.0, -0.0, Double.NaN, 1.5}, JDoubleStreams.de(0.0, -0.0, Double.NaN, 1.5, Double.NaN, 0.0).distintos().paraArranjo());
+    }
+
+    @Test
+    void ordenadoSegueDoubleCompare() {
+
+        final double[] valores = new double[5_000];
+
+        for (int i = 0; i < valores.length; i++) valores[i] = (i * 7_919 % 5_003) / 3.0 - 800;
+
+        valores[10] = Double.NaN;
+        valores[20] = -0.0;
+        valores[30] = 0.0;
+        valores[40] = Double.NEGATIVE_INFINITY;
+
+        final double[] esperado = valores.clone();
+
+        Arrays.sort(esperado);
+
+        Assertions.assertArrayEquals(esperado, JDoubleStreams.de(valores).ordenado().paraArranjo());
+
+        Assertions.assertArrayEquals(new double[]{-0.0, 0.0, Double.NaN}, JDoubleStreams.de(Double.NaN, 0.0, -0.0).ordenado().paraArranjo());
+
+    }
+
+    @Test
+    void janelasComValoresNaoFinitos() {
+
+        final JJanelasDouble janelas = JDoubleStreams.de(1, Double.POSITIVE_INFINITY, 2, Double.NaN, 3, 4, -0.0, 0.0).janelaDeslizante(2, 1);
+
+        Assertions.assertArrayEquals(new double[]{Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.NaN, Double.NaN, 7, 4, 0.0}, janelas.soma().paraArranjo());
+
+        Assertions.assertArrayEquals(new double[]{1, 2, Double.NaN, Double.NaN, 3, -0.0, -0.0}, janelas.minimo().paraArranjo());
+
+        Assertions.assertArrayEquals(new double[]{Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.NaN, Double.NaN, 4, 4, 0.0}, janelas.maximo().paraArranjo());
+
+        Assertions.assertArrayEquals(new double[]{1.5, 3.5}, JDoubleStreams.de(1, 2, 3, 4).janelaFixa(2).media().paraArranjo());
+
+    }
+
+    @Test
+    void estatisticas() {
+
+        final JEstatisticasDouble estatisticas = JDoubleStreams.de(1.5, -0.5, 2.0).estatisticas();
+
+        Assertions.assertEquals(3, estatisticas.quantidade());
+        Assertions.assertEquals(3.0, estatisticas.soma());
+        Assertions.assertEquals(-0.5, estatisticas.minimo().obter());
+        Assertions.assertEquals(2.0, estatisticas.maximo().obter());
+        Assertions.assertEquals(1.0, estatisticas.media().obter());
+
+    }
+
+}
@@ -0,0 +1,209 @@
+package br.projeto.blastin.jstream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+class JIntStreamTest {
+
+    @Test
+    void somandoValores() {
+        Assertions.assertEquals(55, JIntStreams.intervalo(1, 11).soma());
+    }
+
+    @Test
+    void somaSemEstouro() {
+        Assertions.assertEquals(2L * Integer.MAX_VALUE, JIntStreams.de(Integer.MAX_VALUE, Integer.MAX_VALUE).soma());
+    }
+
+    @Test
+    void filtrandoEMapeando() {
+
+        final int[] valores =
+                JIntStreams
+                        .intervalo(0, 10)
+                        .filtro(valor -> valor % 2 == 0)
+                        .mapeamento(valor -> valor * valor)
+                        .paraArranjo();
+
+        Assertions.assertArrayEquals(new int[]{0, 4, 16, 36, 64}, valores);
+
+    }
+
+    @Test
+    void minimoMaximoMedia() {
+
+        final JIntStream jIntStream = JIntStreams.de(4, -2, 9, 1);
+
+        Assertions.assertEquals(-2, jIntStream.minimo().obter());
+        Assertions.assertEquals(9, jIntStream.maximo().obter());
+        Assertions.assertEquals(3.0, jIntStream.media().obter());
+        Assertions.assertEquals(4, jIntStream.quantidade());
+
+    }
+
+    @Test
+    void estatisticasDeStreamVazia() {
+
+        final JIntStream jIntStream = JIntStreams.de();
+
+        Assertions.assertTrue(jIntStream.minimo().vazio());
+        Assertions.assertTrue(jIntStream.maximo().vazio());
+        Assertions.assertTrue(jIntStream.media().vazio());
+        Assertions.assertTrue(jIntStream.primeiroValor().vazio());
+        Assertions.assertEquals(0, jIntStream.soma());
+        Assertions.assertTrue(jIntStream.vazio());
+
+    }
+
+    @Test
+    void reducaoComIdentidade() {
+        Assertions.assertEquals(120, JIntStreams.intervalo(1, 6).reducao(1, (a, b) -> a * b));
+        Assertions.assertEquals(1, JIntStreams.de().reducao(1, (a, b) -> a * b));
+    }
+
+    @Test
+    void intervaloComLimiteEPulo() {
+
+        Assertions
+                .assertArrayEquals(
+                        new int[]{3, 4, 5},
+                        JIntStreams.intervalo(0, Integer.MAX_VALUE).pular(3).limite(3).paraArranjo());
+
+    }
+
+    @Test
+    void intervaloInvertidoVazio() {
+        Assertions.assertTrue(JIntStreams.intervalo(5, 1).vazio());
+    }
+
+    @Test
+    void combinacoes() {
+
+        final JIntStream jIntStream = JIntStreams.de(1, 3, 5, 6);
+
+        Assertions.assertTrue(jIntStream.peloMenosUmCombina(valor -> valor % 2 == 0));
+        Assertions.assertFalse(jIntStream.todosCombinam(valor -> valor % 2 == 1));
+        Assertions.assertFalse(JIntStreams.de().todosCombinam(valor -> true));
+
+    }
+
+    @Test
+    void deObjetoParaInt() {
+
+        final long soma =
+                JStreams
+                        .de("a", "bb", "ccc")
+                        .mapeamentoParaInt(String::length)
+                        .soma();
+
+        Assertions.assertEquals(6, soma);
+
+    }
+
+    @Test
+    void deIntParaObjeto() {
+
+        final List<String> valores =
+                JIntStreams
+                        .intervalo(1, 4)
+                        .mapeamentoParaObjeto(String::valueOf)
+                        .paraColecao(Collectors.toList());
+
+        Assertions.assertEquals(List.of("1", "2", "3"), valores);
+        Assertions.assertEquals(List.of(1, 2), JIntStreams.de(1, 2).emCaixa().paraColecao(Collectors.toList()));
+
+    }
+
+    @Test
+    void conversoes() {
+        Assertions.assertEquals(6_000_000_000L, JIntStreams.de(2, 2, 2).paraLong().mapeamento(v -> v * 1_000_000_000L).soma());
+        Assertions.assertEquals(1.5, JIntStreams.de(1, 2).paraDouble().media().obter());
+    }
+
+    @Test
+    void tomarEDescartarEnquanto() {
+        Assertions.assertArrayEquals(new int[]{1, 2}, JIntStreams.de(1, 2, 5, 1).tomarEnquanto(v -> v < 3).paraArranjo());
+        Assertions.assertArrayEquals(new int[]{5, 1}, JIntStreams.de(1, 2, 5, 1).descartarEnquanto(v -> v < 3).paraArranjo());
+    }
+
+    @Test
+    void operacaoNula() {
+        Assertions.assertThrows(NullPointerException.class, () -> JIntStreams.de(1).filtro(null));
+        Assertions.assertThrows(NullPointerException.class, () -> JStreams.de(1).mapeamentoParaInt(null));
+    }
+
+    @Test
+    void distintos() {
+
+        Assertions.assertArrayEquals(new int[]{3, 0, 1, -7}, JIntStreams.de(3, 0, 3, 1, 0, -7, 1).distintos().paraArranjo());
+
+        Assertions.assertEquals(1000, JIntStreams.intervalo(0, 100_000).mapeamento(valor -> valor % 1000).distintos().quantidade());
+
+    }
+
+    @Test
+    void ordenadoPorRadix() {
+
+        Assertions.assertArrayEquals(new int[]{-7, 0, 3, 3}, JIntStreams.de(3, 0, -7, 3).ordenado().paraArranjo());
+
+        final int[] valores = JIntStreams.intervalo(0, 10_000).mapeamento(valor -> valor * 7_919 % 10_007 - 5_000).paraArranjo();
+
+        final int[] esperado = valores.clone();
+
+        Arrays.sort(esperado);
+
+        Assertions.assertArrayEquals(esperado, JIntStreams.de(valores).ordenado().paraArranjo());
+
+    }
+
+    @Test
+    void janelasIncrementaisConferemComForcaBruta() {
+
+        final int[] valores = JIntStreams.intervalo(0, 2_000).mapeamento(valor -> valor * 7_919 % 1_009 - 500).paraArranjo();
+
+        for (final int[] janela : new int[][]{{1, 1}, {5, 1}, {64, 7}, {3, 10}, {50, 50}}) {
+
+            final int tamanho = janela[0];
+            final int passo = janela[1];
+            final int quantidade = (valores.length - tamanho) / passo + 1;
+
+            final long[] somas = new long[quantidade];
+            final long[] minimos = new long[quantidade];
+            final long[] maximos = new long[quantidade];
+
+            for (int j = 0; j < quantidade; j++) {
+                final int[] trecho = Arrays.copyOfRange(valores, j * passo, j * passo + tamanho);
+                somas[j] = Arrays.stream(trecho).asLongStream().sum();
+                minimos[j] = Arrays.stream(trecho).min().getAsInt();
+                maximos[j] = Arrays.stream(trecho).max().getAsInt();
+            }
+
+            final JJanelasLong janelas = JIntStreams.de(valores).janelaDeslizante(tamanho, passo);
+
+            Assertions.assertArrayEquals(somas, janelas.soma().paraArranjo());
+            Assertions.assertArrayEquals(minimos, janelas.minimo().paraArranjo());
+            Assertions.assertArrayEquals(maximos, janelas.maximo().paraArranjo());
+            Assertions.assertEquals(quantidade, janelas.media().quantidade());
+
+        }
+
+        Assertions.assertArrayEquals(new double[]{2, 5}, JIntStreams.de(1, 2, 3, 4, 5, 6, 7).janelaFixa(3).media().paraArranjo());
+
+    }
+
+    @Test
+    void estatisticasAlargadas() {
+
+        final JEstatisticasLong estatisticas = JIntStreams.de(Integer.MAX_VALUE, Integer.MAX_VALUE, 1).estatisticas();
+
+        Assertions.assertEquals(2L * Integer.MAX_VALUE + 1, estatisticas.soma());
+        Assertions.assertEquals(1L, estatisticas.minimo().obter());
+        Assertions.assertEquals((long) Integer.MAX_VALUE, estatisticas.maximo().obter());
+
+    }
+
+}
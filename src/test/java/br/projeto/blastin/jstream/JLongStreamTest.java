@@ -0,0 +1,67 @@
+package br.projeto.blastin.jstream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class JLongStreamTest {
+
+    @Test
+    void somandoIntervalo() {
+        Assertions.assertEquals(500_000_500_000L, JLongStreams.intervalo(1, 1_000_001).soma());
+    }
+
+    @Test
+    void intervaloExtremoComLimite() {
+
+        Assertions
+                .assertArrayEquals(
+                        new long[]{Long.MIN_VALUE, Long.MIN_VALUE + 1},
+                        JLongStreams.intervalo(Long.MIN_VALUE, Long.MAX_VALUE).limite(2).paraArranjo());
+
+    }
+
+    @Test
+    void deObjetoParaLong() {
+
+        final long maximo =
+                JStreams
+                        .de("10", "30", "20")
+                        .mapeamentoParaLong(Long::parseLong)
+                        .maximo()
+                        .obter();
+
+        Assertions.assertEquals(30L, maximo);
+
+    }
+
+    @Test
+    void media() {
+        Assertions.assertEquals(2.5, JLongStreams.de(1, 2, 3, 4).media().obter());
+    }
+
+    @Test
+    void distintos() {
+        Assertions.assertArrayEquals(new long[]{Long.MAX_VALUE, 0, 1L << 32, 1}, JLongStreams.de(Long.MAX_VALUE, 0, 1L << 32, 1, 1L << 32, 0).distintos().paraArranjo());
+    }
+
+    @Test
+    void ordenado() {
+        Assertions.assertArrayEquals(new long[]{Long.MIN_VALUE, -1, 0, 1L << 32, Long.MAX_VALUE}, JLongStreams.de(1L << 32, Long.MAX_VALUE, -1, Long.MIN_VALUE, 0).ordenado().paraArranjo());
+    }
+
+    @Test
+    void estatisticas() {
+
+        final JEstatisticasLong estatisticas = JLongStreams.de(4, -2, 7, 3).estatisticas();
+
+        Assertions.assertEquals(4, estatisticas.quantidade());
+        Assertions.assertEquals(12, estatisticas.soma());
+        Assertions.assertEquals(-2L, estatisticas.minimo().obter());
+        Assertions.assertEquals(7L, estatisticas.maximo().obter());
+        Assertions.assertEquals(3.0, estatisticas.media().obter());
+
+        Assertions.assertTrue(JLongStreams.de(1).filtro(valor -> false).estatisticas().maximo().vazio());
+
+    }
+
+}
@@ -0,0 +1,154 @@
+package br.projeto.blastin.jstream;
+
+import br.projeto.blastin.joptional.Funcao;
+import br.projeto.blastin.joptional.Predicado;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+class JPipelineTest {
+
+    private static final JPipeline<String, Integer> COMPRIMENTOS_PARES =
+            JPipeline
+                    .<String>novo()
+                    .filtro(s -> !s.isEmpty())
+                    .mapeamento(String::length)
+                    .mapeamento(comprimento -> comprimento % 2 == 0 ? comprimento : null)
+                    .filtro(comprimento -> comprimento < 10);
+
+    @Test
+    void aplicaSobreArranjoColecaoEStream() {
+
+        final String[] dados = {"", "ab", "abc", "abcd", "abcdefghijkl"};
+
+        Assertions.assertEquals(Arrays.asList(2, 4), COMPRIMENTOS_PARES.aplicar(dados).paraColecao(Collectors.toList()));
+
+        Assertions.assertEquals(Arrays.asList(2, 4), COMPRIMENTOS_PARES.aplicar(Arrays.asList(dados)).paraColecao(Collectors.toList()));
+
+        Assertions.assertEquals(6, COMPRIMENTOS_PARES.aplicar(JStreams.de(dados).limite(4)).reducao(Integer::sum).obter());
+
+        Assertions.assertTrue(COMPRIMENTOS_PARES.aplicar(new String[0]).vazio());
+
+        Assertions.assertEquals(Arrays.asList(dados), JPipeline.<String>novo().aplicar(dados).paraColecao(Collectors.toList()));
+
+    }
+
+    @Test
+    void pipelinesSaoImutaveis() {
+
+        final JPipeline<Integer, Integer> base = JPipeline.<Integer>novo().mapeamento(integer -> integer * 10);
+
+        final JPipeline<Integer, Integer> filtrado = base.filtro(integer -> integer > 10);
+
+        Assertions.assertEquals(Arrays.asList(10, 20), base.aplicar(new Integer[]{1, 2}).paraColecao(Collectors.toList()));
+
+        Assertions.assertEquals(Arrays.asList(20), filtrado.aplicar(new Integer[]{1, 2}).paraColecao(Collectors.toList()));
+
+    }
+
+    @Test
+    void aplicacaoConcorrenteEParalela() throws Exception {
+
+        final JPipeline<Integer, Long> quadradosPares =
+                JPipeline.<Integer>novo().filtro(integer -> integer % 2 == 0).mapeamento(integer -> (long) integer * integer);
+
+        final Integer[] numeros = new Integer[10_000];
+
+        for (int i = 0; i < numeros.length; i++) numeros[i] = i;
+
+        final long esperado = Arrays.stream(numeros).filter(integer -> integer % 2 == 0).mapToLong(integer -> (long) integer * integer).sum();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+
+            final List<Future<Long>> resultados = new ArrayList<>();
+
+            for (int i = 0; i < 16; i++) resultados.add(executor.submit(() -> quadradosPares.aplicar(numeros).reducao(Long::sum).obter()));
+
+            for (final Future<Long> resultado : resultados) Assertions.assertEquals(esperado, resultado.get());
+
+        } finally {
+            executor.shutdown();
+        }
+
+        Assertions.assertEquals(esperado, quadradosPares.aplicar(JStreams.de(numeros).paralelo()).reducao(Long::sum).obter());
+
+    }
+
+    @Test
+    void especializadoProduzOMesmoResultado() {
+
+        final Integer[] numeros = new Integer[1_000];
+
+        for (int i = 0; i < numeros.length; i++) numeros[i] = i;
+
+        for (int deslocamento = 0; deslocamento < 4; deslocamento++) {
+
+            final int d = deslocamento;
+
+            final JPipeline<Integer, String> pipeline =
+                    JPipeline
+                            .<Integer>novo()
+                            .mapeamento(integer -> integer + d)
+                            .filtro(integer -> integer % 3 != 0)
+                            .mapeamento(integer -> integer % 7 == 0 ? null : integer)
+                            .mapeamento(String::valueOf);
+
+            final List<String> esperado = pipeline.aplicar(numeros).paraColecao(Collectors.toList());
+
+            final JPipeline<Integer, String> especializado = pipeline.especializado();
+
+            Assertions.assertEquals(esperado, especializado.aplicar(numeros).paraColecao(Collectors.toList()));
+            Assertions.assertEquals(esperado.size(), especializado.aplicar(numeros).paraColecao(JColetores.contagem()));
+            Assertions.assertEquals(esperado, especializado.aplicar(JStreams.de(numeros).paralelo()).paraColecao(Collectors.toList()));
+            Assertions.assertEquals(esperado.get(0), especializado.aplicar(numeros).primeiroValor().obter());
+
+        }
+
+    }
+
+    @Test
+    void elosEspecializadosSaoClassesOcultasPorPipeline() {
+
+        Assumptions.assumeTrue(Especializacao.disponivel());
+
+        final List<Object> recebidos = new ArrayList<>();
+
+        final Sumidouro<Object> terminal = recebidos::add;
+
+        final Funcao<Object, Object> dobro = o -> (Integer) o * 2;
+
+        final Predicado<Object> par = o -> (Integer) o % 4 == 0;
+
+        final Object[] operacoes = {dobro, par};
+
+        final boolean[] filtros = {false, true};
+
+        final MethodHandle[] construtores = Especializacao.resolver(filtros);
+
+        final Sumidouro<Object> elo = Especializacao.encadear(construtores, operacoes, terminal);
+
+        final Sumidouro<Object> mesmoPipeline = Especializacao.encadear(construtores, operacoes, terminal);
+
+        final Sumidouro<Object> outroPipeline = Especializacao.encadear(Especializacao.resolver(filtros), operacoes, terminal);
+
+        for (int i = 0; i < 5; i++) elo.aceitar(i);
+
+        Assertions.assertEquals(Arrays.asList(0, 4, 8), recebidos);
+        Assertions.assertTrue(elo.getClass().getName().contains("/"));
+        Assertions.assertSame(elo.getClass(), mesmoPipeline.getClass());
+        Assertions.assertNotSame(elo.getClass(), outroPipeline.getClass());
+
+    }
+
+}
@@ -4,11 +4,21 @@ import br.projeto.blastin.joptional.JOptional;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 class JStreamTest {
@@ -430,4 +440,738 @@ class JStreamTest {
 
     }
 
+    @Test
+    void operacoesIntermediariasSaoPreguicosas() {
+
+        final AtomicInteger avaliacoes = new AtomicInteger();
+
+        final JStream<Integer> jStream =
+                JStreams
+                        .de(1, 2, 3)
+                        .mapeamento(integer -> avaliacoes.incrementAndGet())
+                        .filtro(integer -> avaliacoes.incrementAndGet() > 0);
+
+        Assertions.assertEquals(0, avaliacoes.get());
+
+        jStream.reducao(Integer::sum);
+
+        Assertions.assertEquals(6, avaliacoes.get());
+
+    }
+
+    @Test
+    void estagiosFundidosEmUmaPassagemPorElemento() {
+
+        final StringBuilder ordem = new StringBuilder();
+
+        JStreams
+                .de("a", "b")
+                .mapeamento(s -> {
+                    ordem.append("m").append(s);
+                    return s;
+                })
+                .filtro(s -> {
+                    ordem.append("f").append(s);
+                    return true;
+                })
+                .paraColecao(Collectors.toList());
+
+        Assertions.assertEquals("mafambfb", ordem.toString());
+
+    }
+
+    @Test
+    void primeiroValorInterrompePercurso() {
+
+        final AtomicInteger avaliacoes = new AtomicInteger();
+
+        final int primeiro =
+                JStreams
+                        .de(1, 2, 3, 4, 5)
+                        .mapeamento(integer -> {
+                            avaliacoes.incrementAndGet();
+                            return integer * 10;
+                        })
+                        .primeiroValor()
+                        .obter();
+
+        Assertions.assertEquals(10, primeiro);
+        Assertions.assertEquals(1, avaliacoes.get());
+
+    }
+
+    @Test
+    void peloMenosUmCombinaInterrompeNoPrimeiroAcerto() {
+
+        final AtomicInteger avaliacoes = new AtomicInteger();
+
+        Assertions
+                .assertTrue(
+                        JStreams
+                                .de(1, 2, 3, 4, 5)
+                                .peloMenosUmCombina(integer -> avaliacoes.incrementAndGet() > 0 && integer == 2));
+
+        Assertions.assertEquals(2, avaliacoes.get());
+
+    }
+
+    @Test
+    void todosCombinamInterrompeNaPrimeiraFalha() {
+
+        final AtomicInteger avaliacoes = new AtomicInteger();
+
+        Assertions
+                .assertFalse(
+                        JStreams
+                                .de(1, 2, 3, 4, 5)
+                                .todosCombinam(integer -> avaliacoes.incrementAndGet() > 0 && integer < 3));
+
+        Assertions.assertEquals(3, avaliacoes.get());
+
+    }
+
+    @Test
+    void limiteInterrompeEstagiosAnteriores() {
+
+        final AtomicInteger avaliacoes = new AtomicInteger();
+
+        final List<Integer> limitados =
+                JStreams
+                        .de(1, 2, 3, 4, 5, 6)
+                        .filtro(integer -> avaliacoes.incrementAndGet() > 0 && integer % 2 == 0)
+                        .limite(2)
+                        .paraColecao(Collectors.toList());
+
+        Assertions.assertEquals(List.of(2, 4), limitados);
+        Assertions.assertEquals(4, avaliacoes.get());
+
+    }
+
+    @Test
+    void limiteMaiorQueStream() {
+
+        Assertions
+                .assertEquals(
+                        List.of(1, 2),
+                        JStreams.de(1, 2).limite(Long.MAX_VALUE).paraColecao(Collectors.toList()));
+
+    }
+
+    @Test
+    void limiteNegativo() {
+        Assertions
+                .assertThrows(IllegalArgumentException.class, () -> JStreams.de(1, 2).limite(-1));
+    }
+
+    @Test
+    void pularElementos() {
+
+        Assertions
+                .assertEquals(
+                        List.of("3", "4"),
+                        JStreams
+                                .de(1, 2, 3, 4)
+                                .mapeamento(String::valueOf)
+                                .pular(2)
+                                .paraColecao(Collectors.toList()));
+
+        Assertions.assertTrue(JStreams.de(1, 2).pular(3).vazio());
+
+    }
+
+    @Test
+    void tomarEnquanto() {
+
+        final AtomicInteger avaliacoes = new AtomicInteger();
+
+        final List<Integer> tomados =
+                JStreams
+                        .de(1, 2, 3, 1, 2)
+                        .tomarEnquanto(integer -> avaliacoes.incrementAndGet() > 0 && integer < 3)
+                        .paraColecao(Collectors.toList());
+
+        Assertions.assertEquals(List.of(1, 2), tomados);
+        Assertions.assertEquals(3, avaliacoes.get());
+
+    }
+
+    @Test
+    void descartarEnquanto() {
+
+        Assertions
+                .assertEquals(
+                        List.of(3, 1, 2),
+                        JStreams
+                                .de(1, 2, 3, 1, 2)
+                                .descartarEnquanto(integer -> integer < 3)
+                                .paraColecao(Collectors.toList()));
+
+    }
+
+    @Test
+    void paraleloPreservaOrdemDeEncontro() {
+
+        final Integer[] valores = numeros(100_000);
+
+        final List<String> paralelo =
+                JStreams
+                        .de(valores)
+                        .paralelo(ForkJoinPool.commonPool(), 1_000)
+                        .filtro(integer -> integer % 3 == 0)
+                        .mapeamento(String::valueOf)
+                        .paraColecao(Collectors.toList());
+
+        final List<String> sequencial =
+                JStreams
+                        .de(valores)
+                        .filtro(integer -> integer % 3 == 0)
+                        .mapeamento(String::valueOf)
+                        .paraColecao(Collectors.toList());
+
+        Assertions.assertEquals(sequencial, paralelo);
+
+    }
+
+    @Test
+    void reducaoParalela() {
+
+        final long soma =
+                JStreams
+                        .de(numeros(100_000))
+                        .paralelo(ForkJoinPool.commonPool(), 1_000)
+                        .mapeamento(Integer::longValue)
+                        .reducao(Long::sum)
+                        .obter();
+
+        Assertions.assertEquals(4_999_950_000L, soma);
+
+    }
+
+    @Test
+    void paraleloUsaPoolInformado() {
+
+        final ForkJoinPool pool = new ForkJoinPool(2);
+
+        try {
+
+            final Set<String> threads =
+                    JStreams
+                            .de(numeros(10_000))
+                            .paralelo(pool, 100)
+                            .mapeamento(integer -> Thread.currentThread().getName())
+                            .paraColecao(Collectors.toSet());
+
+            Assertions.assertTrue(threads.stream().allMatch(nome -> nome.startsWith("ForkJoinPool-")));
+
+        } finally {
+            pool.shutdown();
+        }
+
+    }
+
+    @Test
+    void paraleloAbaixoDoLimiarExecutaNaThreadChamadora() {
+
+        final Thread chamadora = Thread.currentThread();
+
+        Assertions
+                .assertTrue(
+                        JStreams
+                                .de(1, 2, 3)
+                                .paralelo()
+                                .todosCombinam(integer -> Thread.currentThread() == chamadora));
+
+    }
+
+    @Test
+    void combinacoesParalelas() {
+
+        final JStream<Integer> jStream = JStreams.de(numeros(50_000)).paralelo(ForkJoinPool.commonPool(), 500);
+
+        Assertions.assertTrue(jStream.peloMenosUmCombina(integer -> integer == 49_999));
+        Assertions.assertFalse(jStream.peloMenosUmCombina(integer -> integer < 0));
+        Assertions.assertTrue(jStream.todosCombinam(integer -> integer >= 0));
+        Assertions.assertFalse(jStream.todosCombinam(integer -> integer != 25_000));
+        Assertions.assertEquals(0, jStream.primeiroValor().obter());
+        Assertions.assertTrue(jStream.filtro(integer -> integer > 40_000).presente());
+
+    }
+
+    @Test
+    void limiarSequencialInvalido() {
+        Assertions
+                .assertThrows(IllegalArgumentException.class, () -> JStreams.de(1).paralelo(ForkJoinPool.commonPool(), 0));
+    }
+
+    @Test
+    void ordenadoEhEstavel() {
+
+        final List<String> valores =
+                JStreams
+                        .de("bb", "a", "cc", "b", "aa", "c")
+                        .ordenado(Comparator.comparingInt(String::length))
+                        .paraColecao(Collectors.toList());
+
+        Assertions.assertEquals(Arrays.asList("a", "b", "c", "bb", "cc", "aa"), valores);
+
+    }
+
+    @Test
+    void maioresEMenoresSemOrdenacaoCompleta() {
+
+        final Integer[] embaralhados = numeros(10_000);
+
+        Collections.shuffle(Arrays.asList(embaralhados), new Random(17));
+
+        Assertions.assertEquals(Arrays.asList(9_999, 9_998, 9_997),
+                JStreams.de(embaralhados).maiores(3, Comparator.naturalOrder()).paraColecao(Collectors.toList()));
+
+        Assertions.assertEquals(Arrays.asList(0, 1, 2, 3),
+                JStreams.de(embaralhados).menores(4, Comparator.naturalOrder()).paraColecao(Collectors.toList()));
+
+        Assertions.assertEquals(Arrays.asList("c", "cc", "b"),
+                JStreams.de("a", "c", "b", "cc").maiores(3, Comparator.comparing((String s) -> s.charAt(0))).paraColecao(Collectors.toList()));
+
+        Assertions.assertTrue(JStreams.de(embaralhados).ordenado(Comparator.naturalOrder()).limite(0).vazio());
+
+        Assertions.assertEquals(5, JStreams.de(3, 1, 2, 5, 4).ordenado(Comparator.naturalOrder()).limite(10).paraColecao(JColetores.contagem()));
+
+    }
+
+    @Test
+    void ordenadoParalelo() {
+
+        final Integer[] embaralhados = numeros(100_000);
+
+        Collections.shuffle(Arrays.asList(embaralhados), new Random(17));
+
+        Assertions.assertEquals(Arrays.asList(numeros(100_000)),
+                JStreams.de(embaralhados).paralelo().ordenado(Comparator.naturalOrder()).paraColecao(Collectors.toList()));
+
+        Assertions.assertEquals(Arrays.asList(99_999, 99_998),
+                JStreams.de(embaralhados).paralelo().maiores(2, Comparator.naturalOrder()).paraColecao(Collectors.toList()));
+
+    }
+
+    @Test
+    void janelaDeslizanteSobreArranjoEFonteGenerica() {
+
+        final List<List<Integer>> esperado = Arrays.asList(
+                Arrays.asList(0, 1, 2), Arrays.asList(2, 3, 4), Arrays.asList(4, 5, 6));
+
+        Assertions.assertEquals(esperado, JStreams.de(numeros(8)).janelaDeslizante(3, 2).paraColecao(Collectors.toList()));
+
+        Assertions.assertEquals(esperado,
+                JStreams.iterar(0, integer -> integer + 1).limite(8).janelaDeslizante(3, 2).paraColecao(Collectors.toList()));
+
+        Assertions.assertEquals(Arrays.asList(Arrays.asList(0, 1), Arrays.asList(5, 6)),
+                JStreams.iterar(0, integer -> integer + 1).limite(8).janelaDeslizante(2, 5).paraColecao(Collectors.toList()));
+
+        Assertions.assertEquals(Arrays.asList(Arrays.asList(0, 1, 2), Arrays.asList(3, 4, 5)),
+                JStreams.de(numeros(8)).janelaFixa(3).paraColecao(Collectors.toList()));
+
+        Assertions.assertTrue(JStreams.de(1, 2).janelaFixa(3).vazio());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> JStreams.de(1, 2).janelaDeslizante(2, 0));
+
+    }
+
+    @Test
+    void janelasRetidasSobrevivemATrocaDeBuffer() {
+
+        final List<List<Integer>> janelas =
+                JStreams
+                        .iterar(0, integer -> integer + 1)
+                        .limite(10_000)
+                        .janelaDeslizante(700, 3)
+                        .paraColecao(Collectors.toList());
+
+        Assertions.assertEquals(3_101, janelas.size());
+
+        for (int j = 0; j < janelas.size(); j++) {
+            Assertions.assertEquals(700, janelas.get(j).size());
+            Assertions.assertEquals(j * 3, janelas.get(j).get(0));
+            Assertions.assertEquals(j * 3 + 699, janelas.get(j).get(699));
+        }
+
+        Assertions.assertEquals(3_101, JStreams.de(numeros(10_000)).paralelo().janelaDeslizante(700, 3).paraColecao(JColetores.contagem()));
+
+    }
+
+    @Test
+    void mapeamentoPlano() {
+
+        final List<Integer> valores =
+                JStreams
+                        .de(3, 0, 2)
+                        .mapeamentoPlano(quantidade -> quantidade == 0 ? null : JStreams.de(numeros(quantidade)))
+                        .paraColecao(Collectors.toList());
+
+        Assertions.assertEquals(Arrays.asList(0, 1, 2, 0, 1), valores);
+
+        final AtomicInteger geradas = new AtomicInteger();
+
+        final long quantidade =
+                JStreams
+                        .iterar(0, integer -> integer + 1)
+                        .mapeamentoPlano(integer -> {
+                            geradas.incrementAndGet();
+                            return JStreams.iterar(integer, valor -> valor + 1).limite(10);
+                        })
+                        .limite(25)
+                        .paraColecao(JColetores.contagem());
+
+        Assertions.assertEquals(25, quantidade);
+        Assertions.assertEquals(3, geradas.get());
+
+        Assertions.assertEquals(100_000L * 3,
+                JStreams.de(numeros(100_000)).paralelo().mapeamentoPlano(integer -> JStreams.de(integer, integer, integer)).paraColecao(JColetores.contagem()));
+
+    }
+
+    @Test
+    void concatenar() {
+
+        final JStream<Integer> concatenada = JStreams.concatenar(JStreams.de(1, 2), JStreams.nula(), JStreams.de(3).mapeamento(integer -> integer * 10), JStreams.de(4, 5));
+
+        Assertions.assertEquals(Arrays.asList(1, 2, 30, 4, 5), concatenada.paraColecao(Collectors.toList()));
+
+        Assertions.assertEquals(Arrays.asList(1, 2, 30), concatenada.limite(3).paraColecao(JColetores.paraLista()));
+
+        Assertions.assertTrue(JStreams.concatenar(JStreams.nula(), JStreams.nula()).vazio());
+
+        final JStream<Integer> arranjos = JStreams.concatenar(JStreams.de(numeros(50_000)), JStreams.de(numeros(70_000)));
+
+        Assertions.assertEquals(120_000, arranjos.paralelo().paraColecao(JColetores.contagem()));
+
+        Assertions.assertEquals(
+                (long) 50_000 * 49_999 / 2 + (long) 70_000 * 69_999 / 2,
+                arranjos.paralelo().mapeamento(Integer::longValue).reducao(Long::sum).obter());
+
+    }
+
+    @Test
+    void caracteristicasEvitamTrabalhoRedundante() {
+
+        final JStream<Integer> distintos = JStreams.de(3, 1, 3, 2).distintos().filtro(integer -> integer > 1);
+
+        Assertions.assertSame(distintos, distintos.distintos());
+
+        final JStream<Integer> ordenados = JStreams.de(3, 1, 2).ordenado(Comparator.naturalOrder()).limite(2);
+
+        Assertions.assertSame(ordenados, ordenados.ordenado(Comparator.naturalOrder()));
+        Assertions.assertNotSame(ordenados, ordenados.ordenado(Comparator.reverseOrder()));
+        Assertions.assertEquals(Arrays.asList(2, 1), ordenados.ordenado(Comparator.reverseOrder()).paraColecao(Collectors.toList()));
+
+        final JStream<Integer> mapeados = ordenados.mapeamento(integer -> -integer);
+
+        Assertions.assertNotSame(mapeados, mapeados.ordenado(Comparator.naturalOrder()));
+        Assertions.assertNotSame(mapeados, mapeados.distintos());
+
+        final List<JRelatorio> relatorios = new ArrayList<>();
+
+        JStreams
+                .concatenar(JStreams.de(1, 2, 3), JStreams.de(4, 5))
+                .pular(1)
+                .limite(3)
+                .observado(relatorios::add)
+                .paraColecao(JColetores.contagem());
+
+        Assertions.assertEquals(3, relatorios.get(0).tamanhoPrevisto());
+
+    }
+
+    @Test
+    void coletoresSoRecebemTamanhoExato() {
+
+        final List<Long> tamanhos = new ArrayList<>();
+
+        final JColetor<Integer, List<Integer>, List<Integer>> coletor = new JColetor<>() {
+
+            @Override
+            public List<Integer> novo(final long tamanho) {
+                tamanhos.add(tamanho);
+                return new ArrayList<>();
+            }
+
+            @Override
+            public void acumular(final List<Integer> recipiente, final Integer integer) {
+                recipiente.add(integer);
+            }
+
+            @Override
+            public List<Integer> combinar(final List<Integer> esquerda, final List<Integer> direita) {
+                esquerda.addAll(direita);
+                return esquerda;
+            }
+
+            @Override
+            public List<Integer> finalizar(final List<Integer> recipiente) {
+                return recipiente;
+            }
+
+        };
+
+        final JStream<Integer> base = JStreams.de(numeros(1_000));
+
+        Assertions.assertEquals(1_000, base.paraColecao(coletor).size());
+        Assertions.assertEquals(334, base.filtro(i -> i % 3 == 0).paraColecao(coletor).size());
+        Assertions.assertEquals(10, base.tomarEnquanto(i -> i < 10).paraColecao(coletor).size());
+        Assertions.assertEquals(990, base.descartarEnquanto(i -> i < 10).paraColecao(coletor).size());
+
+        Assertions.assertEquals(List.of(1_000L, -1L, -1L, -1L), tamanhos);
+
+        Assertions.assertEquals(334, base.filtro(i -> i % 3 == 0).paraColecao(JColetores.paraLista()).size());
+
+    }
+
+    @Test
+    void deListaLePorIndice() {
+
+        final List<Integer> lista = new ArrayList<>(Arrays.asList(numeros(200_000)));
+
+        Assertions.assertEquals(200_000, JStreams.deLista(lista).paralelo().paraColecao(JColetores.contagem()));
+
+        Assertions.assertEquals(
+                (long) 200_000 * 199_999 / 2,
+                JStreams.deLista(lista).paralelo().mapeamento(Integer::longValue).reducao(Long::sum).obter());
+
+        Assertions.assertEquals(Arrays.asList(10, 11, 12), JStreams.deLista(lista).pular(10).limite(3).paraColecao(Collectors.toList()));
+
+        Assertions.assertEquals(Arrays.asList(1, 2, 3), JStreams.deLista(new LinkedList<>(Arrays.asList(1, 2, 3))).paraColecao(Collectors.toList()));
+
+        Assertions.assertTrue(JStreams.deLista(new ArrayList<>()).vazio());
+
+    }
+
+    @Test
+    void deListaDetectaMudancaDeTamanho() {
+
+        final List<Integer> lista = new ArrayList<>(Arrays.asList(1, 2, 3));
+
+        final JStream<Integer> stream = JStreams.deLista(lista);
+
+        lista.add(4);
+
+        Assertions.assertThrows(ConcurrentModificationException.class, () -> stream.paraColecao(JColetores.contagem()));
+
+    }
+
+    @Test
+    void deTrechoDeArranjo() {
+
+        final Integer[] numeros = numeros(100_000);
+
+        Assertions.assertEquals(Arrays.asList(5, 6, 7), JStreams.de(numeros, 5, 8).paraColecao(JColetores.paraLista()));
+
+        Assertions.assertEquals(Arrays.asList(7), JStreams.de(numeros, 5, 8).pular(2).paraColecao(Collectors.toList()));
+
+        Assertions.assertEquals(90_000, JStreams.de(numeros, 10_000, 100_000).paralelo().paraColecao(JColetores.contagem()));
+
+        Assertions.assertTrue(JStreams.de(numeros, 3, 3).vazio());
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> JStreams.de(numeros, 5, 100_001));
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> JStreams.de(numeros, 6, 5));
+
+    }
+
+    private static Integer[] numeros(final int quantidade) {
+
+        final Integer[] numeros = new Integer[quantidade];
+
+        for (int i = 0; i < quantidade; i++) numeros[i] = i;
+
+        return numeros;
+
+    }
+
+    @Test
+    void deIteradorPuxaSomenteONecessario() {
+
+        final AtomicInteger puxados = new AtomicInteger();
+
+        final Iterator<Integer> iterador = new Iterator<>() {
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                return puxados.incrementAndGet();
+            }
+
+        };
+
+        final List<Integer> valores =
+                JStreams
+                        .deIterador(iterador)
+                        .filtro(integer -> integer % 2 == 0)
+                        .limite(3)
+                        .paraColecao(Collectors.toList());
+
+        Assertions.assertEquals(List.of(2, 4, 6), valores);
+        Assertions.assertEquals(6, puxados.get());
+
+    }
+
+    @Test
+    void deIteravelPercorreNovamente() {
+
+        final JStream<String> jStream = JStreams.deIteravel(List.of("a", "b", "c"));
+
+        Assertions.assertEquals("abc", jStream.reducao(String::concat).obter());
+        Assertions.assertEquals("abc", jStream.reducao(String::concat).obter());
+
+    }
+
+    @Test
+    void deSpliterator() {
+
+        final long contagem =
+                JStreams
+                        .deSpliterator(List.of(1, 2, 3, 4).spliterator())
+                        .filtro(integer -> integer > 2)
+                        .paraColecao(JColetores.contagem());
+
+        Assertions.assertEquals(2L, contagem);
+
+    }
+
+    @Test
+    void gerarComLimite() {
+
+        final AtomicInteger contador = new AtomicInteger();
+
+        final List<Integer> valores =
+                JStreams
+                        .gerar(contador::incrementAndGet)
+                        .limite(4)
+                        .paraColecao(Collectors.toList());
+
+        Assertions.assertEquals(List.of(1, 2, 3, 4), valores);
+
+    }
+
+    @Test
+    void iterarAplicaFuncaoSomenteQuandoNecessario() {
+
+        final AtomicInteger aplicacoes = new AtomicInteger();
+
+        final Integer potencia =
+                JStreams
+                        .iterar(1, integer -> {
+                            aplicacoes.incrementAndGet();
+                            return integer * 2;
+                        })
+                        .tomarEnquanto(integer -> integer < 1000)
+                        .reducao((a, b) -> b)
+                        .obter();
+
+        Assertions.assertEquals(512, potencia);
+        Assertions.assertEquals(10, aplicacoes.get());
+
+        Assertions.assertEquals(1, JStreams.iterar(1, integer -> integer + 1).primeiroValor().obter());
+
+    }
+
+    @Test
+    void distintosPreservaOrdemDeEncontro() {
+
+        final List<String> valores =
+                JStreams
+                        .de("c", "a", "c", null, "b", "a", null)
+                        .distintos()
+                        .paraColecao(Collectors.toList());
+
+        Assertions.assertEquals(Arrays.asList("c", "a", null, "b"), valores);
+
+    }
+
+    @Test
+    void distintosCresceAlemDoTamanhoInicial() {
+
+        final long quantidade =
+                JStreams
+                        .iterar(0, integer -> integer + 1)
+                        .mapeamento(integer -> integer % 5_000)
+                        .limite(20_000)
+                        .distintos()
+                        .paraColecao(JColetores.contagem());
+
+        Assertions.assertEquals(5_000, quantidade);
+
+        Assertions.assertEquals(100_000, JStreams.de(numeros(100_000)).paralelo().distintos().paraColecao(JColetores.contagem()));
+
+    }
+
+    @Test
+    void emLotesSobreArranjo() {
+
+        final List<List<Integer>> lotes =
+                JStreams
+                        .de(1, 2, 3, 4, 5, 6, 7)
+                        .emLotes(3)
+                        .paraColecao(Collectors.toList());
+
+        Assertions.assertEquals(List.of(List.of(1, 2, 3), List.of(4, 5, 6), List.of(7)), lotes);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> lotes.get(0).set(0, 9));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> JStreams.de(1).emLotes(0));
+
+    }
+
+    @Test
+    void emLotesSobreFonteSemArranjo() {
+
+        final List<List<Integer>> lotes =
+                JStreams
+                        .iterar(1, integer -> integer + 1)
+                        .filtro(integer -> integer % 2 == 0)
+                        .limite(5)
+                        .emLotes(2)
+                        .paraColecao(Collectors.toList());
+
+        Assertions.assertEquals(List.of(List.of(2, 4), List.of(6, 8), List.of(10)), lotes);
+
+        Assertions.assertEquals(List.of(1, 2), JStreams.iterar(1, integer -> integer + 1).emLotes(2).primeiroValor().obter());
+
+    }
+
+    @Test
+    void mapeamentoEmLoteChamaFuncaoPorLote() {
+
+        final AtomicInteger chamadas = new AtomicInteger();
+
+        final List<String> valores =
+                JStreams
+                        .de(numeros(1_000))
+                        .mapeamentoEmLote(100, lote -> {
+                            chamadas.incrementAndGet();
+                            return lote.stream().map(String::valueOf).collect(Collectors.toList());
+                        })
+                        .paraColecao(Collectors.toList());
+
+        Assertions.assertEquals(10, chamadas.get());
+        Assertions.assertEquals(1_000, valores.size());
+        Assertions.assertEquals("999", valores.get(999));
+
+    }
+
+    @Test
+    void mapeamentoEmLoteParalelo() {
+
+        final long soma =
+                JStreams
+                        .de(numeros(100_000))
+                        .paralelo()
+                        .mapeamentoEmLote(lote -> lote.stream().map(Integer::longValue).collect(Collectors.toList()))
+                        .reducao(Long::sum)
+                        .obter();
+
+        Assertions.assertEquals(100_000L * 99_999 / 2, soma);
+
+    }
+
 }
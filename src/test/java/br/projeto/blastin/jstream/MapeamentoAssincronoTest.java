@@ -0,0 +1,136 @@
+package br.projeto.blastin.jstream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class MapeamentoAssincronoTest {
+
+    private static Integer[] numeros(final int quantidade) {
+        return IntStream.range(0, quantidade).boxed().toArray(Integer[]::new);
+    }
+
+    private static void dormir(final long milissegundos) {
+        try {
+            Thread.sleep(milissegundos);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    void preservaOrdemComLatenciaSobreposta() {
+
+        final long inicio = System.nanoTime();
+
+        final List<Integer> valores =
+                JStreams
+                        .de(numeros(200))
+                        .mapeamentoAssincrono(i -> {
+                            dormir(50 - i % 50);
+                            return i * 2;
+                        }, 200)
+                        .paraColecao(Collectors.toList());
+
+        final long milissegundos = (System.nanoTime() - inicio) / 1_000_000;
+
+        Assertions.assertEquals(IntStream.range(0, 200).map(i -> i * 2).boxed().collect(Collectors.toList()), valores);
+        Assertions.assertTrue(milissegundos < 5_000, "levou " + milissegundos + " ms");
+
+    }
+
+    @Test
+    void respeitaConcorrenciaMaxima() {
+
+        final AtomicInteger emAndamento = new AtomicInteger();
+        final AtomicInteger pico = new AtomicInteger();
+
+        final long quantidade =
+                JStreams
+                        .de(numeros(100))
+                        .mapeamentoAssincrono(i -> {
+                            pico.accumulateAndGet(emAndamento.incrementAndGet(), Math::max);
+                            dormir(2);
+                            emAndamento.decrementAndGet();
+                            return i;
+                        }, 4)
+                        .paraColecao(JColetores.contagem());
+
+        Assertions.assertEquals(100, quantidade);
+        Assertions.assertTrue(pico.get() <= 4, "pico de " + pico.get());
+
+    }
+
+    @Test
+    void primeiraFalhaCancelaRestantes() {
+
+        final AtomicInteger iniciadas = new AtomicInteger();
+
+        final IllegalArgumentException falha = Assertions.assertThrows(IllegalArgumentException.class, () ->
+                JStreams
+                        .de(numeros(1_000))
+                        .mapeamentoAssincrono(i -> {
+                            iniciadas.incrementAndGet();
+                            if (i == 5) throw new IllegalArgumentException("falhou " + i);
+                            dormir(20);
+                            return i;
+                        }, 10)
+                        .paraColecao(Collectors.toList())
+        );
+
+        Assertions.assertEquals("falhou 5", falha.getMessage());
+        Assertions.assertTrue(iniciadas.get() < 1_000, "iniciadas " + iniciadas.get());
+
+    }
+
+    @Test
+    void curtoCircuitoNaoSubmeteODemais() {
+
+        final AtomicInteger iniciadas = new AtomicInteger();
+
+        final Integer primeiro =
+                JStreams
+                        .iterar(1, i -> i + 1)
+                        .mapeamentoAssincrono(i -> {
+                            iniciadas.incrementAndGet();
+                            return i > 3 ? i : null;
+                        }, 2)
+                        .primeiroValor()
+                        .obter();
+
+        Assertions.assertEquals(4, primeiro);
+        Assertions.assertTrue(iniciadas.get() <= 6, "iniciadas " + iniciadas.get());
+
+    }
+
+    @Test
+    void executorInformado() throws InterruptedException {
+
+        final ExecutorService executor = Executors.newFixedThreadPool(3, tarefa -> new Thread(tarefa, "enriquecimento"));
+
+        try {
+
+            final List<String> threads =
+                    JStreams
+                            .de("a", "b", "c")
+                            .mapeamentoAssincrono(s -> Thread.currentThread().getName(), 3, executor)
+                            .paraColecao(Collectors.toList());
+
+            Assertions.assertEquals(List.of("enriquecimento", "enriquecimento", "enriquecimento"), threads);
+
+            Assertions.assertThrows(IllegalArgumentException.class, () -> JStreams.de(1).mapeamentoAssincrono(i -> i, 0, executor));
+
+        } finally {
+            executor.shutdown();
+        }
+
+    }
+
+}
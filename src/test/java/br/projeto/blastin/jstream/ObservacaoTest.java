@@ -0,0 +1,204 @@
+package br.projeto.blastin.jstream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class ObservacaoTest {
+
+    @Test
+    void contagemPorEstagio() {
+
+        final List<JRelatorio> relatorios = new ArrayList<>();
+
+        final List<Integer> pares = JStreams
+                .de(1, 2, 3, 4, 5, 6, 7, 8, 9, 10)
+                .observado(relatorios::add)
+                .mapeamento(i -> i * 10)
+                .filtro(i -> i % 20 == 0)
+                .limite(3)
+                .paraColecao(JColetores.paraLista());
+
+        Assertions.assertEquals(List.of(20, 40, 60), pares);
+
+        Assertions.assertEquals(1, relatorios.size());
+
+        final JRelatorio relatorio = relatorios.get(0);
+
+        Assertions.assertEquals("paraColecao", relatorio.operacao());
+        Assertions.assertEquals(-1, relatorio.tamanhoPrevisto());
+
+        final List<JEstagio> estagios = relatorio.estagios();
+
+        Assertions.assertEquals(
+                List.of("fonte", "mapeamento", "filtro", "limite"),
+                estagios.stream().map(JEstagio::nome).collect(Collectors.toList())
+        );
+
+        Assertions.assertEquals(6, estagios.get(0).saidas());
+        Assertions.assertEquals(6, estagios.get(1).entradas());
+        Assertions.assertEquals(6, estagios.get(1).saidas());
+        Assertions.assertEquals(6, estagios.get(2).entradas());
+        Assertions.assertEquals(3, estagios.get(2).saidas());
+        Assertions.assertEquals(0.5, estagios.get(2).seletividade());
+        Assertions.assertEquals(3, estagios.get(3).saidas());
+        Assertions.assertEquals(0, estagios.get(3).nanosEmFuncoes());
+
+    }
+
+    @Test
+    void cadaRelatorioCobreSeuPercurso() {
+
+        final List<JRelatorio> relatorios = new ArrayList<>();
+
+        final JStream<Integer> stream = JStreams
+                .de(1, 2, 3, 4)
+                .observado(relatorios::add)
+                .filtro(i -> i > 1);
+
+        stream.reducao(Integer::sum);
+        stream.reducao(Integer::sum);
+
+        Assertions.assertEquals(2, relatorios.size());
+
+        for (final JRelatorio relatorio : relatorios) {
+            Assertions.assertEquals(4, relatorio.estagios().get(1).entradas());
+            Assertions.assertEquals(3, relatorio.estagios().get(1).saidas());
+        }
+
+    }
+
+    @Test
+    void percursosSobrepostosNaoMisturamContagens() {
+
+        final List<JRelatorio> relatorios = new ArrayList<>();
+
+        final JStream<Integer> base = JStreams
+                .de(4, 3, 2, 1)
+                .observado(relatorios::add);
+
+        final List<Integer> valores = base
+                .ordenado(Comparator.naturalOrder())
+                .mapeamento(i -> {
+                    if (i == 1) base.reducao(Integer::sum);
+                    return i;
+                })
+                .paraColecao(JColetores.paraLista());
+
+        Assertions.assertEquals(List.of(1, 2, 3, 4), valores);
+
+        Assertions.assertEquals(2, relatorios.size());
+
+        final List<JEstagio> interno = relatorios.get(0).estagios();
+        final List<JEstagio> externo = relatorios.get(1).estagios();
+
+        Assertions.assertEquals(1, interno.size());
+        Assertions.assertEquals(4, interno.get(0).saidas());
+
+        Assertions.assertEquals(3, externo.size());
+        Assertions.assertEquals(4, externo.get(0).saidas());
+        Assertions.assertEquals(4, externo.get(1).entradas());
+        Assertions.assertEquals(4, externo.get(2).saidas());
+
+    }
+
+    @Test
+    void percursoInterrompidoNaoDeixaResiduos() {
+
+        final List<JRelatorio> relatorios = new ArrayList<>();
+
+        final boolean[] falhar = {true};
+
+        final JStream<Integer> stream = JStreams
+                .de(1, 2, 3, 4)
+                .observado(relatorios::add)
+                .mapeamento(i -> {
+                    if (falhar[0] && i == 3) throw new IllegalStateException();
+                    return i;
+                });
+
+        Assertions.assertThrows(IllegalStateException.class, () -> stream.reducao(Integer::sum));
+
+        falhar[0] = false;
+
+        Assertions.assertEquals(10, stream.reducao(Integer::sum).obter());
+
+        Assertions.assertEquals(1, relatorios.size());
+        Assertions.assertEquals(4, relatorios.get(0).estagios().get(0).saidas());
+        Assertions.assertEquals(4, relatorios.get(0).estagios().get(1).saidas());
+
+    }
+
+    @Test
+    void paraleloSomaAsFatias() {
+
+        final List<JRelatorio> relatorios = new ArrayList<>();
+
+        final Integer[] numeros = new Integer[100_000];
+
+        for (int i = 0; i < numeros.length; i++) numeros[i] = i;
+
+        final long quantidade = JStreams
+                .de(numeros)
+                .observado(relatorios::add)
+                .paralelo()
+                .filtro(i -> i % 4 == 0)
+                .paraColecao(JColetores.contagem());
+
+        Assertions.assertEquals(25_000, quantidade);
+
+        final JEstagio filtro = relatorios.get(0).estagios().get(1);
+
+        Assertions.assertEquals(100_000, filtro.entradas());
+        Assertions.assertEquals(25_000, filtro.saidas());
+
+    }
+
+    @Test
+    void eventosDoFlightRecorder() throws Exception {
+
+        final Path arquivo = Files.createTempFile("jstream", ".jfr");
+
+        try (final Recording gravacao = new Recording()) {
+
+            gravacao.enable("br.projeto.blastin.jstream.Terminal");
+            gravacao.enable("br.projeto.blastin.jstream.Estagio");
+            gravacao.start();
+
+            JStreams
+                    .de("a", "bb", "ccc")
+                    .observado()
+                    .mapeamento(String::length)
+                    .primeiroValor();
+
+            gravacao.stop();
+            gravacao.dump(arquivo);
+
+            final List<RecordedEvent> eventos = RecordingFile.readAllEvents(arquivo);
+
+            Assertions.assertEquals(1, eventos.stream()
+                    .filter(e -> e.getEventType().getName().equals("br.projeto.blastin.jstream.Terminal"))
+                    .filter(e -> e.getString("operacao").equals("primeiroValor"))
+                    .count());
+
+            Assertions.assertEquals(2, eventos.stream()
+                    .filter(e -> e.getEventType().getName().equals("br.projeto.blastin.jstream.Estagio"))
+                    .count());
+
+        } finally {
+            Files.deleteIfExists(arquivo);
+        }
+
+    }
+
+}
@@ -0,0 +1,230 @@
+package br.projeto.blastin.jstream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class PublicadorTest {
+
+    /**
+     * Publica 0..quantidade-1 na própria thread de {@code request}, registrando cada pedido de demanda.
+     */
+    private static final class Contador implements Flow.Publisher<Integer> {
+
+        private final int quantidade;
+
+        private final List<Long> pedidos = new ArrayList<>();
+
+        private final AtomicBoolean cancelado = new AtomicBoolean();
+
+        private Contador(final int quantidade) {
+            this.quantidade = quantidade;
+        }
+
+        @Override
+        public void subscribe(final Flow.Subscriber<? super Integer> assinante) {
+
+            assinante.onSubscribe(new Flow.Subscription() {
+
+                private int proximo;
+
+                private long demanda;
+
+                private boolean emitindo;
+
+                @Override
+                public void request(final long n) {
+
+                    pedidos.add(n);
+
+                    demanda += n;
+
+                    if (emitindo) return;
+
+                    emitindo = true;
+
+                    while (demanda > 0 && proximo < quantidade && !cancelado.get()) {
+                        demanda--;
+                        assinante.onNext(proximo++);
+                    }
+
+                    emitindo = false;
+
+                    if (proximo == quantidade && !cancelado.get()) assinante.onComplete();
+
+                }
+
+                @Override
+                public void cancel() {
+                    cancelado.set(true);
+                }
+
+            });
+
+        }
+
+    }
+
+    @Test
+    void demandaPedidaEmLotes() {
+
+        final Contador contador = new Contador(1_000);
+
+        final long soma =
+                JStreams
+                        .dePublicador(contador, 64)
+                        .filtro(i -> i % 2 == 0)
+                        .mapeamento(Integer::longValue)
+                        .reducao(Long::sum)
+                        .obter();
+
+        Assertions.assertEquals(249_500, soma);
+        Assertions.assertTrue(contador.pedidos.stream().allMatch(n -> n == 64), contador.pedidos.toString());
+        Assertions.assertFalse(contador.cancelado.get());
+
+    }
+
+    @Test
+    void curtoCircuitoCancelaAssinatura() {
+
+        final Contador contador = new Contador(Integer.MAX_VALUE);
+
+        Assertions.assertEquals(10, JStreams.dePublicador(contador).filtro(i -> i >= 10).primeiroValor().obter());
+        Assertions.assertTrue(contador.cancelado.get());
+        Assertions.assertEquals(1, contador.pedidos.size());
+
+    }
+
+    @Test
+    void erroDoPublicadorRelancado() {
+
+        final Flow.Publisher<Integer> falho = assinante -> assinante.onSubscribe(new Flow.Subscription() {
+
+            @Override
+            public void request(final long n) {
+                assinante.onNext(1);
+                assinante.onError(new IllegalStateException("fonte indisponível"));
+            }
+
+            @Override
+            public void cancel() {
+            }
+
+        });
+
+        final IllegalStateException erro = Assertions.assertThrows(IllegalStateException.class, () -> JStreams.dePublicador(falho).paraColecao(Collectors.toList()));
+
+        Assertions.assertEquals("fonte indisponível", erro.getMessage());
+
+    }
+
+    @Test
+    void publicadorRespeitaDemanda() throws InterruptedException {
+
+        final AtomicInteger produzidos = new AtomicInteger();
+
+        final Flow.Publisher<Integer> publicador =
+                JStreams
+                        .iterar(0, i -> i + 1)
+                        .mapeamento(i -> {
+                            produzidos.incrementAndGet();
+                            return i;
+                        })
+                        .limite(100)
+                        .comoPublicador();
+
+        final List<Integer> recebidos = new ArrayList<>();
+        final AtomicInteger excedentes = new AtomicInteger();
+        final CountDownLatch concluido = new CountDownLatch(1);
+
+        publicador.subscribe(new Flow.Subscriber<>() {
+
+            private Flow.Subscription assinatura;
+
+            @Override
+            public void onSubscribe(final Flow.Subscription assinatura) {
+                this.assinatura = assinatura;
+                assinatura.request(1);
+            }
+
+            @Override
+            public void onNext(final Integer item) {
+                recebidos.add(item);
+                if (produzidos.get() > recebidos.size()) excedentes.incrementAndGet();
+                assinatura.request(1);
+            }
+
+            @Override
+            public void onError(final Throwable throwable) {
+                concluido.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                concluido.countDown();
+            }
+
+        });
+
+        Assertions.assertTrue(concluido.await(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(IntStream.range(0, 100).boxed().collect(Collectors.toList()), recebidos);
+        Assertions.assertEquals(0, excedentes.get());
+
+    }
+
+    @Test
+    void idaEVolta() {
+
+        final List<String> valores =
+                JStreams
+                        .dePublicador(JStreams.de("a", "b", "c", "d").comoPublicador(), 2)
+                        .mapeamento(String::toUpperCase)
+                        .paraColecao(Collectors.toList());
+
+        Assertions.assertEquals(List.of("A", "B", "C", "D"), valores);
+
+    }
+
+    @Test
+    void mapeamentoAssincronoNaThreadDoPublicador() throws InterruptedException {
+
+        final List<Integer> valores = new ArrayList<>();
+
+        final CountDownLatch concluido = new CountDownLatch(1);
+
+        try (final SubmissionPublisher<Integer> publicador = new SubmissionPublisher<>()) {
+
+            final Thread terminal = new Thread(() -> {
+                valores.addAll(JStreams
+                        .dePublicador(publicador, 4)
+                        .mapeamentoAssincrono(i -> i * 2, 2)
+                        .paraColecao(Collectors.toList()));
+                concluido.countDown();
+            });
+
+            terminal.setDaemon(true);
+            terminal.start();
+
+            while (publicador.getNumberOfSubscribers() == 0) Thread.onSpinWait();
+
+            for (int i = 0; i < 100; i++) publicador.submit(i);
+
+        }
+
+        Assertions.assertTrue(concluido.await(10, TimeUnit.SECONDS), "percurso não concluído");
+
+        Assertions.assertEquals(IntStream.range(0, 100).map(i -> i * 2).boxed().collect(Collectors.toList()), valores);
+
+    }
+
+}